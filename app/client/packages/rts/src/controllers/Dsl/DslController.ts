@@ -1,6 +1,10 @@
 import type { Response, Request } from "express";
 import BaseController from "@controllers/BaseController";
-import { latestDSLVersion, migrateDSLToLatest } from "@services/DslService";
+import {
+  latestDSLVersion,
+  migrateDSLsToLatest,
+  migrateDSLToLatest,
+} from "@services/DslService";
 import { StatusCodes } from "http-status-codes";
 
 export default class DSLController extends BaseController {
@@ -22,6 +26,20 @@ export default class DSLController extends BaseController {
     }
   }
 
+  migrateDSLs(req: Request, res: Response) {
+    try {
+      const latestDSLs = migrateDSLsToLatest(req.body);
+      super.sendResponse(res, latestDSLs);
+    } catch (err) {
+      return super.sendError(
+        res,
+        super.serverErrorMessaage,
+        [err.message],
+        StatusCodes.INTERNAL_SERVER_ERROR,
+      );
+    }
+  }
+
   getLatestDSLVersion(req: Request, res: Response) {
     try {
       super.sendResponse(res, { version: latestDSLVersion });
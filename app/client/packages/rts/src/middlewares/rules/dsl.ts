@@ -0,0 +1,6 @@
+import { body } from "express-validator";
+
+export default class DslValidator {
+  static getMigrateBatchValidator = () =>
+    body().isArray().withMessage("A list of page DSLs is required");
+}
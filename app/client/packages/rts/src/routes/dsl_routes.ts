@@ -1,5 +1,6 @@
 import DSLController from "@controllers/Dsl/DslController";
 import { Validator } from "@middlewares/Validator";
+import DslRules from "@rules/dsl";
 import express from "express";
 
 const router = express.Router();
@@ -14,4 +15,11 @@ router.get(
 
 router.post("/migrate", validator.validateRequest, dslController.migrateDSL);
 
+router.post(
+  "/migrate/batch",
+  DslRules.getMigrateBatchValidator(),
+  validator.validateRequest,
+  dslController.migrateDSLs,
+);
+
 export default router;
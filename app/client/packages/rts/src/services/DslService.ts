@@ -5,4 +5,8 @@ export function migrateDSLToLatest(currentDsl) {
   return latestDSL;
 }
 
+export function migrateDSLsToLatest(currentDsls) {
+  return currentDsls.map((currentDsl) => migrateDSL(currentDsl));
+}
+
 export const latestDSLVersion = LATEST_DSL_VERSION;
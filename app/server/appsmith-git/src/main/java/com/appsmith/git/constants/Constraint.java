@@ -1,6 +1,10 @@
 package com.appsmith.git.constants;
 
+import java.time.Duration;
+
 public class Constraint {
     public static final int MAX_COMMIT_LOGS = 100;
     public static final int TIMEOUT_MILLIS = 60000;
+    public static final int MAX_CACHED_REPOSITORIES = 100;
+    public static final Duration CACHED_REPOSITORY_MAX_IDLE_TIME = Duration.ofMinutes(10);
 }
@@ -7,6 +7,7 @@ import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.git.operations.FileOperations;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -14,6 +15,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.WorkingTreeChanges;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +28,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,14 +43,19 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.git.constants.GitConstants.ACTION_COLLECTION_LIST;
 import static com.appsmith.external.git.constants.GitConstants.ACTION_LIST;
@@ -74,6 +81,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     private final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final WorkingTreeChanges workingTreeChanges;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -82,7 +90,19 @@ public class FileUtilsCEImpl implements FileInterface {
     private static final Pattern ALLOWED_FILE_EXTENSION_PATTERN =
             Pattern.compile("(.*?)\\.(md|MD|git|gitignore|github|yml|yaml)$");
 
-    private final Scheduler scheduler = Schedulers.boundedElastic();
+    private final Scheduler scheduler = DedicatedSchedulers.get("git");
+
+    // Files of an application are written in parallel, by a pool of threads shared by all saves on this server
+    private static final int FILE_WRITE_PARALLELISM = 8;
+
+    private enum FileWriteResult {
+        WRITTEN,
+        UNCHANGED,
+        FAILED
+    }
+
+    private final Scheduler fileWriteScheduler = Schedulers.newBoundedElastic(
+            FILE_WRITE_PARALLELISM, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "git-file-writer", 60, true);
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
@@ -90,11 +110,13 @@ public class FileUtilsCEImpl implements FileInterface {
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            WorkingTreeChanges workingTreeChanges) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.workingTreeChanges = workingTreeChanges;
     }
 
     /**
@@ -207,7 +229,15 @@ public class FileUtilsCEImpl implements FileInterface {
                 .flatMap(isSwitched -> {
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
 
-                    updateEntitiesInRepo(applicationGitReference, baseRepo);
+                    // The repo has just been reset to its last commit, so the files written or deleted from here on
+                    // are all that git status needs to look at
+                    workingTreeChanges.startRecording(baseRepo);
+                    try {
+                        updateEntitiesInRepo(applicationGitReference, baseRepo);
+                    } catch (RuntimeException e) {
+                        workingTreeChanges.discardChanges(baseRepo);
+                        throw e;
+                    }
 
                     processStopwatch.stopAndLogTimeInMillis();
                     return Mono.just(baseRepo);
@@ -219,23 +249,27 @@ public class FileUtilsCEImpl implements FileInterface {
 
         Set<String> validDatasourceFileNames = new HashSet<>();
         ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
+        // Files are only collected while walking the application here, and all written together at the end. Every
+        // write returns whether the file was actually written, or skipped as it already had the same content, and
+        // throws if the file could not be written.
+        List<Callable<Boolean>> fileWrites = new ArrayList<>();
 
         // Remove unwanted directories which was present in v1 of the git file format version
         fileOperations.deleteDirectory(baseRepo.resolve(ACTION_DIRECTORY));
         fileOperations.deleteDirectory(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
 
         // Save application
-        saveResource(
+        fileWrites.add(() -> saveResource(
                 applicationGitReference.getApplication(),
-                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION)));
 
         // Save application metadata
         fileOperations.saveMetadataResource(applicationGitReference, baseRepo);
 
         // Save application theme
-        saveResource(
+        fileWrites.add(() -> saveResource(
                 applicationGitReference.getTheme(),
-                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION)));
 
         // Save pages
         Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
@@ -251,9 +285,9 @@ public class FileUtilsCEImpl implements FileInterface {
                     modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
             if (Boolean.TRUE.equals(isResourceUpdated)) {
                 // Save page metadata
-                saveResource(
+                fileWrites.add(() -> saveResource(
                         pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION)));
                 Map<String, JSONObject> result = DSLTransformerHelper.flatten(
                         new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
                 result.forEach((key, jsonObject) -> {
@@ -271,9 +305,10 @@ public class FileUtilsCEImpl implements FileInterface {
                     Path path = Paths.get(
                             String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
                     validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
+                    fileWrites.add(() -> fileOperations.saveWidgets(jsonObject, widgetName, path));
                 });
-                // Remove deleted widgets from the file system
+                // Remove deleted widgets from the file system. This only removes widgets that are not in the page
+                // anymore, or have moved, so it doesn't matter that the widgets of the page are written after it.
                 deleteWidgets(
                         pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
 
@@ -304,7 +339,7 @@ public class FileUtilsCEImpl implements FileInterface {
 
                 Path jsLibSpecificFile = jsLibDirectory.resolve(fileNameWithExtension);
                 if (isResourceUpdated) {
-                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile);
+                    fileWrites.add(() -> saveResource(jsLibEntry.getValue(), jsLibSpecificFile));
                 }
                 validJsLibs.add(fileNameWithExtension);
             });
@@ -346,7 +381,8 @@ public class FileUtilsCEImpl implements FileInterface {
                                     ? applicationGitReference.getActionBody().get(resource.getKey())
                                     : null,
                             queryName,
-                            actionSpecificDirectory.resolve(queryName));
+                            actionSpecificDirectory.resolve(queryName),
+                            fileWrites);
                     // Delete the resource from the old file structure v2
                     fileOperations.deleteFile(pageSpecificDirectory
                             .resolve(ACTION_DIRECTORY)
@@ -384,7 +420,8 @@ public class FileUtilsCEImpl implements FileInterface {
                             resource.getValue(),
                             applicationGitReference.getActionCollectionBody().get(resource.getKey()),
                             actionCollectionName,
-                            actionCollectionSpecificDirectory.resolve(actionCollectionName));
+                            actionCollectionSpecificDirectory.resolve(actionCollectionName),
+                            fileWrites);
                     // Delete the resource from the old file structure v2
                     fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
                             actionCollectionName + CommonConstants.JSON_EXTENSION));
@@ -402,9 +439,10 @@ public class FileUtilsCEImpl implements FileInterface {
         // Save datasources ref
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getDatasources().entrySet()) {
-            saveResource(
+            fileWrites.add(() -> saveResource(
                     resource.getValue(),
-                    baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION));
+                    baseRepo.resolve(DATASOURCE_DIRECTORY)
+                            .resolve(resource.getKey() + CommonConstants.JSON_EXTENSION)));
             validDatasourceFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
         }
         // Scan datasource directory and delete any unwanted files if present
@@ -413,25 +451,58 @@ public class FileUtilsCEImpl implements FileInterface {
                     validDatasourceFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
         }
 
+        writeFiles(fileWrites, baseRepo);
+
         return validPages;
     }
 
+    /**
+     * Runs the given file writes in parallel, and waits for all of them to finish. A write that fails is logged and
+     * counted, and doesn't stop the others.
+     *
+     * @param fileWrites writes which return true if the file was written, false if it was skipped
+     * @param baseRepo   path of the repo the files are written to
+     */
+    private void writeFiles(List<Callable<Boolean>> fileWrites, Path baseRepo) {
+        Map<FileWriteResult, Long> writeCounts = Flux.fromIterable(fileWrites)
+                .parallel(FILE_WRITE_PARALLELISM)
+                .runOn(fileWriteScheduler)
+                .map(fileWrite -> {
+                    try {
+                        return fileWrite.call() ? FileWriteResult.WRITTEN : FileWriteResult.UNCHANGED;
+                    } catch (Exception e) {
+                        log.error("Error while writing a file to {} with message {}", baseRepo, e.getMessage(), e);
+                        return FileWriteResult.FAILED;
+                    }
+                })
+                .sequential()
+                .collect(Collectors.groupingBy(
+                        Function.identity(), () -> new EnumMap<>(FileWriteResult.class), Collectors.counting()))
+                .block();
+
+        log.info(
+                "Saved application to {}, {} files written, {} files skipped as unchanged",
+                baseRepo,
+                writeCounts.getOrDefault(FileWriteResult.WRITTEN, 0L),
+                writeCounts.getOrDefault(FileWriteResult.UNCHANGED, 0L));
+        if (writeCounts.containsKey(FileWriteResult.FAILED)) {
+            log.error(
+                    "Failed to write {} files while saving application to {}",
+                    writeCounts.get(FileWriteResult.FAILED),
+                    baseRepo);
+        }
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
      * @param sourceEntity resource extracted from DB to be stored in file
      * @param path         file path where the resource to be stored
-     * @return if the file operation is successful
+     * @return if the file was written, false if it already had this content
      */
-    protected boolean saveResource(Object sourceEntity, Path path) {
-        try {
-            Files.createDirectories(path.getParent());
-            return fileOperations.writeToFile(sourceEntity, path);
-        } catch (IOException e) {
-            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
-            log.debug(e.getMessage());
-        }
-        return false;
+    protected boolean saveResource(Object sourceEntity, Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        return fileOperations.writeToFile(sourceEntity, path);
     }
 
     /**
@@ -443,30 +514,19 @@ public class FileUtilsCEImpl implements FileInterface {
      * @param body         actual js code written by the user
      * @param resourceName name of the action collection
      * @param path         file path where the resource will be stored
-     * @return if the file operation is successful
+     * @param fileWrites   writes to add the files of the action collection to
      */
-    private boolean saveActionCollection(Object sourceEntity, String body, String resourceName, Path path) {
-        Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
-        try {
-            Files.createDirectories(path);
-            if (StringUtils.hasText(body)) {
-                // Write the js Object body to .js file to make conflict handling easier
-                Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
-                String resourceType = ACTION_COLLECTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the jsObject
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
-        } catch (IOException e) {
-            log.debug(e.getMessage());
-        } finally {
-            observationHelper.endSpan(span, true);
+    private void saveActionCollection(
+            Object sourceEntity, String body, String resourceName, Path path, List<Callable<Boolean>> fileWrites) {
+        if (StringUtils.hasText(body)) {
+            // Write the js Object body to .js file to make conflict handling easier
+            Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
+            fileWrites.add(() -> saveBody(body, ACTION_COLLECTION_BODY, bodyPath));
         }
-        return false;
+
+        // Write metadata for the jsObject
+        Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
+        fileWrites.add(() -> saveResource(sourceEntity, metadataPath));
     }
 
     /**
@@ -478,37 +538,37 @@ public class FileUtilsCEImpl implements FileInterface {
      * @param body         actual query written by the user
      * @param resourceName name of the action
      * @param path         file path where the resource will be stored
-     * @return if the file operation is successful
+     * @param fileWrites   writes to add the files of the action to
+     */
+    private void saveActions(
+            Object sourceEntity, String body, String resourceName, Path path, List<Callable<Boolean>> fileWrites) {
+        // Write the user written query to .txt file to make conflict handling easier
+        // Body will be null if the action is of type JS
+        if (StringUtils.hasLength(body)) {
+            Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
+            fileWrites.add(() -> saveBody(body, NEW_ACTION_BODY, bodyPath));
+        }
+
+        // Write metadata for the actions
+        Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
+        fileWrites.add(() -> saveResource(sourceEntity, metadataPath));
+    }
+
+    /**
+     * Writes the code of an action or an action collection to its own file
+     *
+     * @return if the file was written, false if it already had this content
      */
-    private boolean saveActions(Object sourceEntity, String body, String resourceName, Path path) {
+    private boolean saveBody(String body, String resourceType, Path path) throws IOException {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
-            Files.createDirectories(path);
-            // Write the user written query to .txt file to make conflict handling easier
-            // Body will be null if the action is of type JS
-            if (StringUtils.hasLength(body)) {
-                Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
-                String resourceType = NEW_ACTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the actions
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
-        } catch (IOException e) {
-            log.error("Error while reading file {} with message {} with cause", path, e.getMessage(), e.getCause());
+            Files.createDirectories(path.getParent());
+            span.tag(RESOURCE_TYPE, resourceType);
+            observationHelper.startSpan(span, true);
+            return fileOperations.writeStringToFile(body, path);
         } finally {
             observationHelper.endSpan(span, true);
         }
-        return false;
-    }
-
-    private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
     }
 
     /**
@@ -1,19 +1,17 @@
 package com.appsmith.git.files.operations;
 
-import com.appsmith.external.converters.ISOStringToInstantConverter;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.git.operations.FileOperationsCE;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
-import com.appsmith.git.converters.GsonDoubleToLongConverter;
-import com.appsmith.git.converters.GsonUnorderedToOrderedConverter;
+import com.appsmith.git.helpers.WorkingTreeChanges;
+import com.appsmith.util.SerializationUtils;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.micrometer.tracing.Span;
@@ -26,9 +24,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -64,6 +60,8 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     protected final ObservationHelper observationHelper;
 
+    private final WorkingTreeChanges workingTreeChanges;
+
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
     private static final String VIEW_MODE_URL_TEMPLATE = "{{viewModeUrl}}";
@@ -71,34 +69,23 @@ public class FileOperationsCEImpl implements FileOperationsCE {
     private static final Pattern ALLOWED_FILE_EXTENSION_PATTERN =
             Pattern.compile("(.*?)\\.(md|MD|git|gitignore|github|yml|yaml)$");
 
-    private final Scheduler scheduler = Schedulers.boundedElastic();
+    private final Scheduler scheduler = DedicatedSchedulers.get("git");
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
     public FileOperationsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
-            GsonBuilder gsonBuilder,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            WorkingTreeChanges workingTreeChanges) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
 
-        // Gson to pretty format JSON file
-        // Keep Long type as is by default GSON have behavior to convert to Double
-        // Convert unordered set to ordered one
-        this.gson = gsonBuilder
-                .registerTypeAdapter(Double.class, new GsonDoubleToLongConverter())
-                .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
-                .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
-                .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
-                // Instance creator is required while de-serialising using Gson as key instance can't be invoked
-                // with no-args constructor
-                .registerTypeAdapter(DatasourceStructure.Key.class, new DatasourceStructure.KeyInstanceCreator())
-                .disableHtmlEscaping()
-                .setPrettyPrinting()
-                .create();
+        // Gson to pretty format JSON file, with Long values kept as is and unordered sets and maps ordered
+        this.gson = SerializationUtils.getGitFileGson();
 
         this.observationHelper = observationHelper;
+        this.workingTreeChanges = workingTreeChanges;
     }
 
     @Override
@@ -113,7 +100,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
      *
      * @param sourceEntity resource extracted from DB to be stored in file
      * @param path         file path where the resource to be stored
-     * @return if the file operation is successful
+     * @return if the file was written, false if it already had this content or could not be written
      */
     @Override
     public boolean saveResource(Object sourceEntity, Path path) {
@@ -128,7 +115,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
     }
 
     @Override
-    public void saveWidgets(JSONObject sourceEntity, String resourceName, Path path) {
+    public boolean saveWidgets(JSONObject sourceEntity, String resourceName, Path path) throws IOException {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
             Files.createDirectories(path);
@@ -136,19 +123,16 @@ public class FileOperationsCEImpl implements FileOperationsCE {
             span.tag(RESOURCE_TYPE, resourceType);
             observationHelper.startSpan(span, true);
 
-            writeStringToFile(sourceEntity.toString(4), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
-        } catch (IOException e) {
-            log.debug("Error while writings widgets data to file, {}", e.getMessage());
+            return writeStringToFile(
+                    sourceEntity.toString(4), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
         } finally {
             observationHelper.endSpan(span, true);
         }
     }
 
     @Override
-    public void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+    public boolean writeStringToFile(String sourceEntity, Path path) throws IOException {
+        return writeIfChanged(sourceEntity.getBytes(StandardCharsets.UTF_8), path);
     }
 
     @Override
@@ -161,14 +145,33 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
-            return true;
+        try {
+            return writeIfChanged(gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8), path);
         } finally {
             observationHelper.endSpan(span, true);
         }
     }
 
+    /**
+     * Writes the content to the file, unless the file already has exactly this content. Files are compared with the
+     * content in full, only if they have the same size, which is where most changed files are told apart. Leaving
+     * unchanged files alone also keeps their modification time, so git doesn't need to hash them again.
+     *
+     * @param content bytes to be stored in the file
+     * @param path    file path where the content is to be stored
+     * @return true if the file was written, false if it was left as it is
+     */
+    protected boolean writeIfChanged(byte[] content, Path path) throws IOException {
+        if (Files.isRegularFile(path)
+                && Files.size(path) == content.length
+                && Arrays.equals(Files.readAllBytes(path), content)) {
+            return false;
+        }
+        Files.write(path, content);
+        workingTreeChanges.recordChange(path);
+        return true;
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
@@ -224,6 +227,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
     public void deleteDirectory(Path directory) {
         if (directory.toFile().exists()) {
             try {
+                workingTreeChanges.recordChange(directory);
                 FileUtils.deleteDirectory(directory.toFile());
             } catch (IOException e) {
                 log.error("Unable to delete directory for path {} with message {}", directory, e.getMessage());
@@ -239,7 +243,9 @@ public class FileOperationsCEImpl implements FileOperationsCE {
     @Override
     public void deleteFile(Path filePath) {
         try {
-            Files.deleteIfExists(filePath);
+            if (Files.deleteIfExists(filePath)) {
+                workingTreeChanges.recordChange(filePath);
+            }
         } catch (DirectoryNotEmptyException e) {
             log.error("Unable to delete non-empty directory at {} with cause", filePath, e.getMessage());
         } catch (IOException e) {
@@ -11,6 +11,7 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.views.Git;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
+import com.appsmith.git.helpers.WorkingTreeChanges;
 import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.PrettyPrinter;
@@ -19,7 +20,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.GsonBuilder;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -27,11 +27,9 @@ import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -58,10 +56,10 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
     public FileOperationsCEv2Impl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
-            GsonBuilder gsonBuilder,
             PrettyPrinter prettyPrinter,
-            ObservationHelper observationHelper) {
-        super(gitServiceConfig, gitExecutor, gsonBuilder, observationHelper);
+            ObservationHelper observationHelper,
+            WorkingTreeChanges workingTreeChanges) {
+        super(gitServiceConfig, gitExecutor, observationHelper, workingTreeChanges);
 
         this.objectMapper = SerializationUtils.getBasicObjectMapper(prettyPrinter);
         this.objectReader = objectMapper.readerWithView(Git.class);
@@ -80,7 +78,7 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
 
     @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
     @Override
-    public void saveWidgets(JSONObject sourceEntity, String resourceName, Path path) {
+    public boolean saveWidgets(JSONObject sourceEntity, String resourceName, Path path) throws IOException {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
             Files.createDirectories(path);
@@ -88,11 +86,9 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
             span.tag(RESOURCE_TYPE, resourceType);
             observationHelper.startSpan(span, true);
 
-            writeToFile(
+            return writeToFile(
                     objectReader.readTree(sourceEntity.toString()),
                     path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
-        } catch (IOException e) {
-            log.debug("Error while writings widgets data to file, {}", e.getMessage());
         } finally {
             observationHelper.endSpan(span, true);
         }
@@ -109,9 +105,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            objectWriter.writeValue(fileWriter, sourceEntity);
-            return true;
+        try {
+            return writeIfChanged(objectWriter.writeValueAsBytes(sourceEntity), path);
         } finally {
             observationHelper.endSpan(span, true);
         }
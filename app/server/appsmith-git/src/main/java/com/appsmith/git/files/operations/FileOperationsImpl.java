@@ -4,8 +4,8 @@ import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.WorkingTreeChanges;
 import com.fasterxml.jackson.core.PrettyPrinter;
-import com.google.gson.GsonBuilder;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -17,9 +17,9 @@ public class FileOperationsImpl extends FileOperationsCEv2Impl implements FileOp
     public FileOperationsImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
-            GsonBuilder gsonBuilder,
             PrettyPrinter prettyPrinter,
-            ObservationHelper observationHelper) {
-        super(gitServiceConfig, gitExecutor, gsonBuilder, prettyPrinter, observationHelper);
+            ObservationHelper observationHelper,
+            WorkingTreeChanges workingTreeChanges) {
+        super(gitServiceConfig, gitExecutor, prettyPrinter, observationHelper, workingTreeChanges);
     }
 }
@@ -0,0 +1,202 @@
+package com.appsmith.git.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.util.FS;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the repositories used by git operations open in between operations, so that their refs, packs and config are
+ * not read from disk again by every operation. A repository is closed once it hasn't been used for a while, or to make
+ * space for another one once the cache is full, but never while an operation is still using it.
+ */
+@Slf4j
+public class GitRepositoryCache {
+
+    private static final long MIN_CLEANUP_INTERVAL_MILLIS = 1000;
+
+    private final int maxSize;
+    private final Duration maxIdleTime;
+
+    // Guarded by this, iterated from the least recently used repository
+    private final LinkedHashMap<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static class CachedRepository {
+        private final Repository repository;
+        // Tells a repository apart from one that has been deleted and created again at the same path
+        private final Object gitDirIdentity;
+        private int users;
+        private long lastUsedNanos = System.nanoTime();
+        private boolean evicted;
+
+        CachedRepository(Repository repository, Object gitDirIdentity) {
+            this.repository = repository;
+            this.gitDirIdentity = gitDirIdentity;
+        }
+    }
+
+    /**
+     * Git to run commands on a cached repository with. Closing it hands the repository back to the cache.
+     */
+    private class CachedGit extends Git {
+        private final CachedRepository cachedRepository;
+        private boolean closed;
+
+        CachedGit(CachedRepository cachedRepository) {
+            super(cachedRepository.repository);
+            this.cachedRepository = cachedRepository;
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(cachedRepository);
+        }
+    }
+
+    public GitRepositoryCache(int maxSize, Duration maxIdleTime) {
+        this.maxSize = maxSize;
+        this.maxIdleTime = maxIdleTime;
+
+        long cleanupIntervalMillis = Math.max(maxIdleTime.dividedBy(2).toMillis(), MIN_CLEANUP_INTERVAL_MILLIS);
+        Schedulers.parallel()
+                .schedulePeriodically(
+                        this::closeIdleRepositories,
+                        cleanupIntervalMillis,
+                        cleanupIntervalMillis,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens the repository at the given path, in the same way as {@link Git#open(File)}, or reuses it if it's already
+     * open. The returned Git has to be closed once done with.
+     */
+    public Git open(Path repoPath) throws IOException {
+        RepositoryCache.FileKey fileKey = RepositoryCache.FileKey.lenient(repoPath.toFile(), FS.DETECTED);
+        Path gitDir = fileKey.getFile().toPath().toAbsolutePath().normalize();
+        Object gitDirIdentity = getIdentity(gitDir);
+
+        synchronized (this) {
+            CachedRepository cachedRepository = repositories.get(gitDir);
+            if (cachedRepository != null) {
+                if (gitDirIdentity != null && gitDirIdentity.equals(cachedRepository.gitDirIdentity)) {
+                    cachedRepository.users++;
+                    return new CachedGit(cachedRepository);
+                }
+                evict(gitDir, cachedRepository);
+            }
+        }
+
+        // Fails the same way as Git.open if there is no repository at the path
+        Repository repository = fileKey.open(true);
+        if (gitDirIdentity == null) {
+            gitDirIdentity = getIdentity(gitDir);
+        }
+
+        synchronized (this) {
+            CachedRepository cachedRepository = repositories.get(gitDir);
+            if (cachedRepository != null && Objects.equals(gitDirIdentity, cachedRepository.gitDirIdentity)) {
+                // Another operation opened the same repository in the meantime
+                repository.close();
+                cachedRepository.users++;
+                return new CachedGit(cachedRepository);
+            }
+            if (cachedRepository != null) {
+                evict(gitDir, cachedRepository);
+            }
+
+            cachedRepository = new CachedRepository(repository, gitDirIdentity);
+            cachedRepository.users++;
+            repositories.put(gitDir, cachedRepository);
+            evictLeastRecentlyUsed();
+            return new CachedGit(cachedRepository);
+        }
+    }
+
+    /**
+     * Closes the repositories which are not in use, and haven't been used for longer than the max idle time.
+     */
+    public synchronized void closeIdleRepositories() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, CachedRepository>> iterator =
+                repositories.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next().getValue();
+            if (cachedRepository.users == 0 && now - cachedRepository.lastUsedNanos >= maxIdleTime.toNanos()) {
+                iterator.remove();
+                cachedRepository.repository.close();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return repositories.size();
+    }
+
+    private synchronized void release(CachedRepository cachedRepository) {
+        cachedRepository.users--;
+        cachedRepository.lastUsedNanos = System.nanoTime();
+        if (cachedRepository.evicted && cachedRepository.users == 0) {
+            cachedRepository.repository.close();
+        } else {
+            // Space couldn't be made while all repositories were in use
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    // Must be called while holding the lock on this
+    private void evict(Path gitDir, CachedRepository cachedRepository) {
+        repositories.remove(gitDir, cachedRepository);
+        cachedRepository.evicted = true;
+        if (cachedRepository.users == 0) {
+            cachedRepository.repository.close();
+        }
+    }
+
+    // Must be called while holding the lock on this. Repositories in use are left open, even if that means going over
+    // the max size for a while.
+    private void evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<Path, CachedRepository>> iterator =
+                repositories.entrySet().iterator();
+        while (repositories.size() > maxSize && iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next().getValue();
+            if (cachedRepository.users == 0) {
+                iterator.remove();
+                cachedRepository.evicted = true;
+                cachedRepository.repository.close();
+            }
+        }
+    }
+
+    private static Object getIdentity(Path gitDir) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(gitDir, BasicFileAttributes.class);
+            // The file key alone can be reused by a directory created after this one was deleted
+            return Arrays.asList(attributes.fileKey(), attributes.creationTime());
+        } catch (IOException e) {
+            log.debug("Unable to read the attributes of git directory {}, {}", gitDir, e.getMessage());
+            return null;
+        }
+    }
+}
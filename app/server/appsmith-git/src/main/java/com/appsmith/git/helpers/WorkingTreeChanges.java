@@ -0,0 +1,70 @@
+package com.appsmith.git.helpers;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the files written to, or deleted from, the working tree of a repository since it was reset to its last
+ * commit, while an artifact is being saved to it. As everything else in the working tree is then known to be the same as
+ * in the last commit, git status only needs to look at these files, instead of walking the complete working tree.
+ * <p>
+ * Changes are only known until the next git operation that could change the working tree, the index or the HEAD of the
+ * repository, which has to discard them.
+ */
+@Component
+public class WorkingTreeChanges {
+
+    // Paths changed, relative to the repository they are in, by the absolute path of the repository
+    private final Map<Path, Set<String>> changesByRepository = new ConcurrentHashMap<>();
+
+    /**
+     * Starts recording the changes made to the given repository, which has to have just been reset to its last commit.
+     */
+    public void startRecording(Path repoPath) {
+        changesByRepository.put(normalize(repoPath), ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Records that the given file, or directory, was written or deleted, if changes are being recorded for the
+     * repository it is in.
+     */
+    public void recordChange(Path path) {
+        if (changesByRepository.isEmpty()) {
+            return;
+        }
+
+        Path changedPath = normalize(path);
+        for (Path repoPath = changedPath.getParent(); repoPath != null; repoPath = repoPath.getParent()) {
+            Set<String> changes = changesByRepository.get(repoPath);
+            if (changes != null) {
+                // Paths in git are always separated by forward slashes
+                changes.add(repoPath.relativize(changedPath).toString().replace('\\', '/'));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops recording the changes made to the given repository, and returns them.
+     *
+     * @return paths changed, relative to the repository, or null if the changes to the repository are not known
+     */
+    public Set<String> consumeChanges(Path repoPath) {
+        return changesByRepository.remove(normalize(repoPath));
+    }
+
+    /**
+     * Forgets the changes made to the given repository, as they can't be relied upon anymore.
+     */
+    public void discardChanges(Path repoPath) {
+        changesByRepository.remove(normalize(repoPath));
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+}
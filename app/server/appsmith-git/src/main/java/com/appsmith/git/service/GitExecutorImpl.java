@@ -3,6 +3,7 @@ package com.appsmith.git.service;
 import com.appsmith.external.configurations.git.GitConfig;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.WorkingTreeChanges;
 import com.appsmith.git.service.ce.GitExecutorCEImpl;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +15,10 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class GitExecutorImpl extends GitExecutorCEImpl implements GitExecutor {
     public GitExecutorImpl(
-            GitServiceConfig gitServiceConfig, GitConfig gitConfig, ObservationRegistry observationRegistry) {
-        super(gitServiceConfig, gitConfig, observationRegistry);
+            GitServiceConfig gitServiceConfig,
+            GitConfig gitConfig,
+            ObservationRegistry observationRegistry,
+            WorkingTreeChanges workingTreeChanges) {
+        super(gitServiceConfig, gitConfig, observationRegistry, workingTreeChanges);
     }
 }
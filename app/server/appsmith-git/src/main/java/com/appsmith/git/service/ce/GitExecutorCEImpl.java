@@ -9,15 +9,18 @@ import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.MergeStatusDTO;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitSpan;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
+import com.appsmith.git.helpers.WorkingTreeChanges;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +33,12 @@ import org.eclipse.jgit.api.RebaseCommand;
 import org.eclipse.jgit.api.RebaseResult;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.StatusCommand;
 import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.CheckoutConflictException;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.StoredConfig;
@@ -46,7 +51,6 @@ import org.springframework.util.FileSystemUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.io.IOException;
@@ -80,15 +84,20 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private final RepositoryHelper repositoryHelper = new RepositoryHelper();
 
+    private final GitRepositoryCache repositoryCache =
+            new GitRepositoryCache(Constraint.MAX_CACHED_REPOSITORIES, Constraint.CACHED_REPOSITORY_MAX_IDLE_TIME);
+
     private final GitServiceConfig gitServiceConfig;
     private final GitConfig gitConfig;
 
     protected final ObservationRegistry observationRegistry;
 
+    private final WorkingTreeChanges workingTreeChanges;
+
     public static final DateTimeFormatter ISO_FORMATTER =
             DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.from(ZoneOffset.UTC));
 
-    private final Scheduler scheduler = Schedulers.boundedElastic();
+    private final Scheduler scheduler = DedicatedSchedulers.get("git");
 
     private static final String SUCCESS_MERGE_STATUS = "This branch has no conflicts with the base branch.";
 
@@ -118,7 +127,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
@@ -175,7 +184,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
@@ -209,6 +218,15 @@ public class GitExecutorCEImpl implements GitExecutor {
         return Paths.get(gitServiceConfig.getGitRootPath()).resolve(suffix);
     }
 
+    /**
+     * Opens the repository for an operation which could change its working tree, index or HEAD, so that changes
+     * recorded while saving an artifact to it can't be relied upon by git status anymore
+     */
+    private Git openRepository(Path repoPath) throws IOException {
+        workingTreeChanges.discardChanges(repoPath);
+        return repositoryCache.open(repoPath);
+    }
+
     /**
      * Method to push changes to remote repo
      * @param repoSuffix Path used to generate the repo url specific to the application which needs to be pushed to remote
@@ -228,7 +246,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .getIsAtomicPushAllowed()
                 .flatMap(isAtomicPushAllowed -> {
                     return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+                            () -> repositoryCache.open(baseRepoPath),
                             git -> Mono.fromCallable(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
@@ -291,6 +309,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    workingTreeChanges.discardChanges(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -320,7 +339,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -350,7 +369,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -379,7 +398,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
@@ -419,7 +438,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
@@ -486,7 +505,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> repositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
@@ -523,7 +542,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> repositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -554,11 +573,23 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
-                                    Status status = git.status().call();
+                                    StatusCommand statusCommand = git.status();
+                                    // When the files changed by saving the artifact are known, everything else in the
+                                    // working tree is the same as in the last commit, and doesn't need to be walked
+                                    Set<String> changedPaths = workingTreeChanges.consumeChanges(repoPath);
+                                    if (changedPaths != null) {
+                                        log.debug("Getting status of {} changed paths", changedPaths.size());
+                                        changedPaths.forEach(statusCommand::addPath);
+                                        if (changedPaths.isEmpty()) {
+                                            // Matches nothing, as the repository directory is never walked
+                                            statusCommand.addPath(Constants.DOT_GIT);
+                                        }
+                                    }
+                                    Status status = statusCommand.call();
                                     GitStatusDTO response = new GitStatusDTO();
 
                                     // resource changes
@@ -794,7 +825,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
@@ -849,7 +880,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -889,7 +920,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
@@ -974,7 +1005,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
@@ -1039,7 +1070,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> openRepository(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
@@ -1049,7 +1080,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
@@ -1071,7 +1102,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
@@ -1105,7 +1136,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
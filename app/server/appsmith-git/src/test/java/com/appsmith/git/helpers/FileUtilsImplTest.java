@@ -7,7 +7,6 @@ import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.files.FileUtilsImpl;
 import com.appsmith.git.files.operations.FileOperationsImpl;
 import com.appsmith.git.service.GitExecutorImpl;
-import com.google.gson.GsonBuilder;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.AfterEach;
@@ -20,7 +19,11 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,9 +45,11 @@ public class FileUtilsImplTest {
         gitExecutor = Mockito.mock(GitExecutorImpl.class);
         GitServiceConfig gitServiceConfig = new GitServiceConfig();
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
+        WorkingTreeChanges workingTreeChanges = new WorkingTreeChanges();
         FileOperations fileOperations =
-                new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+                new FileOperationsImpl(gitServiceConfig, gitExecutor, null, ObservationHelper.NOOP, workingTreeChanges);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP, workingTreeChanges);
     }
 
     @AfterEach
@@ -80,6 +85,67 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void saveApplicationRef_whenFileContentUnchanged_fileNotRewritten() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "app"));
+        applicationGitReference.setTheme(Map.of("name", "theme"));
+        applicationGitReference.setMetadata(new Object());
+        applicationGitReference.setPages(new HashMap<>());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Path applicationPath = localTestDirectoryPath.resolve("application.json");
+        Path themePath = localTestDirectoryPath.resolve("theme.json");
+        FileTime lastModifiedTime = FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(applicationPath, lastModifiedTime);
+        Files.setLastModifiedTime(themePath, lastModifiedTime);
+
+        applicationGitReference.setTheme(Map.of("name", "updatedTheme"));
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Assertions.assertEquals(lastModifiedTime, Files.getLastModifiedTime(applicationPath));
+        Assertions.assertNotEquals(lastModifiedTime, Files.getLastModifiedTime(themePath));
+        Assertions.assertTrue(Files.readString(themePath).contains("updatedTheme"));
+    }
+
+    @Test
+    public void saveApplicationRef_whenOneFileCannotBeWritten_otherFilesWritten() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        // A directory in place of the theme file makes its write fail
+        Path themePath = localTestDirectoryPath.resolve("theme.json");
+        Files.createDirectories(themePath);
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "app"));
+        applicationGitReference.setTheme(Map.of("name", "theme"));
+        applicationGitReference.setMetadata(new Object());
+        applicationGitReference.setPages(new HashMap<>());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Assertions.assertTrue(Files.isDirectory(themePath));
+        Assertions.assertTrue(Files.readString(localTestDirectoryPath.resolve("application.json"))
+                .contains("app"));
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
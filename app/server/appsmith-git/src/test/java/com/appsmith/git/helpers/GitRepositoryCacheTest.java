@@ -0,0 +1,105 @@
+package com.appsmith.git.helpers;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path initRepository(String name) throws GitAPIException {
+        Path repoPath = tempDirectory.resolve(name);
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+        return repoPath;
+    }
+
+    @Test
+    public void open_WhenRepositoryOpenedAgain_ReusesRepository() throws GitAPIException, IOException {
+        Path repoPath = initRepository("repo");
+        GitRepositoryCache repositoryCache = new GitRepositoryCache(10, Duration.ofMinutes(10));
+
+        Repository repository;
+        try (Git git = repositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+        try (Git git = repositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isSameAs(repository);
+        }
+    }
+
+    @Test
+    public void open_WhenRepositoryCreatedAgain_OpensNewRepository() throws GitAPIException, IOException {
+        Path repoPath = initRepository("repo");
+        GitRepositoryCache repositoryCache = new GitRepositoryCache(10, Duration.ofMinutes(10));
+
+        Repository repository;
+        try (Git git = repositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+        FileUtils.deleteDirectory(repoPath.toFile());
+        initRepository("repo");
+
+        try (Git git = repositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(repository);
+        }
+    }
+
+    @Test
+    public void open_WhenNoRepository_FailsLikeGitOpen() {
+        GitRepositoryCache repositoryCache = new GitRepositoryCache(10, Duration.ofMinutes(10));
+
+        assertThatThrownBy(() -> repositoryCache.open(tempDirectory.resolve("missing")))
+                .isInstanceOf(RepositoryNotFoundException.class);
+    }
+
+    @Test
+    public void open_WhenCacheFull_EvictsLeastRecentlyUsedRepositoryNotInUse() throws GitAPIException, IOException {
+        Path firstRepoPath = initRepository("first");
+        Path secondRepoPath = initRepository("second");
+        GitRepositoryCache repositoryCache = new GitRepositoryCache(1, Duration.ofMinutes(10));
+
+        try (Git inUse = repositoryCache.open(firstRepoPath)) {
+            Repository secondRepository;
+            try (Git git = repositoryCache.open(secondRepoPath)) {
+                secondRepository = git.getRepository();
+            }
+            // The first repository is still in use, so the second one is closed instead
+            assertThat(repositoryCache.size()).isEqualTo(1);
+            try (Git git = repositoryCache.open(firstRepoPath)) {
+                assertThat(git.getRepository()).isSameAs(inUse.getRepository());
+            }
+            try (Git git = repositoryCache.open(secondRepoPath)) {
+                assertThat(git.getRepository()).isNotSameAs(secondRepository);
+            }
+        }
+    }
+
+    @Test
+    public void closeIdleRepositories_WhenRepositoryIdle_ClosesOnlyRepositoriesNotInUse()
+            throws GitAPIException, IOException, InterruptedException {
+        Path firstRepoPath = initRepository("first");
+        Path secondRepoPath = initRepository("second");
+        GitRepositoryCache repositoryCache = new GitRepositoryCache(10, Duration.ofMillis(1));
+
+        repositoryCache.open(firstRepoPath).close();
+        try (Git ignored = repositoryCache.open(secondRepoPath)) {
+            Thread.sleep(10);
+            repositoryCache.closeIdleRepositories();
+
+            assertThat(repositoryCache.size()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.appsmith.git.service;
+
+import com.appsmith.external.configurations.git.GitConfig;
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.WorkingTreeChanges;
+import io.micrometer.observation.ObservationRegistry;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitExecutorImplTest {
+
+    @TempDir
+    Path repoPath;
+
+    private WorkingTreeChanges workingTreeChanges;
+
+    private GitExecutorImpl gitExecutor;
+
+    @BeforeEach
+    public void setUp() throws GitAPIException, IOException {
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).call()) {
+            Files.writeString(repoPath.resolve("application.json"), "{}");
+            Files.writeString(repoPath.resolve("theme.json"), "{}");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").call();
+        }
+
+        workingTreeChanges = new WorkingTreeChanges();
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(repoPath.getParent().toString());
+        gitExecutor = new GitExecutorImpl(
+                gitServiceConfig, Mockito.mock(GitConfig.class), ObservationRegistry.NOOP, workingTreeChanges);
+    }
+
+    @Test
+    public void getStatus_WhenChangesRecorded_OnlyLooksAtChangedFiles() throws IOException {
+        workingTreeChanges.startRecording(repoPath);
+        Path applicationPath = repoPath.resolve("application.json");
+        Files.writeString(applicationPath, "{\"name\": \"app\"}");
+        workingTreeChanges.recordChange(applicationPath);
+        // Not recorded, so not expected to be picked up
+        Files.writeString(repoPath.resolve("theme.json"), "{\"name\": \"theme\"}");
+
+        GitStatusDTO gitStatusDTO = gitExecutor.getStatus(repoPath, "master").block();
+
+        assertThat(gitStatusDTO.getModified()).containsExactly("application.json");
+        assertThat(gitStatusDTO.getIsClean()).isFalse();
+    }
+
+    @Test
+    public void getStatus_WhenNoChangesRecorded_IsClean() throws IOException {
+        workingTreeChanges.startRecording(repoPath);
+
+        GitStatusDTO gitStatusDTO = gitExecutor.getStatus(repoPath, "master").block();
+
+        assertThat(gitStatusDTO.getModified()).isEmpty();
+        assertThat(gitStatusDTO.getIsClean()).isTrue();
+    }
+
+    @Test
+    public void getStatus_WhenChangesNotKnown_WalksWorkingTree() throws IOException {
+        Files.writeString(repoPath.resolve("theme.json"), "{\"name\": \"theme\"}");
+        Files.delete(repoPath.resolve("application.json"));
+
+        GitStatusDTO gitStatusDTO = gitExecutor.getStatus(repoPath, "master").block();
+
+        assertThat(gitStatusDTO.getModified()).containsExactly("theme.json");
+        assertThat(gitStatusDTO.getRemoved()).containsExactly("application.json");
+    }
+}
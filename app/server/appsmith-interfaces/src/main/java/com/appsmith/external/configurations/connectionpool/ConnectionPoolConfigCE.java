@@ -4,4 +4,13 @@ import reactor.core.publisher.Mono;
 
 public interface ConnectionPoolConfigCE {
     Mono<Integer> getMaxConnectionPoolSize();
+
+    /**
+     * Returns the settings that override the plugin defaults for the connection pool of the given datasource. Fields
+     * that are left null keep the plugin defaults.
+     */
+    default Mono<ConnectionPoolSettings> getConnectionPoolSettings(String datasourceId) {
+        return Mono.just(
+                ConnectionPoolSettings.builder().datasourceId(datasourceId).build());
+    }
 }
@@ -0,0 +1,206 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shared entry point for the SQL plugins to size, warm up and monitor the connection pools they create, be it Hikari
+ * or r2dbc-pool ones.
+ * <p>
+ * The pool libraries themselves are bundled with each plugin and loaded by the plugin's own class loader, hence this
+ * class never touches their types. Plugins build their pool from the {@link ConnectionPoolSettings} returned by
+ * {@link #getSettings}, then {@link #register} it along with an adapter to its {@link ConnectionPoolStats}, and
+ * {@link #unregister} it when the datasource is destroyed.
+ * <p>
+ * The server passes per datasource overrides of the plugin defaults through the Reactor context of
+ * {@code datasourceCreate}, with {@link #withSettings}. This also carries the id of the datasource, which the plugins
+ * otherwise don't know about, so that pool metrics can be tagged with it.
+ * <p>
+ * Pool metrics are published to the global Micrometer registry as {@code appsmith.datasource.connection.pool.*},
+ * tagged with the datasource id and the plugin name.
+ */
+@Slf4j
+public final class ConnectionPoolFactory {
+
+    public static final String METRIC_PREFIX = "appsmith.datasource.connection.pool";
+
+    private static final Object SETTINGS_CONTEXT_KEY = ConnectionPoolSettings.class;
+
+    private static final String UNSAVED_DATASOURCE_ID = "unsaved";
+
+    private static final AtomicLong poolSequence = new AtomicLong();
+
+    private static final Map<Object, PoolRegistration> pools = new IdentityHashMap<>();
+
+    private record PoolRegistration(
+            ConnectionPoolSettings settings,
+            ConnectionPoolStats stats,
+            MeterRegistry meterRegistry,
+            List<Meter> meters) {}
+
+    private ConnectionPoolFactory() {}
+
+    /**
+     * Adds the given per datasource settings to the Reactor context, for the plugin to pick them up when creating the
+     * connection pool of the datasource.
+     */
+    public static Context withSettings(Context context, ConnectionPoolSettings overrides) {
+        return overrides == null ? context : context.put(SETTINGS_CONTEXT_KEY, overrides);
+    }
+
+    /**
+     * Returns the given plugin defaults, overridden with whatever settings the server has for this datasource.
+     */
+    public static Mono<ConnectionPoolSettings> getSettings(ConnectionPoolSettings defaults) {
+        return Mono.deferContextual(contextView -> Mono.just(contextView
+                .<ConnectionPoolSettings>getOrEmpty(SETTINGS_CONTEXT_KEY)
+                .map(defaults::withOverrides)
+                .orElseGet(() -> defaults.withOverrides(null))));
+    }
+
+    /**
+     * Starts publishing the metrics of the given pool, and tracks it so that the server can tell whether the pools of
+     * a datasource are in use.
+     *
+     * @return the given pool, for chaining
+     */
+    public static <P> P register(P pool, ConnectionPoolSettings settings, ConnectionPoolStats stats) {
+        return register(pool, settings, stats, Metrics.globalRegistry);
+    }
+
+    static <P> P register(
+            P pool, ConnectionPoolSettings settings, ConnectionPoolStats stats, MeterRegistry meterRegistry) {
+        final Tags tags = Tags.of(
+                "datasourceId",
+                settings.getDatasourceId() == null ? UNSAVED_DATASOURCE_ID : settings.getDatasourceId(),
+                "plugin",
+                String.valueOf(settings.getPluginName()),
+                // A datasource may briefly have two pools while a stale one is being replaced.
+                "pool",
+                String.valueOf(poolSequence.incrementAndGet()));
+
+        List<Meter> meters = new ArrayList<>();
+        meters.add(registerGauge(meterRegistry, "active", tags, stats, ConnectionPoolStats::getActiveConnections));
+        meters.add(registerGauge(meterRegistry, "idle", tags, stats, ConnectionPoolStats::getIdleConnections));
+        meters.add(registerGauge(meterRegistry, "total", tags, stats, ConnectionPoolStats::getTotalConnections));
+        meters.add(registerGauge(meterRegistry, "pending", tags, stats, ConnectionPoolStats::getPendingAcquires));
+        if (settings.getMaximumPoolSize() != null) {
+            final int maximumPoolSize = settings.getMaximumPoolSize();
+            meters.add(registerGauge(meterRegistry, "max", tags, stats, ignored -> maximumPoolSize));
+        }
+
+        synchronized (pools) {
+            pools.put(pool, new PoolRegistration(settings, stats, meterRegistry, meters));
+        }
+        log.debug("Registered connection pool {} with settings {}", settings.getPoolName(), settings);
+
+        return pool;
+    }
+
+    /**
+     * Stops publishing the metrics of the given pool. Plugins call this right before closing the pool.
+     */
+    public static void unregister(Object pool) {
+        if (pool == null) {
+            return;
+        }
+
+        final PoolRegistration registration;
+        synchronized (pools) {
+            registration = pools.remove(pool);
+        }
+        if (registration == null) {
+            return;
+        }
+
+        for (Meter meter : registration.meters()) {
+            registration.meterRegistry().remove(meter);
+        }
+        log.debug("Unregistered connection pool {}", registration.settings().getPoolName());
+    }
+
+    /**
+     * Establishes the minimum number of idle connections of a pool right away, by borrowing that many connections at
+     * once and handing them back. Warming up is best effort, failing to borrow a connection is logged and otherwise
+     * ignored, as the query that follows would report the same error to the user anyway.
+     *
+     * @param acquirer borrows one connection from the pool, e.g. {@code hikariDataSource::getConnection}
+     */
+    public static void prewarm(ConnectionPoolSettings settings, Callable<? extends AutoCloseable> acquirer) {
+        if (!settings.isPrewarm() || settings.getMinimumIdle() == null || settings.getMinimumIdle() <= 0) {
+            return;
+        }
+
+        final long startTime = System.currentTimeMillis();
+        List<AutoCloseable> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < settings.getMinimumIdle(); i++) {
+                connections.add(acquirer.call());
+            }
+        } catch (Exception e) {
+            log.debug("Failed to warm up connection pool {}: {}", settings.getPoolName(), e.getMessage());
+        } finally {
+            for (AutoCloseable connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    log.debug("Failed to release connection while warming up pool {}", settings.getPoolName(), e);
+                }
+            }
+        }
+
+        log.debug(
+                "Warmed up connection pool {} with {} connections in {} ms",
+                settings.getPoolName(),
+                connections.size(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Checks if any pool of the given datasource has connections borrowed, or callers waiting for one. Such pools
+     * must not be evicted for being idle.
+     */
+    public static boolean isInUse(String datasourceId) {
+        if (datasourceId == null) {
+            return false;
+        }
+
+        synchronized (pools) {
+            for (PoolRegistration registration : pools.values()) {
+                if (datasourceId.equals(registration.settings().getDatasourceId())
+                        && (registration.stats().getActiveConnections() > 0
+                                || registration.stats().getPendingAcquires() > 0)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static Meter registerGauge(
+            MeterRegistry meterRegistry,
+            String name,
+            Tags tags,
+            ConnectionPoolStats stats,
+            ToDoubleFunction<ConnectionPoolStats> valueFunction) {
+        return Gauge.builder(METRIC_PREFIX + "." + name, stats, valueFunction)
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
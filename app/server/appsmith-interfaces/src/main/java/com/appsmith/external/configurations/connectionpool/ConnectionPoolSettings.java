@@ -0,0 +1,106 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Sizing and lifetime settings of the connection pool of a datasource. Plugins describe their own defaults with these
+ * settings, and the server may override any of them per datasource, see {@link ConnectionPoolFactory#getSettings}.
+ * <p>
+ * Every field is optional, a null value means that the default (either of the plugin, or of the pool library) applies.
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class ConnectionPoolSettings {
+
+    private static final String POOL_NAME_PREFIX = "appsmith";
+
+    private static final String UNSAVED_DATASOURCE_ID = "unsaved";
+
+    // Id of the datasource that the pool connects to, null for datasources that are tested before being saved.
+    private final String datasourceId;
+
+    // Short name of the plugin that the pool belongs to, like postgres or mysql.
+    private final String pluginName;
+
+    private final Integer minimumIdle;
+
+    private final Integer maximumPoolSize;
+
+    // Whether the minimum number of connections should be established when the pool is created, rather than on demand.
+    private final Boolean prewarm;
+
+    private final Duration leakDetectionThreshold;
+
+    private final Duration maxIdleTime;
+
+    private final Duration maxLifeTime;
+
+    private final Duration backgroundEvictionInterval;
+
+    /**
+     * Returns a copy of these settings where every non-null field of the given overrides takes precedence. The
+     * resulting pool sizes are kept consistent, i.e. the maximum size is at least one and the minimum number of idle
+     * connections does not exceed it.
+     */
+    public ConnectionPoolSettings withOverrides(ConnectionPoolSettings overrides) {
+        ConnectionPoolSettingsBuilder builder = this.toBuilder();
+        if (overrides != null) {
+            if (overrides.datasourceId != null) {
+                builder.datasourceId(overrides.datasourceId);
+            }
+            if (overrides.pluginName != null) {
+                builder.pluginName(overrides.pluginName);
+            }
+            if (overrides.minimumIdle != null) {
+                builder.minimumIdle(overrides.minimumIdle);
+            }
+            if (overrides.maximumPoolSize != null) {
+                builder.maximumPoolSize(overrides.maximumPoolSize);
+            }
+            if (overrides.prewarm != null) {
+                builder.prewarm(overrides.prewarm);
+            }
+            if (overrides.leakDetectionThreshold != null) {
+                builder.leakDetectionThreshold(overrides.leakDetectionThreshold);
+            }
+            if (overrides.maxIdleTime != null) {
+                builder.maxIdleTime(overrides.maxIdleTime);
+            }
+            if (overrides.maxLifeTime != null) {
+                builder.maxLifeTime(overrides.maxLifeTime);
+            }
+            if (overrides.backgroundEvictionInterval != null) {
+                builder.backgroundEvictionInterval(overrides.backgroundEvictionInterval);
+            }
+        }
+
+        ConnectionPoolSettings merged = builder.build();
+        Integer maximumPoolSize = merged.maximumPoolSize == null ? null : Math.max(1, merged.maximumPoolSize);
+        Integer minimumIdle = merged.minimumIdle == null ? null : Math.max(0, merged.minimumIdle);
+        if (minimumIdle != null && maximumPoolSize != null && minimumIdle > maximumPoolSize) {
+            minimumIdle = maximumPoolSize;
+        }
+
+        return merged.toBuilder()
+                .maximumPoolSize(maximumPoolSize)
+                .minimumIdle(minimumIdle)
+                .build();
+    }
+
+    public boolean isPrewarm() {
+        return Boolean.TRUE.equals(prewarm);
+    }
+
+    /**
+     * Name of the pool as seen in the logs of the pool library, e.g. appsmith-postgres-6512f2b7a9e1c25e3c3b0f1a.
+     */
+    public String getPoolName() {
+        return POOL_NAME_PREFIX + "-" + (pluginName == null ? "datasource" : pluginName) + "-"
+                + (datasourceId == null ? UNSAVED_DATASOURCE_ID : datasourceId);
+    }
+}
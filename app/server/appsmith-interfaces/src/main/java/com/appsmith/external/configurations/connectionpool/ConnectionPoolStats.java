@@ -0,0 +1,48 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Live statistics of a connection pool, independent of the pool library. Plugins adapt their pools to this with
+ * {@link #of}, e.g. with the methods of {@code HikariPoolMXBean} or of r2dbc's {@code PoolMetrics}.
+ */
+public interface ConnectionPoolStats {
+
+    // Connections currently borrowed from the pool.
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getTotalConnections();
+
+    // Callers waiting for a connection because all of them are in use.
+    int getPendingAcquires();
+
+    static ConnectionPoolStats of(
+            IntSupplier activeConnections,
+            IntSupplier idleConnections,
+            IntSupplier totalConnections,
+            IntSupplier pendingAcquires) {
+        return new ConnectionPoolStats() {
+            @Override
+            public int getActiveConnections() {
+                return activeConnections.getAsInt();
+            }
+
+            @Override
+            public int getIdleConnections() {
+                return idleConnections.getAsInt();
+            }
+
+            @Override
+            public int getTotalConnections() {
+                return totalConnections.getAsInt();
+            }
+
+            @Override
+            public int getPendingAcquires() {
+                return pendingAcquires.getAsInt();
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
-package com.appsmith.git.converters;
+package com.appsmith.external.converters;
 
+import com.appsmith.util.SerializationUtils;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSerializationContext;
@@ -18,7 +19,7 @@ public class GsonUnorderedToOrderedConverter<T> implements JsonSerializer<T> {
     @Override
     public JsonElement serialize(T src, Type typeOfSrc, JsonSerializationContext context) {
         // Sort the set so that same elements will not end up in merge conflicts
-        Gson gson = new Gson();
+        Gson gson = SerializationUtils.getPlainGson();
         if (src instanceof Set) {
             return gson.toJsonTree(getOrderedResource((Set<?>) src));
         } else if (src instanceof Map) {
@@ -191,6 +191,15 @@ public enum AppsmithPluginError implements BasePluginError {
             ErrorType.INTERNAL_ERROR,
             "{0}",
             "{1}"),
+    PLUGIN_RESPONSE_SIZE_TOO_LARGE(
+            500,
+            AppsmithPluginErrorCode.PLUGIN_RESPONSE_SIZE_TOO_LARGE.getCode(),
+            "Response size exceeded the maximum supported size of {0} MB. Please reduce the amount of data fetched.",
+            AppsmithErrorAction.DEFAULT,
+            "Large Result Set Not Supported",
+            ErrorType.INTERNAL_ERROR,
+            "{1}",
+            "{2}"),
     PLUGIN_DATASOURCE_RATE_LIMIT_ERROR(
             429,
             AppsmithPluginErrorCode.PLUGIN_RATE_LIMIT_ERROR.getCode(),
@@ -25,7 +25,8 @@ public enum AppsmithPluginErrorCode {
     PLUGIN_VALIDATE_DATASOURCE_ERROR("PE-DSE-5005", "Failed to validate datasource"),
     PLUGIN_GET_PREVIEW_DATA_ERROR("PE-DSE-5006", "Failed to get preview data"),
     PLUGIN_UNSUPPORTED_OPERATION("PE-DSE-5007", "Unsupported Operation"),
-    PLUGIN_RATE_LIMIT_ERROR("PE-DRL-4000", "Rate limit error");
+    PLUGIN_RATE_LIMIT_ERROR("PE-DRL-4000", "Rate limit error"),
+    PLUGIN_RESPONSE_SIZE_TOO_LARGE("PE-RSZ-5000", "Response size too large");
 
     private final String code;
     private final String description;
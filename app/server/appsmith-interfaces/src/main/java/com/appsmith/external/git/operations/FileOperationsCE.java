@@ -14,10 +14,25 @@ public interface FileOperationsCE {
 
     boolean saveResource(Object sourceEntity, Path path);
 
-    void saveWidgets(JSONObject sourceEntity, String resourceName, Path path);
-
-    void writeStringToFile(String sourceEntity, Path path) throws IOException;
-
+    /**
+     * Writes the given widget to its file in the given directory, unless the file already has exactly this content.
+     *
+     * @return true if the file was written, false if it was left as it is
+     */
+    boolean saveWidgets(JSONObject sourceEntity, String resourceName, Path path) throws IOException;
+
+    /**
+     * Writes the given content to the file, unless the file already has exactly this content.
+     *
+     * @return true if the file was written, false if it was left as it is
+     */
+    boolean writeStringToFile(String sourceEntity, Path path) throws IOException;
+
+    /**
+     * Serialises the given entity to the file, unless the file already has exactly this content.
+     *
+     * @return true if the file was written, false if it was left as it is
+     */
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -9,8 +9,9 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -58,6 +59,23 @@ public class DataTypeStringUtils {
 
     private static final TypeAdapter<JsonObject> strictGsonObjectAdapter = new Gson().getAdapter(JsonObject.class);
 
+    // Every character that may be part of a number, a date, a time or a timestamp recognised by
+    // `stringToKnownDataTypeConverter`, including hexadecimal floats, `NaN` and `Infinity`.
+    private static final String NUMERIC_OR_TEMPORAL_CHARACTERS = "0123456789+-.,:eEfFdDxXpPaAbBcCTNInity";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            //                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
+            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            .toFormatter();
+
+    private static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+            .toFormatter();
+
+    private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
     @Deprecated(
             since =
                     "With the implementation of Data Type handling this function is marked as deprecated and is discouraged for further use")
@@ -67,7 +85,12 @@ public class DataTypeStringUtils {
             return DataType.NULL;
         }
 
-        String strNumericValue = input.trim().replaceAll(",", "");
+        String strNumericValue = input.trim().replace(",", "");
+
+        DataType simpleValueDataType = getDataTypeOfSimpleValue(input, strNumericValue);
+        if (simpleValueDataType != null) {
+            return simpleValueDataType;
+        }
 
         if (input.startsWith("[") && input.endsWith("]")) {
             String betweenBraces = input.substring(1, input.length() - 1);
@@ -119,31 +142,21 @@ public class DataTypeStringUtils {
         }
 
         try {
-            final DateTimeFormatter dateTimeFormatter = new DateTimeFormatterBuilder()
-                    //                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
-                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-                    .toFormatter();
-            LocalDateTime.parse(input, dateTimeFormatter);
+            LocalDateTime.parse(input, TIMESTAMP_FORMATTER);
             return DataType.TIMESTAMP;
         } catch (DateTimeParseException ex) {
             // Not timestamp
         }
 
         try {
-            final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
-                    .toFormatter();
-            LocalDate.parse(input, dateFormatter);
+            LocalDate.parse(input, DATE_FORMATTER);
             return DataType.DATE;
         } catch (DateTimeParseException ex) {
             // Not date
         }
 
         try {
-            final DateTimeFormatter timeFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
-                    .toFormatter();
-            LocalTime.parse(input, timeFormatter);
+            LocalTime.parse(input, TIME_FORMATTER);
             return DataType.TIME;
         } catch (DateTimeParseException ex) {
             // Not time
@@ -189,6 +202,105 @@ public class DataTypeStringUtils {
         return DataType.STRING;
     }
 
+    /**
+     * Detects the data type of the most common shapes of values, i.e. small integers, plain decimals, booleans and
+     * text like names or email addresses, without going through the parsers in `stringToKnownDataTypeConverter`.
+     * Those parsers report a mismatch with an exception, which makes detecting the type of a plain text value
+     * expensive.
+     *
+     * @return the detected data type, or null if the value needs to go through the regular detection
+     */
+    private static DataType getDataTypeOfSimpleValue(String input, String strNumericValue) {
+        if (input.startsWith("[")) {
+            return null;
+        }
+
+        int digits = 0;
+        int decimalPoints = 0;
+        for (int i = 0; i < strNumericValue.length(); i++) {
+            char c = strNumericValue.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.') {
+                decimalPoints++;
+            } else if (i != 0 || (c != '-' && c != '+')) {
+                digits = -1;
+                break;
+            }
+        }
+
+        if (digits > 0 && decimalPoints == 0 && digits <= 9) {
+            return DataType.INTEGER;
+        }
+
+        if (digits > 0 && decimalPoints == 1) {
+            return DataType.FLOAT;
+        }
+
+        String copyInput = input.toLowerCase().trim();
+        if (copyInput.equals("true") || copyInput.equals("false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (copyInput.equals("null")) {
+            return DataType.NULL;
+        }
+
+        try {
+            if (hasShape(input, "dddd-dd-dd")) {
+                LocalDate.parse(input, DATE_FORMATTER);
+                return DataType.DATE;
+            }
+            if (hasShape(input, "dddd-dd-dd dd:dd:dd")) {
+                LocalDateTime.parse(input, TIMESTAMP_FORMATTER);
+                return DataType.TIMESTAMP;
+            }
+        } catch (DateTimeParseException e) {
+            // Not a valid date, e.g. 2021-02-30
+            return null;
+        }
+
+        int start = 0;
+        while (start < input.length() && (input.charAt(start) <= ' ' || Character.isWhitespace(input.charAt(start)))) {
+            start++;
+        }
+        if (start < input.length() && input.charAt(start) == '{') {
+            // Could be a JSON object or a BSON document
+            return null;
+        }
+
+        for (int i = start; i < input.length(); i++) {
+            char c = input.charAt(i);
+            // Digits of other scripts, e.g. Arabic-Indic ones, are parsed as numbers too
+            if (c > ' ' && NUMERIC_OR_TEMPORAL_CHARACTERS.indexOf(c) < 0 && !Character.isDigit(c)) {
+                // Can neither be a number, nor a date or a time
+                return DataType.STRING;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks that the input matches the given shape, where `d` stands for any digit and every other character of the
+     * shape has to be matched as is.
+     */
+    private static boolean hasShape(String input, String shape) {
+        if (input.length() != shape.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < shape.length(); i++) {
+            char c = input.charAt(i);
+            boolean isMatch = shape.charAt(i) == 'd' ? c >= '0' && c <= '9' : c == shape.charAt(i);
+            if (!isMatch) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      *
      * @param input input string which has a mustache expression that will be substituted by the replacement value
@@ -302,26 +414,28 @@ public class DataTypeStringUtils {
         return true;
     }
 
+    /**
+     * Checks whether the data is a list of objects, looking at each item only as far as its type and stopping at the
+     * first one that isn't an object.
+     */
     private static boolean isDisplayTypeTable(Object data) {
         if (data instanceof List) {
             // Check if the data is a list of json objects
             return ((List) data).stream().allMatch(item -> item instanceof Map);
-        } else if (data instanceof JsonNode) {
+        } else if (data instanceof JsonNode jsonNode) {
             // Check if the data is an array of json objects
-            try {
-                objectMapper.convertValue(data, new TypeReference<List<Map<String, Object>>>() {});
+            if (jsonNode.isNull() || jsonNode.isMissingNode()) {
                 return true;
-            } catch (IllegalArgumentException e) {
-                return false;
             }
-        } else if (data instanceof String) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.readValue((String) data, new TypeReference<List<Map<String, Object>>>() {});
-                return true;
-            } catch (IOException e) {
+            if (!jsonNode.isArray()) {
                 return false;
             }
+            for (JsonNode item : jsonNode) {
+                if (!item.isObject() && !item.isNull()) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         return false;
@@ -332,18 +446,50 @@ public class DataTypeStringUtils {
          * - Any non string non primitive object is converted into a json when serializing.
          * - https://stackoverflow.com/questions/25039080/java-how-to-determine-if-type-is-any-of-primitive-wrapper-string-or-something/25039320
          */
-        if (!isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String)) {
-            return true;
-        } else if (data instanceof String) {
-            try {
-                objectMapper.readTree((String) data);
-                return true;
-            } catch (IOException e) {
-                return false;
+        return !isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String);
+    }
+
+    /**
+     * Finds the display types of a string in a single pass over its JSON tokens, without building any objects out of
+     * it. The string is a table if it is an array of json objects, and a json if it is a valid json value. Anything
+     * after the first json value is ignored, the way {@link ObjectMapper#readTree(String)} does.
+     */
+    private static List<ParsedDataType> getDisplayDataTypesOfString(String data) {
+        List<ParsedDataType> dataTypes = new ArrayList<>();
+        boolean isTable = false;
+        boolean isJson = false;
+
+        try (JsonParser parser = objectMapper.createParser(data)) {
+            JsonToken token = parser.nextToken();
+            isTable = token == JsonToken.START_ARRAY || token == JsonToken.VALUE_NULL;
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IOException("Unexpected end of array");
+                    }
+                    if (token != JsonToken.START_OBJECT && token != JsonToken.VALUE_NULL) {
+                        isTable = false;
+                    }
+                    // Still read the rest of the array, to know whether it's a valid json
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
             }
+            isJson = true;
+        } catch (IOException e) {
+            isTable = false;
         }
 
-        return false;
+        if (isTable) {
+            dataTypes.add(new ParsedDataType(DisplayDataType.TABLE));
+        }
+        if (isJson) {
+            dataTypes.add(new ParsedDataType(DisplayDataType.JSON));
+        }
+        dataTypes.add(new ParsedDataType(DisplayDataType.RAW));
+
+        return dataTypes;
     }
 
     public static List<ParsedDataType> getDisplayDataTypes(Object data) {
@@ -352,6 +498,10 @@ public class DataTypeStringUtils {
             return new ArrayList<>();
         }
 
+        if (data instanceof String stringData) {
+            return getDisplayDataTypesOfString(stringData);
+        }
+
         List<ParsedDataType> dataTypes = new ArrayList<>();
 
         // Check if the data is a valid table.
@@ -0,0 +1,216 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the schedulers that plugins, and other modules such as git, run their blocking work on. Each name gets its own
+ * bounded elastic scheduler, so that a slow datasource can only use up the threads of its own plugin, instead of the
+ * ones that every plugin and git operation share in {@link Schedulers#boundedElastic()}.
+ * <p>
+ * The number of threads and of queued tasks of each scheduler can be set with the
+ * {@code APPSMITH_SCHEDULER_<NAME>_THREADS} and {@code APPSMITH_SCHEDULER_<NAME>_QUEUE_SIZE} environment variables,
+ * and otherwise default to the ones of {@link Schedulers#boundedElastic()}.
+ * <p>
+ * The active, pending and completed tasks of the schedulers, and the tasks they have rejected because their queue was
+ * full, are published to the global Micrometer registry as appsmith.scheduler.tasks.*, tagged with their name.
+ */
+@Slf4j
+public class DedicatedSchedulers {
+
+    // Reactor adds .scheduler.tasks.active, .scheduler.tasks.pending etc. to it
+    private static final String METRICS_PREFIX = "appsmith";
+
+    static final String REJECTED_TASKS_METRIC = "appsmith.scheduler.tasks.rejected";
+
+    private static final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the scheduler with the given name, creating it the first time it's asked for.
+     *
+     * @param name : short name of the plugin or module the scheduler is for, e.g. postgres or git
+     */
+    public static Scheduler get(String name) {
+        return schedulers.computeIfAbsent(name, DedicatedSchedulers::create);
+    }
+
+    private static Scheduler create(String name) {
+        final int threadCap = getConfiguredSize(name, "THREADS", Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE);
+        final int queuedTaskCap = getConfiguredSize(name, "QUEUE_SIZE", Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE);
+        log.debug("Creating scheduler {} with {} threads and {} queued tasks", name, threadCap, queuedTaskCap);
+
+        return create(name, threadCap, queuedTaskCap, Metrics.globalRegistry);
+    }
+
+    static Scheduler create(String name, int threadCap, int queuedTaskCap, MeterRegistry meterRegistry) {
+        final Tags tags = Tags.of("name", name);
+        final Scheduler boundedScheduler = Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "appsmith-" + name);
+        final Scheduler timedScheduler =
+                Micrometer.timedScheduler(boundedScheduler, meterRegistry, METRICS_PREFIX, tags);
+        final Counter rejectedTasks = Counter.builder(REJECTED_TASKS_METRIC)
+                .description("Tasks rejected because all the threads of the scheduler were busy and its queue was full")
+                .tags(tags)
+                .register(meterRegistry);
+
+        return new RejectionCountingScheduler(timedScheduler, rejectedTasks);
+    }
+
+    private static int getConfiguredSize(String name, String setting, int defaultSize) {
+        final String variableName =
+                "APPSMITH_SCHEDULER_" + name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_") + "_" + setting;
+        final String value = System.getenv(variableName);
+        if (value == null || value.isBlank()) {
+            return defaultSize;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid value {} of {}, using {} instead", value, variableName, defaultSize);
+            return defaultSize;
+        }
+    }
+
+    /**
+     * Counts the tasks that the scheduler it wraps, or any of its workers, rejects.
+     */
+    private static class RejectionCountingScheduler implements Scheduler {
+        private final Scheduler delegate;
+        private final Counter rejectedTasks;
+
+        RejectionCountingScheduler(Scheduler delegate, Counter rejectedTasks) {
+            this.delegate = delegate;
+            this.rejectedTasks = rejectedTasks;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            try {
+                return delegate.schedule(task);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            try {
+                return delegate.schedule(task, delay, unit);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            try {
+                return delegate.schedulePeriodically(task, initialDelay, period, unit);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public long now(TimeUnit unit) {
+            return delegate.now(unit);
+        }
+
+        @Override
+        public Worker createWorker() {
+            return new RejectionCountingWorker(delegate.createWorker(), rejectedTasks);
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public Mono<Void> disposeGracefully() {
+            return delegate.disposeGracefully();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate.isDisposed();
+        }
+
+        @Override
+        public void init() {
+            delegate.init();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void start() {
+            delegate.start();
+        }
+    }
+
+    private static class RejectionCountingWorker implements Scheduler.Worker {
+        private final Scheduler.Worker delegate;
+        private final Counter rejectedTasks;
+
+        RejectionCountingWorker(Scheduler.Worker delegate, Counter rejectedTasks) {
+            this.delegate = delegate;
+            this.rejectedTasks = rejectedTasks;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            try {
+                return delegate.schedule(task);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            try {
+                return delegate.schedule(task, delay, unit);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            try {
+                return delegate.schedulePeriodically(task, initialDelay, period, unit);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate.isDisposed();
+        }
+    }
+}
@@ -71,6 +71,22 @@ public class MustacheHelper {
     public static final int EXECUTABLE_ENTITY_REFERENCES = 0b01;
     public static final int WIDGET_ENTITY_REFERENCES = 0b10;
 
+    // Tokenizing and extracting references from the same action bodies and widget DSL strings happens on every layout
+    // update, hence the results are memoized by the content of the string. The bounds are on the total length of the
+    // cached strings, see TemplateCache.
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 256 * 1024;
+    private static final long MAX_CACHED_TEMPLATES_TOTAL_LENGTH = 8 * 1024 * 1024;
+    private static final long MAX_CACHED_BINDINGS_TOTAL_LENGTH = 2 * 1024 * 1024;
+
+    private static final TemplateCache<List<MustacheBindingToken>> tokensCache =
+            new TemplateCache<>("mustache.tokens", MAX_CACHED_TEMPLATE_LENGTH, MAX_CACHED_TEMPLATES_TOTAL_LENGTH);
+    private static final TemplateCache<Set<MustacheBindingToken>> keysCache =
+            new TemplateCache<>("mustache.keys", MAX_CACHED_TEMPLATE_LENGTH, MAX_CACHED_TEMPLATES_TOTAL_LENGTH);
+    private static final TemplateCache<Set<String>> possibleParentsCache = new TemplateCache<>(
+            "mustache.possibleParents", MAX_CACHED_TEMPLATE_LENGTH, MAX_CACHED_BINDINGS_TOTAL_LENGTH);
+    private static final TemplateCache<Set<String>> possibleParentsOldCache = new TemplateCache<>(
+            "mustache.possibleParentsOld", MAX_CACHED_TEMPLATE_LENGTH, MAX_CACHED_BINDINGS_TOTAL_LENGTH);
+
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
      *
@@ -84,6 +100,17 @@ public class MustacheHelper {
             return Collections.emptyList();
         }
 
+        if (!template.contains("{{")) {
+            // Without a `{{`, the parser never leaves plain-text-mode, so the whole template is a single token.
+            List<MustacheBindingToken> tokens = new ArrayList<>(1);
+            tokens.add(new MustacheBindingToken(template, 0, false));
+            return tokens;
+        }
+
+        return new ArrayList<>(tokensCache.get(template, key -> List.copyOf(tokenizeTemplate(key))));
+    }
+
+    private static List<MustacheBindingToken> tokenizeTemplate(String template) {
         List<MustacheBindingToken> tokens = new ArrayList<>();
 
         int length = template.length();
@@ -185,9 +212,22 @@ public class MustacheHelper {
      * trimmed.
      */
     public static Set<MustacheBindingToken> extractMustacheKeys(String template) {
+        return new HashSet<>(getMustacheKeys(template));
+    }
+
+    // Returns the shared, memoized set of keys, which must not be modified by the callers.
+    private static Set<MustacheBindingToken> getMustacheKeys(String template) {
+        if (template == null || !template.contains("{{")) {
+            return Collections.emptySet();
+        }
+
+        return keysCache.get(template, key -> Set.copyOf(computeMustacheKeys(key)));
+    }
+
+    private static Set<MustacheBindingToken> computeMustacheKeys(String template) {
         Set<MustacheBindingToken> keys = new HashSet<>();
 
-        for (MustacheBindingToken token : tokenize(template)) {
+        for (MustacheBindingToken token : tokenizeTemplate(template)) {
             if (token.getValue().startsWith("{{") && token.getValue().endsWith("}}")) {
                 // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
                 // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
@@ -253,7 +293,7 @@ public class MustacheHelper {
                 processQueue.addAll(((Map) obj).values());
 
             } else if (obj instanceof String) {
-                keys.addAll(extractMustacheKeys((String) obj));
+                keys.addAll(getMustacheKeys((String) obj));
             }
         }
 
@@ -490,6 +530,11 @@ public class MustacheHelper {
      * @return A set of identified references from the mustache binding value
      */
     public static Set<String> getPossibleParentsOld(String mustacheKey) {
+        return new HashSet<>(
+                possibleParentsOldCache.get(mustacheKey, key -> Set.copyOf(computePossibleParentsOld(key))));
+    }
+
+    private static Set<String> computePossibleParentsOld(String mustacheKey) {
         Set<String> bindingNames = new HashSet<>();
         String key = mustacheKey.trim();
 
@@ -505,6 +550,10 @@ public class MustacheHelper {
     }
 
     public static Set<String> getPossibleParents(String mustacheKey) {
+        return new HashSet<>(possibleParentsCache.get(mustacheKey, key -> Set.copyOf(computePossibleParents(key))));
+    }
+
+    private static Set<String> computePossibleParents(String mustacheKey) {
         Set<String> bindingNames = new HashSet<>();
         String key = mustacheKey.trim();
 
@@ -0,0 +1,149 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the serialized size of a query result while its rows are being built, so that plugins
+ * can enforce the maximum response size in a single pass over the result set. The estimate approximates the size of
+ * the JSON that would eventually be sent back to the client and is meant to be compared against
+ * {@link com.appsmith.external.services.ce.SharedConfigCE#getMaxResponseSize()}.
+ */
+@Getter
+public class ResultSizeEstimator {
+
+    // Size of `null`, `true` and `false` literals is rounded up to this value.
+    private static final int LITERAL_SIZE = 5;
+
+    // Numbers are estimated at the width of a typical double / long in its string form.
+    private static final int NUMBER_SIZE = 12;
+
+    // Quotes, colon and comma surrounding each key-value pair or array element.
+    private static final int ENTRY_OVERHEAD = 4;
+
+    // Braces or brackets that open and close an object or array.
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    private final long maxSize;
+
+    private long estimatedSize = CONTAINER_OVERHEAD;
+
+    private long rowCount = 0;
+
+    public ResultSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of the given row to the running total.
+     *
+     * @param row : row as it will be placed in the result list
+     * @return the updated estimated size of the result in bytes
+     */
+    public long addRow(Map<String, ?> row) {
+        estimatedSize += estimateSize(row) + ENTRY_OVERHEAD;
+        rowCount++;
+        return estimatedSize;
+    }
+
+    public boolean isLimitExceeded() {
+        return estimatedSize > maxSize;
+    }
+
+    public float getMaxSizeInMb() {
+        return (float) maxSize / (1024 * 1024);
+    }
+
+    /**
+     * Estimates the serialized size of a single value without serializing it. Strings are counted by their length,
+     * containers are walked recursively and any other object falls back to the length of its string form.
+     */
+    public static long estimateSize(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return LITERAL_SIZE;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            return charSequence.length() + CONTAINER_OVERHEAD;
+        }
+
+        if (value instanceof Number) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof byte[] bytes) {
+            // Binary data is serialized as a base64 encoded string.
+            return (bytes.length * 4L) / 3 + CONTAINER_OVERHEAD;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long size = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += String.valueOf(entry.getKey()).length() + ENTRY_OVERHEAD + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long size = CONTAINER_OVERHEAD;
+            for (Object element : collection) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateJsonNodeSize(jsonNode);
+        }
+
+        if (value.getClass().isArray()) {
+            long size = CONTAINER_OVERHEAD;
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                size += estimateSize(Array.get(value, i)) + 1;
+            }
+            return size;
+        }
+
+        return String.valueOf(value).length() + CONTAINER_OVERHEAD;
+    }
+
+    private static long estimateJsonNodeSize(JsonNode jsonNode) {
+        if (jsonNode.isObject()) {
+            long size = CONTAINER_OVERHEAD;
+            Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + ENTRY_OVERHEAD + estimateJsonNodeSize(field.getValue());
+            }
+            return size;
+        }
+
+        if (jsonNode.isArray()) {
+            long size = CONTAINER_OVERHEAD;
+            for (JsonNode element : jsonNode) {
+                size += estimateJsonNodeSize(element) + 1;
+            }
+            return size;
+        }
+
+        if (jsonNode.isTextual()) {
+            return jsonNode.textValue().length() + CONTAINER_OVERHEAD;
+        }
+
+        if (jsonNode.isNumber()) {
+            return NUMBER_SIZE;
+        }
+
+        if (jsonNode.isBinary()) {
+            return estimateSize(jsonNode.asText());
+        }
+
+        return LITERAL_SIZE;
+    }
+}
@@ -0,0 +1,100 @@
+package com.appsmith.external.helpers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.function.Function;
+
+/**
+ * A small, bounded memo for values that are derived purely from the content of a string, like the tokens of a Mustache
+ * template or the references found in a binding. Entries are keyed by the string content itself, so that an unchanged
+ * template that is read again from the database (and hence is a different String instance) is still a hit.
+ * <p>
+ * The cache is bounded by the total length of the cached keys rather than the number of entries, since a handful of
+ * large JS object bodies may otherwise retain a lot of memory. Strings longer than {@code maxKeyLength} are never
+ * cached, and entries are evicted by Caffeine once {@code maxTotalKeyLength} is exceeded.
+ * <p>
+ * Hits, misses and evictions are published to the global Micrometer registry as {@code appsmith.template.cache.*},
+ * tagged with the name of the cache.
+ * <p>
+ * Cached values are shared between callers and hence must never be mutated.
+ */
+public class TemplateCache<V> {
+
+    private static final String METRIC_PREFIX = "appsmith.template.cache";
+
+    private final int maxKeyLength;
+
+    private final Cache<String, V> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public TemplateCache(String name, int maxKeyLength, long maxTotalKeyLength) {
+        this(name, maxKeyLength, maxTotalKeyLength, Metrics.globalRegistry);
+    }
+
+    public TemplateCache(String name, int maxKeyLength, long maxTotalKeyLength, MeterRegistry meterRegistry) {
+        this.maxKeyLength = maxKeyLength;
+
+        this.hitCounter =
+                Counter.builder(METRIC_PREFIX + ".hits").tag("cache", name).register(meterRegistry);
+        this.missCounter =
+                Counter.builder(METRIC_PREFIX + ".misses").tag("cache", name).register(meterRegistry);
+        this.evictionCounter =
+                Counter.builder(METRIC_PREFIX + ".evictions").tag("cache", name).register(meterRegistry);
+
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxTotalKeyLength)
+                .weigher((String key, V value) -> key.length())
+                .evictionListener((key, value, cause) -> evictionCounter.increment())
+                .build();
+
+        Gauge.builder(METRIC_PREFIX + ".size", this, TemplateCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the value cached for the given key, computing it with {@code mappingFunction} on a miss. Concurrent
+     * misses on the same key wait for a single computation of the value.
+     */
+    public V get(String key, Function<String, V> mappingFunction) {
+        if (key.length() > maxKeyLength) {
+            missCounter.increment();
+            return mappingFunction.apply(key);
+        }
+
+        V value = entries.getIfPresent(key);
+        if (value != null) {
+            hitCounter.increment();
+            return value;
+        }
+
+        missCounter.increment();
+        return entries.get(key, mappingFunction);
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+        entries.cleanUp();
+    }
+
+    public double getHitCount() {
+        return hitCounter.count();
+    }
+
+    public double getMissCount() {
+        return missCounter.count();
+    }
+}
@@ -0,0 +1,288 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.SharedConfig;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds one Reactor Netty {@link ConnectionProvider} per datasource so that consecutive REST API and GraphQL
+ * executions against the same datasource reuse pooled (and already TLS handshaked) connections instead of opening a
+ * new pool for every request.
+ * <p>
+ * Plugin executors are created anew for every execution, hence they all use the one registry of the server, see
+ * {@link #getSharedInstance(SharedConfig)}.
+ * <p>
+ * Providers are keyed by the datasource id together with its SSL configuration, so that editing the SSL settings of a
+ * datasource results in a fresh pool. The registry is bounded: the least recently used provider is disposed once
+ * {@code maxProviders} is reached, and providers that have not been used for {@code maxIdleTime} are disposed in the
+ * background every {@code evictionInterval}, by a sweeper that only runs while the registry holds any provider. That
+ * is also how the providers of a datasource that was deleted, or whose SSL settings were changed, are let go of, as
+ * REST API connections are not torn down along with their datasource. Pool metrics are published to the global
+ * Micrometer registry under the {@code reactor.netty.connection.provider} prefix, tagged with the provider name.
+ */
+@Slf4j
+public class ConnectionProviderRegistry {
+
+    private static final String PROVIDER_NAME_PREFIX = "rest-api-provider";
+
+    // Embedded datasources don't have an id. They share a single provider per SSL configuration, Reactor Netty still
+    // maintains a separate pool per remote address within that provider.
+    private static final String EMBEDDED_DATASOURCE_KEY = "embedded";
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+    public static final int DEFAULT_PENDING_ACQUIRE_MAX_COUNT = 500;
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(600);
+    public static final Duration DEFAULT_MAX_LIFE_TIME = Duration.ofSeconds(600);
+    public static final Duration DEFAULT_EVICTION_INTERVAL = Duration.ofSeconds(120);
+    public static final int DEFAULT_MAX_PROVIDERS = 1000;
+
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration evictionInterval;
+    private final int maxProviders;
+
+    // Access ordered, so that iteration starts from the least recently used provider.
+    private final LinkedHashMap<ProviderKey, ProviderEntry> providers = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Disposes the idle providers in the background, only set while there are any providers. Guarded by providers.
+    private Disposable idleProviderSweeper;
+
+    private static ConnectionProviderRegistry sharedInstance;
+
+    private record ProviderEntry(ConnectionProvider provider, long lastAccessedAt) {}
+
+    /**
+     * Identifies a provider by value. The SSL settings are copied into the key, as the datasource configuration they
+     * are read from may be changed after the provider has been created.
+     */
+    private record ProviderKey(
+            String datasourceId,
+            SSLDetails.AuthType authType,
+            SSLDetails.CACertificateType caCertificateType,
+            List<String> certificateFiles) {
+
+        // Used to name the provider, hence leaves out the content of the certificates
+        @Override
+        public String toString() {
+            return datasourceId + ":" + Integer.toHexString(hashCode());
+        }
+    }
+
+    public ConnectionProviderRegistry() {
+        this(
+                DEFAULT_MAX_CONNECTIONS,
+                DEFAULT_PENDING_ACQUIRE_MAX_COUNT,
+                DEFAULT_MAX_IDLE_TIME,
+                DEFAULT_MAX_LIFE_TIME,
+                DEFAULT_EVICTION_INTERVAL,
+                DEFAULT_MAX_PROVIDERS);
+    }
+
+    public ConnectionProviderRegistry(
+            int maxConnections,
+            int pendingAcquireMaxCount,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration evictionInterval,
+            int maxProviders) {
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifeTime = maxLifeTime;
+        this.evictionInterval = evictionInterval;
+        this.maxProviders = maxProviders;
+    }
+
+    /**
+     * Returns the registry shared by all the REST API based plugins of this server. It is created with the settings of
+     * the first caller, which are the same for every caller as they come from the server's {@link SharedConfig}.
+     */
+    public static synchronized ConnectionProviderRegistry getSharedInstance(SharedConfig sharedConfig) {
+        if (sharedInstance == null) {
+            sharedInstance = new ConnectionProviderRegistry(
+                    sharedConfig.getRestApiMaxConnectionsPerDatasource(),
+                    sharedConfig.getRestApiPendingAcquireMaxCount(),
+                    Duration.ofSeconds(sharedConfig.getRestApiConnectionMaxIdleTimeInSeconds()),
+                    DEFAULT_MAX_LIFE_TIME,
+                    DEFAULT_EVICTION_INTERVAL,
+                    DEFAULT_MAX_PROVIDERS);
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Same as {@link #getSharedInstance(SharedConfig)}, with the default settings if the shared registry has not been
+     * created yet.
+     */
+    public static synchronized ConnectionProviderRegistry getSharedInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new ConnectionProviderRegistry();
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Returns the connection provider for the given datasource, creating it if this is the first execution against
+     * the datasource (or the first one since its SSL configuration changed).
+     *
+     * @param datasourceId            : id of the datasource, null for embedded datasources
+     * @param datasourceConfiguration : configuration of the datasource, used to key the provider by SSL settings
+     * @return a shared connection provider
+     */
+    public ConnectionProvider getConnectionProvider(
+            String datasourceId, DatasourceConfiguration datasourceConfiguration) {
+        final ProviderKey key = getProviderKey(datasourceId, datasourceConfiguration);
+        final long now = System.currentTimeMillis();
+
+        synchronized (providers) {
+            evictIdleProviders(now);
+
+            ProviderEntry entry = providers.get(key);
+            if (entry == null) {
+                if (providers.size() >= maxProviders) {
+                    evictLeastRecentlyUsedProvider();
+                }
+                entry = new ProviderEntry(createConnectionProvider(key), now);
+            } else {
+                entry = new ProviderEntry(entry.provider(), now);
+            }
+            providers.put(key, entry);
+            startIdleProviderSweeperIfNeeded();
+
+            return entry.provider();
+        }
+    }
+
+    public int size() {
+        synchronized (providers) {
+            return providers.size();
+        }
+    }
+
+    /**
+     * Disposes all the providers, and stops the background sweeper.
+     */
+    public void dispose() {
+        synchronized (providers) {
+            providers.forEach(this::disposeProvider);
+            providers.clear();
+            stopIdleProviderSweeperIfIdle();
+        }
+    }
+
+    boolean isIdleProviderSweeperRunning() {
+        synchronized (providers) {
+            return idleProviderSweeper != null;
+        }
+    }
+
+    protected ConnectionProvider createConnectionProvider(ProviderKey key) {
+        log.debug("Creating REST API connection provider for key {}", key);
+        return ConnectionProvider.builder(PROVIDER_NAME_PREFIX + "-" + key)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+    }
+
+    private ProviderKey getProviderKey(String datasourceId, DatasourceConfiguration datasourceConfiguration) {
+        SSLDetails sslDetails = null;
+        if (datasourceConfiguration != null && datasourceConfiguration.getConnection() != null) {
+            sslDetails = datasourceConfiguration.getConnection().getSsl();
+        }
+
+        final String keyDatasourceId = datasourceId == null ? EMBEDDED_DATASOURCE_KEY : datasourceId;
+        if (sslDetails == null) {
+            return new ProviderKey(keyDatasourceId, null, null, List.of());
+        }
+
+        // Name and content of every certificate or key file, in a fixed order
+        final List<String> certificateFiles = new ArrayList<>();
+        for (UploadedFile file : Arrays.asList(
+                sslDetails.getKeyFile(),
+                sslDetails.getCertificateFile(),
+                sslDetails.getCaCertificateFile(),
+                sslDetails.getClientCACertificateFile(),
+                sslDetails.getClientKeyCertificateFile(),
+                sslDetails.getServerCACertificateFile())) {
+            certificateFiles.add(file == null ? null : file.getName());
+            certificateFiles.add(file == null ? null : file.getBase64Content());
+        }
+
+        return new ProviderKey(
+                keyDatasourceId,
+                sslDetails.getAuthType(),
+                sslDetails.getCaCertificateType(),
+                Collections.unmodifiableList(certificateFiles));
+    }
+
+    private void startIdleProviderSweeperIfNeeded() {
+        if (idleProviderSweeper == null) {
+            idleProviderSweeper = Flux.interval(evictionInterval, evictionInterval)
+                    .subscribe(tick -> {
+                        synchronized (providers) {
+                            evictIdleProviders(System.currentTimeMillis());
+                        }
+                    });
+        }
+    }
+
+    private void stopIdleProviderSweeperIfIdle() {
+        if (providers.isEmpty() && idleProviderSweeper != null) {
+            idleProviderSweeper.dispose();
+            idleProviderSweeper = null;
+        }
+    }
+
+    private void evictIdleProviders(long now) {
+        // A provider that has not been used for as long as its connections may stay idle does not hold any live
+        // connection anymore, hence it is safe to get rid of it.
+        final long idleThreshold = now - maxIdleTime.toMillis();
+        Iterator<Map.Entry<ProviderKey, ProviderEntry>> iterator =
+                providers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ProviderKey, ProviderEntry> entry = iterator.next();
+            if (entry.getValue().lastAccessedAt() >= idleThreshold) {
+                // Entries are in access order, so the remaining ones have been used even more recently.
+                break;
+            }
+            disposeProvider(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        stopIdleProviderSweeperIfIdle();
+    }
+
+    private void evictLeastRecentlyUsedProvider() {
+        Iterator<Map.Entry<ProviderKey, ProviderEntry>> iterator =
+                providers.entrySet().iterator();
+        if (iterator.hasNext()) {
+            Map.Entry<ProviderKey, ProviderEntry> eldest = iterator.next();
+            disposeProvider(eldest.getKey(), eldest.getValue());
+            iterator.remove();
+        }
+    }
+
+    private void disposeProvider(ProviderKey key, ProviderEntry entry) {
+        log.debug("Disposing REST API connection provider for key {}", key);
+        entry.provider().disposeLater().subscribe();
+    }
+}
@@ -17,7 +17,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.NoArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -38,7 +37,6 @@ import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -48,7 +46,6 @@ import java.util.Set;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
-@NoArgsConstructor
 public class RestAPIActivateUtils {
 
     public static final String SIGNATURE_HEADER_NAME = "X-APPSMITH-SIGNATURE";
@@ -62,6 +59,16 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    protected ConnectionProviderRegistry connectionProviderRegistry;
+
+    public RestAPIActivateUtils() {
+        this(ConnectionProviderRegistry.getSharedInstance());
+    }
+
+    public RestAPIActivateUtils(ConnectionProviderRegistry connectionProviderRegistry) {
+        this.connectionProviderRegistry = connectionProviderRegistry;
+    }
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -246,7 +253,15 @@ public class RestAPIActivateUtils {
 
     public WebClient.Builder getWebClientBuilder(
             ActionConfiguration actionConfiguration, DatasourceConfiguration datasourceConfiguration) {
-        HttpClient httpClient = getHttpClient(datasourceConfiguration, actionConfiguration.getHttpVersion());
+        return getWebClientBuilder(actionConfiguration, datasourceConfiguration, null);
+    }
+
+    public WebClient.Builder getWebClientBuilder(
+            ActionConfiguration actionConfiguration,
+            DatasourceConfiguration datasourceConfiguration,
+            String datasourceId) {
+        HttpClient httpClient =
+                getHttpClient(datasourceConfiguration, actionConfiguration.getHttpVersion(), datasourceId);
         WebClient.Builder webClientBuilder = WebClientUtils.builder(httpClient);
         addAllHeaders(webClientBuilder, actionConfiguration, datasourceConfiguration);
         addSecretKey(webClientBuilder, datasourceConfiguration);
@@ -301,15 +316,14 @@ public class RestAPIActivateUtils {
                 .forEach(header -> webClientBuilder.defaultHeader(header.getKey(), (String) header.getValue()));
     }
 
-    protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+    protected HttpClient getHttpClient(
+            DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol, String datasourceId) {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
+        // Connections are pooled per datasource, so that consecutive executions skip the TCP and TLS handshakes
+        final ConnectionProvider provider =
+                connectionProviderRegistry.getConnectionProvider(datasourceId, datasourceConfiguration);
 
         HttpClient httpClient = HttpClient.create(provider)
                 .protocol(httpProtocol)
@@ -3,21 +3,21 @@ package com.appsmith.external.models;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
+/**
+ * A token of a Mustache template. Tokens are memoized and shared between callers by {@code MustacheHelper}, hence they
+ * are immutable.
+ */
 @Getter
-@Setter
-@NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
 @ToString
 public class MustacheBindingToken {
 
-    String value;
-    int startIndex;
+    private final String value;
+    private final int startIndex;
     // A token can be with or without handlebars in the value. This boolean value represents the state of the current
     // token.
-    boolean includesHandleBars = false;
+    private final boolean includesHandleBars;
 }
@@ -4,6 +4,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnectionFactory;
+import com.appsmith.external.helpers.restApiUtils.helpers.ConnectionProviderRegistry;
 import com.appsmith.external.helpers.restApiUtils.helpers.DataUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.DatasourceUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HeaderUtils;
@@ -50,7 +51,9 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
         this.dataUtils = new DataUtils();
         this.smartSubstitutionUtils = new SmartSubstitutionUtils();
         this.uriUtils = new URIUtils();
-        this.restAPIActivateUtils = new RestAPIActivateUtils();
+        // Executors are created for every execution, the connection providers are shared by all of them
+        this.restAPIActivateUtils =
+                new RestAPIActivateUtils(ConnectionProviderRegistry.getSharedInstance(sharedConfig));
         this.initUtils = new InitUtils();
         this.headerUtils = new HeaderUtils();
         this.datasourceUtils = new DatasourceUtils();
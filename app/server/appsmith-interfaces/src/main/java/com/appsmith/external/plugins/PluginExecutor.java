@@ -18,6 +18,7 @@ import io.micrometer.observation.ObservationRegistry;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
@@ -247,6 +248,32 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Whether this plugin can stream the rows of a query result with {@link #executeParameterizedRows}. Plugins that
+     * can't are executed with {@link #executeParameterized} instead, and their result is streamed once complete.
+     */
+    default boolean supportsRowStreaming() {
+        return false;
+    }
+
+    /**
+     * Executes the action like {@link #executeParameterized}, but emits the rows of the result one by one as they are
+     * read from the data source, instead of collecting them into an {@link ActionExecutionResult}. Rows are only read
+     * as fast as they are requested, so that a large result never has to be held in memory all at once.
+     * <p>
+     * Failures are signalled as errors of the returned Flux, rather than as an unsuccessful execution result.
+     *
+     * @return Flux of rows, each one a map of column name to value in the order of the columns
+     */
+    default Flux<Map<String, Object>> executeParameterizedRows(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration) {
+        return Flux.error(new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_UNSUPPORTED_OPERATION, "Streaming the rows of a result"));
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
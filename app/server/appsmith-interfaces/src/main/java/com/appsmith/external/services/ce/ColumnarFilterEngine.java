@@ -0,0 +1,922 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * In memory implementation of the UQI where clause, sorting, projection and pagination. The data is loaded into one
+ * typed vector per column (e.g. an {@code int[]} for an INTEGER column along with a null bitmap) and every condition
+ * of the where clause is evaluated as a single pass over its column, producing a bitset of the matching rows.
+ * <p>
+ * The semantics mirror the SQL that {@link FilterDataServiceCE} used to run on H2: values are parsed the same way
+ * as they were bound to the prepared statements, comparisons involving null never match, empty condition values
+ * translate to `IS NULL` / `IS NOT NULL` checks, nulls sort lower than any other value and null cells are returned as
+ * empty strings.
+ */
+public class ColumnarFilterEngine {
+
+    private static final Set<ConditionalOperator> SUPPORTED_OPERATORS = Set.of(
+            ConditionalOperator.LT,
+            ConditionalOperator.LTE,
+            ConditionalOperator.EQ,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GT,
+            ConditionalOperator.GTE,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.IN,
+            ConditionalOperator.NOT_IN);
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
+            DataType.INTEGER, Set.of(),
+            DataType.LONG, Set.of(DataType.INTEGER),
+            DataType.FLOAT, Set.of(DataType.INTEGER, DataType.LONG),
+            DataType.DOUBLE, Set.of(DataType.INTEGER, DataType.LONG, DataType.FLOAT),
+            DataType.BOOLEAN, Set.of(),
+            DataType.STRING,
+                    Set.of(
+                            DataType.INTEGER,
+                            DataType.LONG,
+                            DataType.FLOAT,
+                            DataType.DOUBLE,
+                            DataType.BOOLEAN,
+                            DataType.DATE,
+                            DataType.TIME,
+                            DataType.TIMESTAMP),
+            DataType.DATE, Set.of(),
+            DataType.TIMESTAMP, Set.of());
+
+    private static final DateTimeFormatter DATE_PARSER = DateTimeFormatter.ofPattern("uuuu-M-d");
+
+    // Accepts `2021-09-01`, `2021-09-01 10:15`, `2021-09-01 10:15:30` and `2021-09-01 10:15:30.123`
+    private static final DateTimeFormatter DATE_TIME_PARSER = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-M-d")
+            .optionalStart()
+            .appendLiteral(' ')
+            .appendPattern("H:m")
+            .optionalStart()
+            .appendPattern(":s")
+            .optionalStart()
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .optionalEnd()
+            .optionalEnd()
+            .optionalEnd()
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
+            .toFormatter();
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarFilterEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Filters, sorts, projects and paginates the given items.
+     *
+     * @param items                 - data
+     * @param schema                - column names and their data types, as generated by
+     *                              {@link FilterDataServiceCE#generateSchema(ArrayNode, Map)}
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered rows
+     */
+    public List<Map<String, Object>> filter(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        final int rowCount = items.size();
+        final Map<String, ColumnVector> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            columns.put(entry.getKey(), loadColumn(entry.getKey(), entry.getValue(), items, dataTypeConversionMap));
+        }
+
+        BitSet selection = new BitSet(rowCount);
+        selection.set(0, rowCount);
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition) && condition.getValue() instanceof List) {
+            BitSet matches =
+                    evaluateGroup((List<Condition>) condition.getValue(), condition.getOperator(), columns, rowCount);
+            if (matches != null) {
+                selection.and(matches);
+            }
+        }
+
+        Integer[] selectedRows = new Integer[selection.cardinality()];
+        for (int row = selection.nextSetBit(0), i = 0; row >= 0; row = selection.nextSetBit(row + 1), i++) {
+            selectedRows[i] = row;
+        }
+
+        Comparator<Integer> comparator = getSortComparator(uqiDataFilterParams.getSortBy(), columns);
+        if (comparator != null) {
+            // Arrays.sort is stable for objects, hence rows with equal sort keys keep their original order.
+            Arrays.sort(selectedRows, comparator);
+        }
+
+        int fromIndex = 0;
+        int toIndex = selectedRows.length;
+        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+        if (!CollectionUtils.isEmpty(paginateBy)) {
+            int limit = getPaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), "20");
+            int offset = getPaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), "0");
+            fromIndex = Math.min(offset, selectedRows.length);
+            toIndex = (int) Math.min((long) fromIndex + limit, selectedRows.length);
+        }
+
+        List<ColumnVector> outputColumns = getProjectedColumns(uqiDataFilterParams.getProjectionColumns(), columns);
+        List<Map<String, Object>> rowsList = new ArrayList<>(Math.max(toIndex - fromIndex, 0));
+        for (int i = fromIndex; i < toIndex; i++) {
+            int row = selectedRows[i];
+            Map<String, Object> rowMap = new LinkedHashMap<>(outputColumns.size());
+            for (ColumnVector column : outputColumns) {
+                // Set null values to empty strings
+                rowMap.put(column.name, column.isNull(row) ? "" : column.getValue(row));
+            }
+            rowsList.add(rowMap);
+        }
+
+        return rowsList;
+    }
+
+    private ColumnVector loadColumn(
+            String name, DataType schemaDataType, ArrayNode items, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = schemaDataType;
+        if (dataTypeConversionMap != null) {
+            dataType = dataTypeConversionMap.getOrDefault(schemaDataType, schemaDataType);
+        }
+
+        final ColumnVector column = createColumn(name, schemaDataType, items.size());
+
+        int row = 0;
+        for (JsonNode item : items) {
+            JsonNode fieldNode = item.get(name);
+            String value = fieldNode == null ? null : fieldNode.asText();
+            if (!isNullCell(value, dataType, dataTypeConversionMap)) {
+                column.set(row, value);
+            }
+            row++;
+        }
+
+        return column;
+    }
+
+    /**
+     * Decides whether a cell is stored as null, in the same manner as values used to be bound while inserting them
+     * into H2: empty values, values that look like `null` and, when a data type conversion map is provided, values that
+     * are not compatible with the data type of the column.
+     */
+    private boolean isNullCell(String value, DataType dataType, Map<DataType, DataType> dataTypeConversionMap) {
+        if (StringUtils.isEmpty(value) || dataType == DataType.NULL) {
+            return true;
+        }
+
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        DataType inputDataType = currentRowDataType;
+        if (dataTypeConversionMap != null) {
+            inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        }
+
+        if (DataType.NULL.equals(inputDataType)) {
+            return true;
+        }
+
+        return dataTypeConversionMap != null
+                && inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType);
+    }
+
+    private ColumnVector createColumn(String name, DataType dataType, int rowCount) {
+        if (dataType == null) {
+            return new StringColumn(name, rowCount);
+        }
+
+        return switch (dataType) {
+            case INTEGER -> new IntColumn(name, rowCount);
+            case LONG -> new LongColumn(name, rowCount);
+            case FLOAT -> new FloatColumn(name, rowCount);
+            case DOUBLE -> new DoubleColumn(name, rowCount);
+            case BOOLEAN -> new BooleanColumn(name, rowCount);
+            case DATE -> new DateColumn(name, rowCount);
+            case TIMESTAMP -> new TimestampColumn(name, rowCount);
+            case NULL -> new NullColumn(name, rowCount);
+                // The data type recognized does not have a native support in appsmith right now, default to String
+            default -> new StringColumn(name, rowCount);
+        };
+    }
+
+    /**
+     * Evaluates a list of conditions joined by the given logical operator.
+     *
+     * @return matching rows, or null if the group does not contain any condition, i.e. it does not filter anything
+     */
+    private BitSet evaluateGroup(
+            List<Condition> conditions, ConditionalOperator logicOp, Map<String, ColumnVector> columns, int rowCount) {
+
+        BitSet result = null;
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            BitSet matches;
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                matches = evaluateGroup((List<Condition>) condition.getValue(), operator, columns, rowCount);
+            } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                matches = evaluateCondition(condition, columns, rowCount);
+            } else {
+                matches = null;
+            }
+
+            if (matches == null) {
+                continue;
+            }
+
+            if (result == null) {
+                result = matches;
+            } else if (logicOp == ConditionalOperator.OR) {
+                result.or(matches);
+            } else {
+                result.and(matches);
+            }
+        }
+
+        return result;
+    }
+
+    private BitSet evaluateCondition(Condition condition, Map<String, ColumnVector> columns, int rowCount) {
+        final String path = condition.getPath();
+        final ConditionalOperator operator = condition.getOperator();
+        final String value = (String) condition.getValue();
+
+        ColumnVector column = columns.get(path);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + path + "\" not found");
+        }
+
+        BitSet matches = new BitSet(rowCount);
+
+        if (value == null || value.equals(StringUtils.EMPTY)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                for (int row = 0; row < rowCount; row++) {
+                    if (column.isNull(row)) {
+                        matches.set(row);
+                    }
+                }
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                for (int row = 0; row < rowCount; row++) {
+                    if (!column.isNull(row)) {
+                        matches.set(row);
+                    }
+                }
+            } else {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator + " is not supported currently for filtering.");
+            }
+            return matches;
+        }
+
+        if (!SUPPORTED_OPERATORS.contains(operator)) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    operator + " is not supported currently for filtering.");
+        }
+
+        switch (operator) {
+            case IN, NOT_IN -> evaluateInCondition(column, operator, value, matches, rowCount);
+            case CONTAINS -> column.contains(value, matches, rowCount);
+            default -> {
+                Object literal = column.parseLiteral(value);
+                if (literal == null) {
+                    // Any comparison with null is unknown, and hence never matches.
+                    return matches;
+                }
+                for (int row = 0; row < rowCount; row++) {
+                    if (!column.isNull(row) && isMatch(operator, column.compareTo(row, literal))) {
+                        matches.set(row);
+                    }
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    private void evaluateInCondition(
+            ColumnVector column, ConditionalOperator operator, String value, BitSet matches, int rowCount) {
+        final List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, value + " could not be parsed into an array");
+        }
+
+        List<Object> literals = new ArrayList<>(arrayValues.size());
+        boolean hasNullLiteral = false;
+        for (Object arrayValue : arrayValues) {
+            Object literal = column.parseLiteral(String.valueOf(arrayValue));
+            if (literal == null) {
+                hasNullLiteral = true;
+            } else {
+                literals.add(literal);
+            }
+        }
+
+        final boolean isIn = operator == ConditionalOperator.IN;
+        if (!isIn && arrayValues.isEmpty()) {
+            matches.set(0, rowCount);
+            return;
+        }
+
+        if (!isIn && hasNullLiteral) {
+            // `x NOT IN (.., NULL)` is either false or unknown, hence never matches.
+            return;
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            if (column.isNull(row)) {
+                continue;
+            }
+            boolean found = false;
+            for (Object literal : literals) {
+                if (column.compareTo(row, literal) == 0) {
+                    found = true;
+                    break;
+                }
+            }
+            if (found == isIn) {
+                matches.set(row);
+            }
+        }
+    }
+
+    private static boolean isMatch(ConditionalOperator operator, int comparison) {
+        return switch (operator) {
+            case LT -> comparison < 0;
+            case LTE -> comparison <= 0;
+            case EQ -> comparison == 0;
+            case NOT_EQ -> comparison != 0;
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            default -> false;
+        };
+    }
+
+    private Comparator<Integer> getSortComparator(List<Map<String, String>> sortBy, Map<String, ColumnVector> columns) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(
+                        String.valueOf(sortCondition.get(SORT_BY_TYPE_KEY)).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Appsmith server failed "
+                                + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                                + "to resolve this.");
+            }
+
+            ColumnVector column = getColumn(columnName, columns);
+            Comparator<Integer> columnComparator = (a, b) -> column.compareRows(a, b);
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        return comparator;
+    }
+
+    private List<ColumnVector> getProjectedColumns(List<String> projectionColumns, Map<String, ColumnVector> columns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        List<ColumnVector> outputColumns = new ArrayList<>(projectionColumns.size());
+        for (String columnName : projectionColumns) {
+            outputColumns.add(getColumn(columnName, columns));
+        }
+        return outputColumns;
+    }
+
+    private static ColumnVector getColumn(String columnName, Map<String, ColumnVector> columns) {
+        ColumnVector column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+        return column;
+    }
+
+    /**
+     * Parses the limit or the offset of the pagination condition, blank values fall back to the given default.
+     */
+    private static int getPaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+
+        Integer parsedValue = stringToKnownDataTypeConverter(value) == DataType.NULL
+                ? null
+                : (Integer) parseValue(value, DataType.INTEGER);
+        if (parsedValue == null || parsedValue < 0) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Invalid value " + value + " for pagination");
+        }
+        return parsedValue;
+    }
+
+    /**
+     * Parses a non-empty value as per the given data type. Numbers are allowed to carry thousand separators and
+     * surrounding whitespace.
+     */
+    private static Object parseValue(String value, DataType dataType) {
+        String strNumericValue = value.trim().replace(",", "");
+        try {
+            return switch (dataType) {
+                case INTEGER -> Integer.parseInt(strNumericValue);
+                case LONG -> Long.parseLong(strNumericValue);
+                case FLOAT -> new BigDecimal(strNumericValue).floatValue();
+                case DOUBLE -> new BigDecimal(strNumericValue).doubleValue();
+                case BOOLEAN -> Boolean.parseBoolean(value);
+                case DATE -> LocalDate.parse(value.trim(), DATE_PARSER);
+                case TIMESTAMP -> parseDateTime(value);
+                default -> value;
+            };
+        } catch (DateTimeParseException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + dataType);
+        } catch (IllegalArgumentException e) {
+            // The data type recognized does not match the data type of the value being parsed
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + dataType);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return LocalDateTime.parse(value.trim().replaceFirst("T", " "), DATE_TIME_PARSER);
+    }
+
+    /**
+     * A single column of the data, stored as a typed vector along with a bitmap of null cells.
+     */
+    private abstract static class ColumnVector {
+        final String name;
+        final DataType dataType;
+        final BitSet nulls;
+
+        ColumnVector(String name, DataType dataType, int rowCount) {
+            this.name = name;
+            this.dataType = dataType;
+            this.nulls = new BitSet(rowCount);
+            this.nulls.set(0, rowCount);
+        }
+
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        void set(int row, String value) {
+            setParsed(row, parseValue(value, dataType));
+            nulls.clear(row);
+        }
+
+        /**
+         * Parses a value of the where clause, the same way it would be bound to the query for this column.
+         *
+         * @return the parsed value, or null if the value stands for null
+         */
+        Object parseLiteral(String value) {
+            if (StringUtils.isEmpty(value) || stringToKnownDataTypeConverter(value) == DataType.NULL) {
+                return null;
+            }
+            return parseValue(value, dataType);
+        }
+
+        /**
+         * Marks the rows whose value contains the given text, i.e. `column LIKE '%value%'`. Columns that are not
+         * textual only support this if the pattern can be parsed as per their data type.
+         */
+        void contains(String value, BitSet matches, int rowCount) {
+            Object literal = parseLiteral("%" + value + "%");
+            for (int row = 0; row < rowCount; row++) {
+                if (!isNull(row) && compareTo(row, literal) == 0) {
+                    matches.set(row);
+                }
+            }
+        }
+
+        abstract void setParsed(int row, Object value);
+
+        abstract Object getValue(int row);
+
+        /**
+         * Compares the value at the given non-null row with a value obtained from {@link #parseLiteral(String)}.
+         */
+        abstract int compareTo(int row, Object literal);
+
+        abstract int compareValues(int a, int b);
+
+        int compareRows(int a, int b) {
+            // Nulls are sorted lower than any other value.
+            boolean isNullA = isNull(a);
+            boolean isNullB = isNull(b);
+            if (isNullA || isNullB) {
+                return Boolean.compare(!isNullA, !isNullB);
+            }
+            return compareValues(a, b);
+        }
+    }
+
+    private static class IntColumn extends ColumnVector {
+        private final int[] values;
+
+        IntColumn(String name, int rowCount) {
+            super(name, DataType.INTEGER, rowCount);
+            values = new int[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (Integer) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Integer.compare(values[row], (Integer) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Integer.compare(values[a], values[b]);
+        }
+    }
+
+    private static class LongColumn extends ColumnVector {
+        private final long[] values;
+
+        LongColumn(String name, int rowCount) {
+            super(name, DataType.LONG, rowCount);
+            values = new long[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Long.compare(values[row], (Long) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+    }
+
+    private static class FloatColumn extends ColumnVector {
+        private final float[] values;
+
+        FloatColumn(String name, int rowCount) {
+            super(name, DataType.FLOAT, rowCount);
+            values = new float[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (Float) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Float.compare(values[row], (Float) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Float.compare(values[a], values[b]);
+        }
+    }
+
+    private static class DoubleColumn extends ColumnVector {
+        private final double[] values;
+
+        DoubleColumn(String name, int rowCount) {
+            super(name, DataType.DOUBLE, rowCount);
+            values = new double[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Double.compare(values[row], (Double) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Double.compare(values[a], values[b]);
+        }
+    }
+
+    private static class BooleanColumn extends ColumnVector {
+        private final BitSet values;
+
+        BooleanColumn(String name, int rowCount) {
+            super(name, DataType.BOOLEAN, rowCount);
+            values = new BitSet(rowCount);
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values.set(row, (Boolean) value);
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        void contains(String value, BitSet matches, int rowCount) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + name + "\" of type " + dataType
+                            + " does not support the contains condition");
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Boolean.compare(values.get(row), (Boolean) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Boolean.compare(values.get(a), values.get(b));
+        }
+    }
+
+    private static class StringColumn extends ColumnVector {
+        private final String[] values;
+
+        StringColumn(String name, int rowCount) {
+            super(name, DataType.STRING, rowCount);
+            values = new String[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (String) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        void contains(String value, BitSet matches, int rowCount) {
+            for (int row = 0; row < rowCount; row++) {
+                if (!isNull(row) && values[row].contains(value)) {
+                    matches.set(row);
+                }
+            }
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return values[row].compareTo((String) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+    }
+
+    private static class DateColumn extends ColumnVector {
+        // Days since epoch
+        private final long[] values;
+
+        DateColumn(String name, int rowCount) {
+            super(name, DataType.DATE, rowCount);
+            values = new long[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = ((LocalDate) value).toEpochDay();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return Date.valueOf(LocalDate.ofEpochDay(values[row]));
+        }
+
+        @Override
+        void contains(String value, BitSet matches, int rowCount) {
+            for (int row = 0; row < rowCount; row++) {
+                if (!isNull(row) && LocalDate.ofEpochDay(values[row]).toString().contains(value)) {
+                    matches.set(row);
+                }
+            }
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return Long.compare(values[row], ((LocalDate) literal).toEpochDay());
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+    }
+
+    private static class TimestampColumn extends ColumnVector {
+        private final LocalDateTime[] values;
+
+        TimestampColumn(String name, int rowCount) {
+            super(name, DataType.TIMESTAMP, rowCount);
+            values = new LocalDateTime[rowCount];
+        }
+
+        @Override
+        void setParsed(int row, Object value) {
+            values[row] = (LocalDateTime) value;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return Timestamp.valueOf(values[row]);
+        }
+
+        @Override
+        void contains(String value, BitSet matches, int rowCount) {
+            for (int row = 0; row < rowCount; row++) {
+                if (!isNull(row) && toSqlString(values[row]).contains(value)) {
+                    matches.set(row);
+                }
+            }
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return values[row].compareTo((LocalDateTime) literal);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+
+        private static String toSqlString(LocalDateTime value) {
+            LocalTime time = value.toLocalTime();
+            StringBuilder sb = new StringBuilder(value.toLocalDate().toString())
+                    .append(' ')
+                    .append(TIME_FORMATTER.format(time));
+            if (time.getNano() != 0) {
+                String fraction = String.format("%09d", time.getNano());
+                sb.append('.').append(StringUtils.stripEnd(fraction, "0"));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Column for which the schema could only detect null values. All of its cells are null.
+     */
+    private static class NullColumn extends ColumnVector {
+
+        NullColumn(String name, int rowCount) {
+            super(name, DataType.NULL, rowCount);
+        }
+
+        @Override
+        void set(int row, String value) {
+            // All values of this column are null.
+        }
+
+        @Override
+        Object parseLiteral(String value) {
+            return null;
+        }
+
+        @Override
+        void contains(String value, BitSet matches, int rowCount) {
+            // Nothing matches a null value.
+        }
+
+        @Override
+        void setParsed(int row, Object value) {}
+
+        @Override
+        Object getValue(int row) {
+            return null;
+        }
+
+        @Override
+        int compareTo(int row, Object literal) {
+            return 0;
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return 0;
+        }
+    }
+}
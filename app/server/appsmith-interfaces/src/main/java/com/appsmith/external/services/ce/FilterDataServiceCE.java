@@ -12,6 +12,8 @@ import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -51,9 +53,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_LIMIT_KEY = "limit";
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
+    // Set this environment variable to `true` to filter through the embedded H2 database instead of the columnar
+    // filter engine.
+    private static final String USE_H2_FILTERING_ENV_VARIABLE = "APPSMITH_IN_MEMORY_FILTERING_USE_H2";
+
     private final ObjectMapper objectMapper;
+    private final ColumnarFilterEngine columnarFilterEngine;
     private Connection connection;
 
+    @Getter
+    @Setter
+    private boolean h2FilteringEnabled;
+
     private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
@@ -99,6 +110,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+        h2FilteringEnabled = "true".equalsIgnoreCase(System.getenv(USE_H2_FILTERING_ENV_VARIABLE));
+
+        if (!h2FilteringEnabled) {
+            // The connection to the in memory database gets created lazily, if the fallback is ever switched on.
+            return;
+        }
 
         try {
             connection = DriverManager.getConnection(URL);
@@ -134,6 +152,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        if (!h2FilteringEnabled) {
+            List<Map<String, Object>> finalResults =
+                    columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+            return objectMapper.valueToTree(finalResults);
+        }
+
         String tableName = generateTable(schema);
 
         // insert the data
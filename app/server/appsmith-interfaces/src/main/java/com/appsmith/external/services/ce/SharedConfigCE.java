@@ -1,5 +1,7 @@
 package com.appsmith.external.services.ce;
 
+import com.appsmith.external.helpers.restApiUtils.helpers.ConnectionProviderRegistry;
+
 public interface SharedConfigCE {
 
     int getCodecSize();
@@ -7,4 +9,25 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    /**
+     * Maximum number of pooled HTTP connections kept per datasource by REST API based plugins.
+     */
+    default int getRestApiMaxConnectionsPerDatasource() {
+        return ConnectionProviderRegistry.DEFAULT_MAX_CONNECTIONS;
+    }
+
+    /**
+     * Maximum number of requests that may wait for a pooled HTTP connection before failing fast.
+     */
+    default int getRestApiPendingAcquireMaxCount() {
+        return ConnectionProviderRegistry.DEFAULT_PENDING_ACQUIRE_MAX_COUNT;
+    }
+
+    /**
+     * Time after which idle pooled HTTP connections, and pools that are not used anymore, are evicted.
+     */
+    default int getRestApiConnectionMaxIdleTimeInSeconds() {
+        return (int) ConnectionProviderRegistry.DEFAULT_MAX_IDLE_TIME.getSeconds();
+    }
 }
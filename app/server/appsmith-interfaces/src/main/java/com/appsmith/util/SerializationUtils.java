@@ -1,5 +1,7 @@
 package com.appsmith.util;
 
+import com.appsmith.external.converters.GsonDoubleToLongConverter;
+import com.appsmith.external.converters.GsonUnorderedToOrderedConverter;
 import com.appsmith.external.converters.HttpMethodConverter;
 import com.appsmith.external.converters.ISOStringToInstantConverter;
 import com.appsmith.external.models.DatasourceStructure;
@@ -13,10 +15,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.springframework.boot.autoconfigure.gson.GsonBuilderCustomizer;
 import org.springframework.http.HttpMethod;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
 
 public class SerializationUtils {
 
@@ -28,6 +34,15 @@ public class SerializationUtils {
         HTTP_METHOD_MODULE = new HttpMethodConverter.HttpMethodModule();
     }
 
+    // Gson instances are immutable and thread safe. They are built once and shared, as every new instance has to build
+    // its adapters, and learn about the types it serialises, all over again.
+    private static final Gson PLAIN_GSON = new Gson();
+    private static final Gson DEFAULT_GSON = createDefaultGson();
+    private static final Gson GIT_FILE_GSON = createGitFileGson();
+
+    // Must not be reconfigured by its users, as it is shared
+    private static final ObjectMapper PLAIN_OBJECT_MAPPER = new ObjectMapper();
+
     public static ObjectMapper getBasicObjectMapper(PrettyPrinter prettyPrinter) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper
@@ -70,6 +85,60 @@ public class SerializationUtils {
         };
     }
 
+    /**
+     * Gson with no configuration at all, the same as {@code new Gson()}.
+     */
+    public static Gson getPlainGson() {
+        return PLAIN_GSON;
+    }
+
+    /**
+     * Gson with the type adapters of {@link #typeAdapterRegistration()}, used for artifact JSON such as imports,
+     * exports, snapshots and templates.
+     */
+    public static Gson getDefaultGson() {
+        return DEFAULT_GSON;
+    }
+
+    /**
+     * Gson used for the JSON files in git repositories. The output is pretty printed, whole numbers are written
+     * without a decimal point, and sets and maps are sorted, so that the same resource is always written the same way
+     * and doesn't show up as a change.
+     */
+    public static Gson getGitFileGson() {
+        return GIT_FILE_GSON;
+    }
+
+    /**
+     * ObjectMapper with no configuration at all, the same as {@code new ObjectMapper()}. It is shared, so it must not
+     * be reconfigured.
+     */
+    public static ObjectMapper getPlainObjectMapper() {
+        return PLAIN_OBJECT_MAPPER;
+    }
+
+    private static Gson createDefaultGson() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        typeAdapterRegistration().customize(gsonBuilder);
+        return gsonBuilder.create();
+    }
+
+    private static Gson createGitFileGson() {
+        return new GsonBuilder()
+                // Keep Long type as is by default GSON have behavior to convert to Double
+                .registerTypeAdapter(Double.class, new GsonDoubleToLongConverter())
+                // Convert unordered set to ordered one
+                .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
+                .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
+                .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
+                // Instance creator is required while de-serialising using Gson as key instance can't be invoked
+                // with no-args constructor
+                .registerTypeAdapter(DatasourceStructure.Key.class, new DatasourceStructure.KeyInstanceCreator())
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .create();
+    }
+
     public static ObjectMapper getObjectMapperWithSourceInLocationEnabled() {
         return new ObjectMapper().enable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION.mappedFeature());
     }
@@ -0,0 +1,138 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolFactoryTest {
+
+    private static final ConnectionPoolSettings POSTGRES_DEFAULTS = ConnectionPoolSettings.builder()
+            .pluginName("postgres")
+            .minimumIdle(1)
+            .maximumPoolSize(5)
+            .build();
+
+    @Test
+    public void getSettings_WhenNoOverridesInContext_ReturnsDefaults() {
+        StepVerifier.create(ConnectionPoolFactory.getSettings(POSTGRES_DEFAULTS))
+                .assertNext(settings -> {
+                    assertThat(settings.getMinimumIdle()).isEqualTo(1);
+                    assertThat(settings.getMaximumPoolSize()).isEqualTo(5);
+                    assertThat(settings.isPrewarm()).isFalse();
+                    assertThat(settings.getPoolName()).isEqualTo("appsmith-postgres-unsaved");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getSettings_WhenOverridesInContext_OverridesDefaults() {
+        ConnectionPoolSettings overrides = ConnectionPoolSettings.builder()
+                .datasourceId("datasource-1")
+                .maximumPoolSize(20)
+                .prewarm(true)
+                .build();
+
+        StepVerifier.create(ConnectionPoolFactory.getSettings(POSTGRES_DEFAULTS)
+                        .contextWrite(context -> ConnectionPoolFactory.withSettings(context, overrides)))
+                .assertNext(settings -> {
+                    assertThat(settings.getDatasourceId()).isEqualTo("datasource-1");
+                    assertThat(settings.getMinimumIdle()).isEqualTo(1);
+                    assertThat(settings.getMaximumPoolSize()).isEqualTo(20);
+                    assertThat(settings.isPrewarm()).isTrue();
+                    assertThat(settings.getPoolName()).isEqualTo("appsmith-postgres-datasource-1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void withOverrides_WhenSizesAreInconsistent_KeepsThemConsistent() {
+        ConnectionPoolSettings settings = POSTGRES_DEFAULTS.withOverrides(ConnectionPoolSettings.builder()
+                .minimumIdle(10)
+                .maximumPoolSize(0)
+                .build());
+
+        assertThat(settings.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(settings.getMinimumIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void register_WhenPoolIsRegisteredAndUnregistered_PublishesAndRemovesMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPoolSettings settings = POSTGRES_DEFAULTS.withOverrides(
+                ConnectionPoolSettings.builder().datasourceId("datasource-2").build());
+        AtomicInteger active = new AtomicInteger(3);
+        AtomicInteger pending = new AtomicInteger(0);
+        Object pool = new Object();
+
+        ConnectionPoolFactory.register(
+                pool, settings, ConnectionPoolStats.of(active::get, () -> 2, () -> 5, pending::get), meterRegistry);
+
+        assertThat(meterRegistry
+                        .get(ConnectionPoolFactory.METRIC_PREFIX + ".active")
+                        .tag("datasourceId", "datasource-2")
+                        .tag("plugin", "postgres")
+                        .gauge()
+                        .value())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get(ConnectionPoolFactory.METRIC_PREFIX + ".max")
+                        .tag("datasourceId", "datasource-2")
+                        .gauge()
+                        .value())
+                .isEqualTo(5);
+        assertThat(ConnectionPoolFactory.isInUse("datasource-2")).isTrue();
+
+        active.set(0);
+        assertThat(ConnectionPoolFactory.isInUse("datasource-2")).isFalse();
+        pending.set(1);
+        assertThat(ConnectionPoolFactory.isInUse("datasource-2")).isTrue();
+
+        ConnectionPoolFactory.unregister(pool);
+
+        assertThat(meterRegistry
+                        .find(ConnectionPoolFactory.METRIC_PREFIX + ".active")
+                        .gauges())
+                .isEmpty();
+        assertThat(ConnectionPoolFactory.isInUse("datasource-2")).isFalse();
+    }
+
+    @Test
+    public void prewarm_WhenEnabled_BorrowsAndReleasesMinimumIdleConnections() {
+        ConnectionPoolSettings settings = ConnectionPoolSettings.builder()
+                .minimumIdle(3)
+                .maximumPoolSize(5)
+                .prewarm(true)
+                .build();
+        AtomicInteger borrowed = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+
+        ConnectionPoolFactory.prewarm(settings, () -> {
+            borrowed.incrementAndGet();
+            return released::incrementAndGet;
+        });
+
+        assertThat(borrowed.get()).isEqualTo(3);
+        assertThat(released.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void prewarm_WhenBorrowingFails_ReleasesWhatWasBorrowed() {
+        ConnectionPoolSettings settings =
+                ConnectionPoolSettings.builder().minimumIdle(3).prewarm(true).build();
+        AtomicInteger borrowed = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+
+        ConnectionPoolFactory.prewarm(settings, () -> {
+            if (borrowed.incrementAndGet() > 2) {
+                throw new IllegalStateException("Connection refused");
+            }
+            return released::incrementAndGet;
+        });
+
+        assertThat(released.get()).isEqualTo(2);
+    }
+}
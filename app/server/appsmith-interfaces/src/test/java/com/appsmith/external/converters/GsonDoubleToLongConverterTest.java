@@ -1,4 +1,4 @@
-package com.appsmith.git.converters;
+package com.appsmith.external.converters;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
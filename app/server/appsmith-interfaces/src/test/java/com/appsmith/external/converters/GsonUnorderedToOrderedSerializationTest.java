@@ -1,4 +1,5 @@
-import com.appsmith.git.converters.GsonUnorderedToOrderedConverter;
+package com.appsmith.external.converters;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +67,14 @@ public class DataTypeStringUtilsTest {
         assertThat(dataType).isEqualByComparingTo(DataType.INTEGER);
     }
 
+    @Test
+    public void checkIntegerDataType_withDigitsOfOtherScripts() {
+        // Arabic-Indic digits for 123, which Integer.parseInt accepts
+        String intData = "\u0661\u0662\u0663";
+
+        assertThat(DataTypeStringUtils.stringToKnownDataTypeConverter(intData)).isEqualByComparingTo(DataType.INTEGER);
+    }
+
     @Test
     public void checkSimpleArrayDataType() {
         String arrayData = "[1,2,3,4]";
@@ -254,6 +262,36 @@ public class DataTypeStringUtilsTest {
                 .anyMatch(parsedDataType -> parsedDataType.getDataType().equals(DisplayDataType.TABLE));
     }
 
+    @Test
+    public void testGetDisplayDataTypes_withArrayOfMixedValuesInString_returnsJsonWithoutTable() {
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes("[{\"k\": \"v\"}, 1, [{}]]");
+
+        assertThat(displayDataTypes)
+                .extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+    }
+
+    @Test
+    public void testGetDisplayDataTypes_withInvalidJsonAfterTableRowsInString_returnsOnlyRaw() {
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes("[{\"k\": \"v\"}, {\"k\": }]");
+
+        assertThat(displayDataTypes).extracting(ParsedDataType::getDataType).containsExactly(DisplayDataType.RAW);
+    }
+
+    @Test
+    public void testGetDisplayDataTypes_withArrayNodeOfMixedValues_returnsJsonWithoutTable() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ArrayNode data = objectMapper.createArrayNode();
+        data.add(objectMapper.createObjectNode().put("k", "v"));
+        data.add("v");
+
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes(data);
+
+        assertThat(displayDataTypes)
+                .extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+    }
+
     @Test
     public void
             testJsonSmartReplacementPlaceholderWithValue_withReplacementDataTypeArray_returnsCorrectMultilineString() {
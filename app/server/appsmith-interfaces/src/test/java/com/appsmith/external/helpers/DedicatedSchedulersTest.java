@@ -0,0 +1,68 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DedicatedSchedulersTest {
+
+    @Test
+    public void get_WhenCalledWithSameName_ReturnsSameScheduler() {
+        Scheduler scheduler = DedicatedSchedulers.get("test-same-name");
+
+        assertThat(DedicatedSchedulers.get("test-same-name")).isSameAs(scheduler);
+        assertThat(DedicatedSchedulers.get("test-other-name")).isNotSameAs(scheduler);
+    }
+
+    @Test
+    public void create_WhenSchedulerSaturated_RejectsAndCountsTasks() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Scheduler scheduler = DedicatedSchedulers.create("saturated", 1, 1, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // Keeps the only thread busy, and then fills up the queue
+            scheduler.schedule(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            scheduler.schedule(() -> {});
+
+            assertThatThrownBy(() -> scheduler.schedule(() -> {})).isInstanceOf(RejectedExecutionException.class);
+            StepVerifier.create(Mono.just(1).subscribeOn(scheduler))
+                    .expectError(RejectedExecutionException.class)
+                    .verify();
+
+            assertThat(meterRegistry
+                            .get(DedicatedSchedulers.REJECTED_TASKS_METRIC)
+                            .tag("name", "saturated")
+                            .counter()
+                            .count())
+                    .isEqualTo(2);
+            assertThat(meterRegistry
+                            .get("appsmith.scheduler.tasks.active")
+                            .tag("name", "saturated")
+                            .longTaskTimer()
+                            .activeTasks())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+            scheduler.dispose();
+        }
+    }
+}
@@ -619,4 +619,31 @@ public class MustacheHelperTest {
                         "gtSymbol", "&gt;"));
         assertThat(rendered).isEqualTo("Testing html lt < and gt > symbols");
     }
+
+    @Test
+    public void tokenize_WhenCalledRepeatedlyWithSameContent_ReturnsIndependentEqualLists() {
+        final String template = "Hello {{ Input1.text }} and {{ Query1.data[0].name }}";
+
+        final List<MustacheBindingToken> first = tokenize(template);
+        final List<MustacheBindingToken> expected = List.copyOf(first);
+        assertThat(expected).hasSize(4);
+        first.clear();
+
+        // A different String instance with the same content should get the same tokens, unaffected by the change above.
+        assertThat(tokenize(new String(template))).isEqualTo(expected);
+
+        final Set<MustacheBindingToken> keys = extractMustacheKeys(template);
+        keys.clear();
+        assertThat(extractMustacheKeys(template)).hasSize(2);
+    }
+
+    @Test
+    public void getPossibleParents_WhenCalledRepeatedly_ReturnsIndependentEqualSets() {
+        final Set<String> first = MustacheHelper.getPossibleParents("JSObject1.myFun1(Input1.text)");
+        assertThat(first).containsExactlyInAnyOrder("JSObject1", "JSObject1.myFun1", "Input1", "Input1.text");
+        first.clear();
+
+        assertThat(MustacheHelper.getPossibleParents("JSObject1.myFun1(Input1.text)"))
+                .containsExactlyInAnyOrder("JSObject1", "JSObject1.myFun1", "Input1", "Input1.text");
+    }
 }
@@ -0,0 +1,70 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testAddRow_estimateIsCloseToSerializedJsonSize() throws Exception {
+        ResultSizeEstimator sizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "user name " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("active", i % 2 == 0);
+            row.put("score", i * 1.5);
+            row.put("deleted_at", null);
+            row.put("tags", List.of("a", "bb", "ccc"));
+            rowsList.add(row);
+            sizeEstimator.addRow(row);
+        }
+
+        long serializedSize = objectMapper.writeValueAsBytes(rowsList).length;
+        long estimatedSize = sizeEstimator.getEstimatedSize();
+
+        assertEquals(1000, sizeEstimator.getRowCount());
+        // The estimate is expected to stay in the same ballpark as the actual JSON size.
+        assertTrue(estimatedSize > serializedSize / 2, "Estimate too low: " + estimatedSize);
+        assertTrue(estimatedSize < serializedSize * 2, "Estimate too high: " + estimatedSize);
+    }
+
+    @Test
+    public void testIsLimitExceeded_flipsOnceEstimateCrossesMaxSize() {
+        ResultSizeEstimator sizeEstimator = new ResultSizeEstimator(100);
+        Map<String, Object> row = Map.of("column", "x".repeat(40));
+
+        sizeEstimator.addRow(row);
+        assertFalse(sizeEstimator.isLimitExceeded());
+
+        sizeEstimator.addRow(row);
+        assertTrue(sizeEstimator.isLimitExceeded());
+    }
+
+    @Test
+    public void testEstimateSize_nestedJsonNodeAndArrays() {
+        ObjectNode jsonNode = objectMapper.createObjectNode();
+        jsonNode.put("key", "value");
+        jsonNode.putArray("list").add(1).add(2);
+
+        assertTrue(ResultSizeEstimator.estimateSize(jsonNode)
+                >= jsonNode.toString().length());
+        assertTrue(ResultSizeEstimator.estimateSize(new int[] {1, 2, 3}) > 0);
+        assertTrue(ResultSizeEstimator.estimateSize(new byte[300]) >= 400);
+    }
+}
@@ -0,0 +1,73 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TemplateCacheTest {
+
+    @Test
+    public void get_WhenKeyIsRepeated_ComputesOnceAndCountsHits() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TemplateCache<Integer> cache = new TemplateCache<>("test", 100, 1000, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(new String("{{ Input1.text }}"), key -> {
+                        computations.incrementAndGet();
+                        return key.length();
+                    }))
+                    .isEqualTo(17);
+        }
+
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("appsmith.template.cache.hits")
+                        .tag("cache", "test")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void get_WhenTotalKeyLengthIsExceeded_EvictsDownToTheBoundAndKeepsFrequentKeys() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TemplateCache<String> cache = new TemplateCache<>("test", 10, 20, meterRegistry);
+
+        // The first key is read often, the others only once
+        for (int i = 0; i < 5; i++) {
+            cache.get("aaaaaaaaaa", key -> key);
+        }
+        for (char c = 'b'; c <= 'f'; c++) {
+            cache.get(String.valueOf(c).repeat(10), key -> key);
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("appsmith.template.cache.evictions")
+                        .tag("cache", "test")
+                        .counter()
+                        .count())
+                .isEqualTo(4);
+        AtomicInteger computations = new AtomicInteger();
+        cache.get("aaaaaaaaaa", key -> {
+            computations.incrementAndGet();
+            return key;
+        });
+        assertThat(computations.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_WhenKeyIsLongerThanMaxKeyLength_DoesNotCache() {
+        TemplateCache<String> cache = new TemplateCache<>("test", 5, 100, new SimpleMeterRegistry());
+
+        cache.get("longer than five", key -> key);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,137 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.MockSharedConfig;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionProviderRegistryTest {
+
+    private DatasourceConfiguration getDatasourceConfiguration(SSLDetails.AuthType authType) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(authType);
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetConnectionProvider_sameDatasource_reusesProvider() {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry();
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT);
+
+        ConnectionProvider first = registry.getConnectionProvider("datasource-1", datasourceConfiguration);
+        ConnectionProvider second = registry.getConnectionProvider("datasource-1", datasourceConfiguration);
+
+        assertSame(first, second);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testGetConnectionProvider_differentDatasourceOrSsl_createsNewProvider() {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry();
+
+        ConnectionProvider first =
+                registry.getConnectionProvider("datasource-1", getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT));
+        ConnectionProvider otherDatasource =
+                registry.getConnectionProvider("datasource-2", getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT));
+        ConnectionProvider otherSsl = registry.getConnectionProvider(
+                "datasource-1", getDatasourceConfiguration(SSLDetails.AuthType.NO_VERIFY));
+
+        assertNotSame(first, otherDatasource);
+        assertNotSame(first, otherSsl);
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    public void testGetConnectionProvider_registryFull_disposesLeastRecentlyUsedProvider() {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry(
+                5, 10, Duration.ofSeconds(600), Duration.ofSeconds(600), Duration.ofSeconds(120), 2);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+        ConnectionProvider first = registry.getConnectionProvider("datasource-1", datasourceConfiguration);
+        registry.getConnectionProvider("datasource-2", datasourceConfiguration);
+        registry.getConnectionProvider("datasource-3", datasourceConfiguration);
+
+        assertEquals(2, registry.size());
+        assertTrue(first.isDisposed());
+    }
+
+    @Test
+    public void testIdleProviders_areDisposedInBackground() throws InterruptedException {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry(
+                5, 10, Duration.ofMillis(100), Duration.ofSeconds(600), Duration.ofMillis(50), 10);
+
+        ConnectionProvider provider =
+                registry.getConnectionProvider("datasource-1", getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT));
+
+        // Nothing uses the registry anymore, e.g. because the datasource has been deleted
+        for (int i = 0; i < 100 && registry.size() > 0; i++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(0, registry.size());
+        assertTrue(provider.isDisposed());
+        assertFalse(registry.isIdleProviderSweeperRunning());
+    }
+
+    @Test
+    public void testGetConnectionProvider_keyedBySslSettingsValue() {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry();
+
+        DatasourceConfiguration withCertificate = getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT);
+        withCertificate.getConnection().getSsl().setCertificateFile(new UploadedFile("cert.pem", "certificate-1"));
+        DatasourceConfiguration withSameCertificate = getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT);
+        withSameCertificate.getConnection().getSsl().setCertificateFile(new UploadedFile("cert.pem", "certificate-1"));
+        DatasourceConfiguration withOtherCertificate = getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT);
+        withOtherCertificate.getConnection().getSsl().setCertificateFile(new UploadedFile("cert.pem", "certificate-2"));
+
+        ConnectionProvider first = registry.getConnectionProvider("datasource-1", withCertificate);
+        ConnectionProvider same = registry.getConnectionProvider("datasource-1", withSameCertificate);
+        ConnectionProvider other = registry.getConnectionProvider("datasource-1", withOtherCertificate);
+
+        assertSame(first, same);
+        assertNotSame(first, other);
+
+        // Changing the configuration a provider was created with doesn't change the provider it maps to
+        withCertificate.getConnection().getSsl().setCertificateFile(new UploadedFile("cert.pem", "certificate-2"));
+        assertSame(same, registry.getConnectionProvider("datasource-1", withSameCertificate));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testGetSharedInstance_returnsSameRegistry() {
+        assertSame(
+                ConnectionProviderRegistry.getSharedInstance(new MockSharedConfig()),
+                ConnectionProviderRegistry.getSharedInstance(new MockSharedConfig()));
+    }
+
+    @Test
+    public void testDispose_disposesProvidersAndStopsSweeper() {
+        ConnectionProviderRegistry registry = new ConnectionProviderRegistry();
+        assertFalse(registry.isIdleProviderSweeperRunning());
+
+        ConnectionProvider provider =
+                registry.getConnectionProvider("datasource-1", getDatasourceConfiguration(SSLDetails.AuthType.DEFAULT));
+        assertTrue(registry.isIdleProviderSweeperRunning());
+
+        registry.dispose();
+
+        assertEquals(0, registry.size());
+        assertTrue(provider.isDisposed());
+        assertFalse(registry.isIdleProviderSweeperRunning());
+    }
+}
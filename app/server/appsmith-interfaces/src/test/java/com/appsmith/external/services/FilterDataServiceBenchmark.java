@@ -0,0 +1,111 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares the columnar filter engine with the H2 based filtering on a Google Sheets like data set. This is not run as
+ * part of the test suite, run it from the IDE or with
+ * `mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.appsmith.external.services.FilterDataServiceBenchmark`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    private static final Map<DataType, DataType> DATA_TYPE_CONVERSION_MAP =
+            Map.of(DataType.INTEGER, DataType.DOUBLE, DataType.LONG, DataType.DOUBLE, DataType.FLOAT, DataType.DOUBLE);
+
+    @Param({"1000", "50000"})
+    private int rowCount;
+
+    private ArrayNode items;
+
+    private FilterDataServiceCE columnarFilterDataService;
+
+    private FilterDataServiceCE h2FilterDataService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("rowIndex", String.valueOf(i));
+            item.put("id", String.valueOf(1000000 + i));
+            item.put("email", "user" + i + "@example.com");
+            item.put("productName", "Product " + (i % 97));
+            item.put("orderAmount", String.valueOf((i % 1000) / 10.0));
+            item.put("isPaid", String.valueOf(i % 3 == 0));
+            item.put("date", "2021-09-" + (10 + i % 20));
+        }
+
+        columnarFilterDataService = new FilterDataServiceCE();
+        h2FilterDataService = new FilterDataServiceCE();
+        h2FilterDataService.setH2FilteringEnabled(true);
+    }
+
+    @Benchmark
+    public ArrayNode columnarFilter() {
+        return columnarFilterDataService.filterDataNew(items, getFilterParams(), DATA_TYPE_CONVERSION_MAP);
+    }
+
+    @Benchmark
+    public ArrayNode h2Filter() {
+        return h2FilterDataService.filterDataNew(items, getFilterParams(), DATA_TYPE_CONVERSION_MAP);
+    }
+
+    private static UQIDataFilterParams getFilterParams() {
+        List<Condition> conditions = List.of(
+                new Condition("orderAmount", ConditionalOperator.GTE, "25", null),
+                new Condition("productName", ConditionalOperator.CONTAINS, "Product 1", null),
+                new Condition("isPaid", ConditionalOperator.EQ, "true", null));
+        Condition where = new Condition(null, ConditionalOperator.AND, conditions, null);
+
+        return new UQIDataFilterParams(
+                Condition.addValueDataType(where),
+                List.of("id", "email", "orderAmount", "date"),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "Descending")),
+                Map.of(PAGINATE_LIMIT_KEY, "100", PAGINATE_OFFSET_KEY, "0"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FilterDataServiceBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -5,12 +5,14 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -25,6 +27,7 @@ import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLU
 import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1336,4 +1339,183 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataNew_columnarEngine_returnsSameResultsAsH2Engine() {
+        String data = "[\n" + "  {\n"
+                + "    \"id\": 2381224,\n"
+                + "    \"email\": \"michael.lawson@reqres.in\",\n"
+                + "    \"productName\": \"Chicken Sandwich\",\n"
+                + "    \"orderAmount\": 4.99,\n"
+                + "    \"isPaid\": true,\n"
+                + "    \"date\": \"2021-09-01\",\n"
+                + "    \"updatedAt\": \"2021-09-01 00:01:00\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": \"\",\n"
+                + "    \"email\": \"lindsay.ferguson@reqres.in\",\n"
+                + "    \"productName\": \"Tuna_Salad\",\n"
+                + "    \"orderAmount\": 9.99,\n"
+                + "    \"isPaid\": false,\n"
+                + "    \"date\": \"2021-09-02\",\n"
+                + "    \"updatedAt\": \"\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 6788734,\n"
+                + "    \"email\": \"\",\n"
+                + "    \"productName\": \"Beef steak\",\n"
+                + "    \"orderAmount\": \"1,019.99\",\n"
+                + "    \"isPaid\": \"\",\n"
+                + "    \"date\": \"2021-09-03\",\n"
+                + "    \"updatedAt\": \"2021-09-03 00:03:00\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 7288734,\n"
+                + "    \"email\": \"byron.fields@reqres.in\",\n"
+                + "    \"productName\": \"Chicken Salad\",\n"
+                + "    \"orderAmount\": 9.99,\n"
+                + "    \"isPaid\": true,\n"
+                + "    \"date\": \"\",\n"
+                + "    \"updatedAt\": \"2021-09-02 00:02:00\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 7288734,\n"
+                + "    \"email\": \"tobias.funke@reqres.in\",\n"
+                + "    \"productName\": \"Fries\",\n"
+                + "    \"orderAmount\": 1.99,\n"
+                + "    \"isPaid\": true,\n"
+                + "    \"date\": \"2021-09-04\",\n"
+                + "    \"updatedAt\": \"2021-09-04 00:04:00\"\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"key\": \"productName\",\n"
+                + "        \"condition\": \"CONTAINS\",\n"
+                + "        \"value\": \"_\"\n"
+                + "      },\n"
+                + "      {\n"
+                + "        \"key\": \"id\",\n"
+                + "        \"condition\": \"NOT_IN\",\n"
+                + "        \"value\": \"[7288734]\"\n"
+                + "      },\n"
+                + "      {\n"
+                + "        \"condition\": \"AND\",\n"
+                + "        \"children\": [\n"
+                + "          {\n"
+                + "            \"key\": \"orderAmount\",\n"
+                + "            \"condition\": \"GTE\",\n"
+                + "            \"value\": \"9.99\"\n"
+                + "          },\n"
+                + "          {\n"
+                + "            \"key\": \"updatedAt\",\n"
+                + "            \"condition\": \"NOT_EQ\"\n"
+                + "          }\n"
+                + "        ]\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"OR\"\n"
+                + "  }\n"
+                + "}";
+
+        FilterDataServiceCE h2FilterDataService = new FilterDataServiceCE();
+        h2FilterDataService.setH2FilteringEnabled(true);
+
+        try {
+            Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+            Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+
+            List<Map<String, String>> sortBy =
+                    List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "date", SORT_BY_TYPE_KEY, VALUE_DESCENDING));
+            Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "10", PAGINATE_OFFSET_KEY, "0");
+
+            for (Map<DataType, DataType> dataTypeConversionMap :
+                    Arrays.asList(null, Map.of(DataType.INTEGER, DataType.DOUBLE, DataType.FLOAT, DataType.DOUBLE))) {
+                ArrayNode h2FilteredData = h2FilterDataService.filterDataNew(
+                        (ArrayNode) objectMapper.readTree(data),
+                        new UQIDataFilterParams(parseWhereClause(unparsedWhereClause), null, sortBy, paginateBy),
+                        dataTypeConversionMap);
+                ArrayNode filteredData = filterDataService.filterDataNew(
+                        (ArrayNode) objectMapper.readTree(data),
+                        new UQIDataFilterParams(parseWhereClause(unparsedWhereClause), null, sortBy, paginateBy),
+                        dataTypeConversionMap);
+
+                // "_" is matched literally by CONTAINS, so the last row, which only matches "_" as a LIKE wildcard,
+                // is left out
+                assertEquals(4, filteredData.size());
+                filteredData.forEach(
+                        row -> assertNotEquals("Fries", row.get("productName").asText()));
+                assertEquals(h2FilteredData, filteredData);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFilterDataNew_withNestedConditionFirst_returnsCorrectValues() {
+        String data = "[\n" + "  {\n"
+                + "    \"id\": 2381224,\n"
+                + "    \"productName\": \"Chicken Sandwich\",\n"
+                + "    \"orderAmount\": 4.99\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 2736212,\n"
+                + "    \"productName\": \"Tuna Salad\",\n"
+                + "    \"orderAmount\": 9.99\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 6788734,\n"
+                + "    \"productName\": \"Beef steak\",\n"
+                + "    \"orderAmount\": 19.99\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"condition\": \"OR\",\n"
+                + "        \"children\": [\n"
+                + "          {\n"
+                + "            \"key\": \"productName\",\n"
+                + "            \"condition\": \"EQ\",\n"
+                + "            \"value\": \"Tuna Salad\"\n"
+                + "          },\n"
+                + "          {\n"
+                + "            \"key\": \"orderAmount\",\n"
+                + "            \"condition\": \"GT\",\n"
+                + "            \"value\": \"15\"\n"
+                + "          }\n"
+                + "        ]\n"
+                + "      },\n"
+                + "      {\n"
+                + "        \"key\": \"id\",\n"
+                + "        \"condition\": \"LT\",\n"
+                + "        \"value\": \"5000000\"\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"AND\"\n"
+                + "  }\n"
+                + "}";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+            Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+            Condition condition = parseWhereClause(unparsedWhereClause);
+
+            ArrayNode filteredData =
+                    filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+
+            assertEquals(1, filteredData.size());
+            assertEquals("Tuna Salad", filteredData.get(0).get("productName").asText());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.appsmith.external.services;
+
+/**
+ * SharedConfig for plugin tests. The maximum response size can be lowered to exercise the response size limit of a
+ * plugin with a handful of rows.
+ */
+public class MockSharedConfig implements SharedConfig {
+
+    private final int maxResponseSize;
+
+    public MockSharedConfig() {
+        this(5 * 1024 * 1024);
+    }
+
+    public MockSharedConfig(int maxResponseSize) {
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    @Override
+    public int getCodecSize() {
+        return 10 * 1024 * 1024;
+    }
+
+    @Override
+    public int getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    @Override
+    public String getRemoteExecutionUrl() {
+        return "";
+    }
+}
@@ -9,18 +9,20 @@ import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -52,7 +54,6 @@ import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -62,7 +63,6 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -112,6 +112,14 @@ import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
+import static com.external.utils.FileContentUtils.MAXIMUM_UPLOAD_PARTS;
+import static com.external.utils.FileContentUtils.MULTIPART_UPLOAD_PART_SIZE;
+import static com.external.utils.FileContentUtils.MULTIPART_UPLOAD_THRESHOLD;
+import static com.external.utils.FileContentUtils.READ_BUFFER_SIZE;
+import static com.external.utils.FileContentUtils.getDecodedLength;
+import static com.external.utils.FileContentUtils.getDecodingInputStream;
+import static com.external.utils.FileContentUtils.readAsBase64;
+import static com.external.utils.FileContentUtils.readAsText;
 import static com.external.utils.TemplateUtils.getTemplates;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -125,7 +133,7 @@ public class AmazonS3Plugin extends BasePlugin {
 
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("amazons3");
         private final FilterDataService filterDataService;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
@@ -259,7 +267,8 @@ public class AmazonS3Plugin extends BasePlugin {
                 Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
+            InputStream payload;
+            long contentLength;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(body, MultipartFormDataDTO.class);
@@ -277,30 +286,24 @@ public class AmazonS3Plugin extends BasePlugin {
             if (Boolean.TRUE.equals(usingFilePicker)) {
 
                 String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
+                int payloadStart = getBase64PayloadStart(encodedPayload);
 
                 try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
+                    contentLength = getDecodedLength(encodedPayload, payloadStart);
                 } catch (IllegalArgumentException e) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                             S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
                 }
+                payload = getDecodingInputStream(encodedPayload, payloadStart);
             } else {
-                payload =
+                byte[] bytes =
                         getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                payload = new ByteArrayInputStream(bytes);
+                contentLength = bytes.length;
             }
 
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            uploadFileInS3(payload, contentLength, connection, multipartFormDataDTO, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
             ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
@@ -339,35 +342,31 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
+                InputStream payload;
+                long contentLength;
                 if (Boolean.TRUE.equals(usingFilePicker)) {
 
                     String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
+                    int payloadStart = getBase64PayloadStart(encodedPayload);
 
                     try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
+                        contentLength = getDecodedLength(encodedPayload, payloadStart);
                     } catch (IllegalArgumentException e) {
                         throw new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                 S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
                                 e.getMessage());
                     }
+                    payload = getDecodingInputStream(encodedPayload, payloadStart);
                 } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
+                    byte[] bytes = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
                             .getBytes();
+                    payload = new ByteArrayInputStream(bytes);
+                    contentLength = bytes.length;
                 }
 
                 try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
+                    uploadFileInS3(payload, contentLength, connection, multipartFormDataDTO, bucketName, filePath);
                 } catch (InterruptedException e) {
                     throw new AppsmithPluginException(
                             S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
@@ -386,17 +385,18 @@ public class AmazonS3Plugin extends BasePlugin {
          */
         String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
             S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+            // The length is only used to size the result up front, so it's fine if it isn't known
+            long contentLength = fullObject.getObjectMetadata() == null
+                    ? -1
+                    : fullObject.getObjectMetadata().getContentLength();
+
+            // The content is read in chunks, so that it never has to be held as a whole next to its encoded form
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                if (Boolean.TRUE.equals(encodeContent)) {
+                    return readAsBase64(content, contentLength, READ_BUFFER_SIZE);
+                }
+                return readAsText(content, contentLength, READ_BUFFER_SIZE);
             }
-
-            return result;
         }
 
         @Override
@@ -1129,24 +1129,58 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
+        /**
+         * For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-base64-encoded-
+         * payload>". Returns the index at which the actual payload starts, so that the redundant part in the beginning
+         * can be skipped without copying the payload.
+         */
+        private int getBase64PayloadStart(String encodedPayload) {
+            int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+            return delimiterIndex < 0 ? 0 : delimiterIndex + BASE64_DELIMITER.length();
+        }
+
+        /*
+         * - The payload is streamed to S3. Since its length is known, the SDK doesn't need to buffer it to find out.
+         * - Payloads larger than MULTIPART_UPLOAD_THRESHOLD are uploaded in parts of at least
+         *   MULTIPART_UPLOAD_PART_SIZE, so that only one part needs to be held in memory at a time.
+         * - A decoded Base64 payload can't be reset, so the SDK keeps what it has sent of the current request to be able
+         *   to retry it. Its read limit has to cover the whole request, i.e. one part, or the whole payload if it isn't
+         *   uploaded in parts. Otherwise a retry after a transient error fails with a ResetException.
+         */
         void uploadFileInS3(
-                byte[] payload,
+                InputStream payload,
+                long contentLength,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
                 String path)
                 throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager =
-                    TransferManagerBuilder.standard().withS3Client(connection).build();
+            TransferManager transferManager = TransferManagerBuilder.standard()
+                    .withS3Client(connection)
+                    .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD)
+                    .withMinimumUploadPartSize(MULTIPART_UPLOAD_PART_SIZE)
+                    .build();
             final ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(contentLength);
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+            final PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, path, payload, objectMetadata);
+            final TransferManagerConfiguration configuration = transferManager.getConfiguration();
+            // Same as how the transfer manager decides whether to upload in parts, and how large to make them
+            final long requestSize = contentLength > configuration.getMultipartUploadThreshold()
+                    ? Math.max(
+                            configuration.getMinimumUploadPartSize(),
+                            (contentLength + MAXIMUM_UPLOAD_PARTS - 1) / MAXIMUM_UPLOAD_PARTS)
+                    : contentLength;
+            putObjectRequest.getRequestClientOptions().setReadLimit((int) Math.min(requestSize + 1, Integer.MAX_VALUE));
+            try {
+                transferManager.upload(putObjectRequest).waitForUploadResult();
+            } finally {
+                // Releases the threads of the transfer manager, but not the connection, which is still in use
+                transferManager.shutdownNow(false);
+            }
         }
 
         /**
@@ -0,0 +1,193 @@
+package com.external.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Reads and writes the content of files in chunks, so that a file never has to be held in memory as a whole byte array
+ * next to its Base64 encoded form.
+ * <p>
+ * The sizes of the chunks can be set in bytes with the following environment variables:
+ * - APPSMITH_S3_READ_BUFFER_SIZE: size of the chunks in which files are read, 64 KB by default
+ * - APPSMITH_S3_MULTIPART_UPLOAD_THRESHOLD: files larger than this are uploaded in parts, 16 MB by default
+ * - APPSMITH_S3_MULTIPART_UPLOAD_PART_SIZE: minimum size of each of those parts, 8 MB by default. S3 requires at
+ * least 5 MB.
+ */
+@Slf4j
+public class FileContentUtils {
+
+    public static final int READ_BUFFER_SIZE = (int) getConfiguredSize("APPSMITH_S3_READ_BUFFER_SIZE", 64 * 1024);
+
+    public static final long MULTIPART_UPLOAD_THRESHOLD =
+            getConfiguredSize("APPSMITH_S3_MULTIPART_UPLOAD_THRESHOLD", 16 * 1024 * 1024);
+
+    public static final long MULTIPART_UPLOAD_PART_SIZE =
+            getConfiguredSize("APPSMITH_S3_MULTIPART_UPLOAD_PART_SIZE", 8 * 1024 * 1024);
+
+    // Most parts that S3 accepts in one upload, hence larger files are uploaded in larger parts
+    public static final long MAXIMUM_UPLOAD_PARTS = 10000;
+
+    // Largest array the JVM reliably allocates
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static long getConfiguredSize(String variableName, long defaultSize) {
+        final String value = System.getenv(variableName);
+        if (value == null || value.isBlank()) {
+            return defaultSize;
+        }
+
+        try {
+            final long size = Long.parseLong(value.trim());
+            if (size > 0 && size <= MAX_ARRAY_SIZE) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the warning below
+        }
+        log.warn("Ignoring invalid value {} of {}, using {} instead", value, variableName, defaultSize);
+        return defaultSize;
+    }
+
+    /**
+     * Base64 encodes the content chunk by chunk, instead of reading all of it first.
+     *
+     * @param content       : the content to encode, which is not closed here
+     * @param contentLength : length of the content if known, used to size the result up front, or -1 otherwise
+     * @param bufferSize    : size of the chunks in which the content is read
+     * @return the Base64 encoded content
+     */
+    public static String readAsBase64(InputStream content, long contentLength, int bufferSize) throws IOException {
+        // Encoding chunks whose sizes are multiples of 3 gives the same result as encoding everything at once
+        final int chunkSize = Math.max(3, bufferSize - bufferSize % 3);
+        final byte[] chunk = new byte[chunkSize];
+        final byte[] encodedChunk = new byte[chunkSize / 3 * 4];
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final ByteArrayOutputStream encoded =
+                new ByteArrayOutputStream(getInitialCapacity(contentLength < 0 ? -1 : (contentLength + 2) / 3 * 4));
+
+        int read;
+        while ((read = content.readNBytes(chunk, 0, chunkSize)) > 0) {
+            final int encodedLength =
+                    encoder.encode(read == chunkSize ? chunk : Arrays.copyOf(chunk, read), encodedChunk);
+            encoded.write(encodedChunk, 0, encodedLength);
+        }
+
+        return encoded.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Reads the content as text in the default charset, chunk by chunk.
+     *
+     * @param content       : the content to read, which is not closed here
+     * @param contentLength : length of the content if known, used to size the result up front, or -1 otherwise
+     * @param bufferSize    : size of the chunks in which the content is read
+     * @return the content as text
+     */
+    public static String readAsText(InputStream content, long contentLength, int bufferSize) throws IOException {
+        final Reader reader = new InputStreamReader(content, Charset.defaultCharset());
+        final char[] chunk = new char[Math.max(1, bufferSize)];
+        final StringBuilder text = new StringBuilder(getInitialCapacity(contentLength));
+
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            text.append(chunk, 0, read);
+        }
+
+        return text.toString();
+    }
+
+    private static int getInitialCapacity(long expectedSize) {
+        if (expectedSize < 0) {
+            return 32;
+        }
+        return (int) Math.min(expectedSize, MAX_ARRAY_SIZE);
+    }
+
+    /**
+     * Checks that the text from the given index on is valid Base64, and returns the number of bytes it decodes to.
+     *
+     * @throws IllegalArgumentException if the text is not valid Base64
+     */
+    public static long getDecodedLength(String encoded, int fromIndex) {
+        int end = encoded.length();
+        int padding = 0;
+        while (end > fromIndex && padding < 2 && encoded.charAt(end - 1) == '=') {
+            end--;
+            padding++;
+        }
+
+        for (int i = fromIndex; i < end; i++) {
+            if (!isBase64Character(encoded.charAt(i))) {
+                throw new IllegalArgumentException(
+                        "Illegal base64 character " + Integer.toHexString(encoded.charAt(i)));
+            }
+        }
+
+        final int length = end - fromIndex;
+        if (length % 4 == 1 || (padding > 0 && (length + padding) % 4 != 0)) {
+            throw new IllegalArgumentException("Input byte array has incorrect ending byte");
+        }
+
+        return (long) length / 4 * 3 + Math.max(0, length % 4 - 1);
+    }
+
+    /**
+     * Decodes the text from the given index on as it's read, instead of decoding all of it up front. The text should
+     * have been checked with {@link #getDecodedLength(String, int)} first.
+     */
+    public static InputStream getDecodingInputStream(String encoded, int fromIndex) {
+        return Base64.getDecoder().wrap(new AsciiInputStream(encoded, fromIndex));
+    }
+
+    private static boolean isBase64Character(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+
+    /**
+     * Reads the characters of an ASCII string as bytes, without copying it into a byte array first.
+     */
+    private static class AsciiInputStream extends InputStream {
+        private final String text;
+        private int position;
+
+        AsciiInputStream(String text, int position) {
+            this.text = text;
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            return position < text.length() ? text.charAt(position++) & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= text.length()) {
+                return -1;
+            }
+
+            final int count = Math.min(length, text.length() - position);
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) text.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return text.length() - position;
+        }
+    }
+}
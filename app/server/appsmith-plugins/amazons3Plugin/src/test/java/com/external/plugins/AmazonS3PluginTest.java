@@ -5,14 +5,21 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.util.Base64;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.PluginUtils;
@@ -34,6 +41,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -76,6 +84,10 @@ import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERV
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
+import static com.external.utils.FileContentUtils.MULTIPART_UPLOAD_PART_SIZE;
+import static com.external.utils.FileContentUtils.MULTIPART_UPLOAD_THRESHOLD;
+import static com.external.utils.FileContentUtils.getDecodedLength;
+import static com.external.utils.FileContentUtils.getDecodingInputStream;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
 import static com.external.utils.TemplateUtils.CREATE_MULTIPLE_FILES_TEMPLATE_NAME;
 import static com.external.utils.TemplateUtils.DEFAULT_DIR;
@@ -93,11 +105,14 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -1377,7 +1392,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         String unsignedURL = "https://example.unsigned.url";
         doReturn(unsignedURL).when(spyS3PluginExecutor).createFileUrl(any(), anyString(), anyString());
@@ -1419,7 +1434,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         ArrayList<String> unsignedURLS = new ArrayList<>();
         unsignedURLS.add("https://example.unsigned.url1");
@@ -1472,7 +1487,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1511,7 +1526,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1584,4 +1599,58 @@ public class AmazonS3PluginTest {
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    @Test
+    public void uploadFileInS3_WhenPayloadFitsInOneRequest_BuffersWholePayloadForRetries() throws InterruptedException {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+        String encodedPayload = "SGVsbG8gV29ybGQhCg==";
+
+        new AmazonS3Plugin.S3PluginExecutor()
+                .uploadFileInS3(
+                        getDecodingInputStream(encodedPayload, 0),
+                        getDecodedLength(encodedPayload, 0),
+                        mockConnection,
+                        new MultipartFormDataDTO(),
+                        "bucket_name",
+                        "path");
+
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(mockConnection).putObject(requestCaptor.capture());
+        assertEquals(
+                getDecodedLength(encodedPayload, 0) + 1,
+                requestCaptor.getValue().getReadLimit());
+    }
+
+    @Test
+    public void uploadFileInS3_WhenPayloadIsUploadedInParts_BuffersOnePartForRetries() throws InterruptedException {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(mockConnection.initiateMultipartUpload(any())).thenReturn(initiateResult);
+        when(mockConnection.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartResult partResult = new UploadPartResult();
+            partResult.setPartNumber(((UploadPartRequest) invocation.getArgument(0)).getPartNumber());
+            partResult.setETag("etag");
+            return partResult;
+        });
+        when(mockConnection.completeMultipartUpload(any())).thenReturn(new CompleteMultipartUploadResult());
+
+        new AmazonS3Plugin.S3PluginExecutor()
+                .uploadFileInS3(
+                        InputStream.nullInputStream(),
+                        MULTIPART_UPLOAD_THRESHOLD + 1,
+                        mockConnection,
+                        new MultipartFormDataDTO(),
+                        "bucket_name",
+                        "path");
+
+        ArgumentCaptor<UploadPartRequest> requestCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(mockConnection, atLeastOnce()).uploadPart(requestCaptor.capture());
+        requestCaptor
+                .getAllValues()
+                .forEach(request -> assertEquals(
+                        MULTIPART_UPLOAD_PART_SIZE + 1,
+                        request.getRequestClientOptions().getReadLimit()));
+    }
 }
@@ -0,0 +1,71 @@
+package com.external.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileContentUtilsTest {
+
+    @Test
+    public void readAsBase64WithSmallBuffer_returnsSameAsEncodingAtOnce() throws IOException {
+        byte[] content = new byte[1000];
+        new Random(42).nextBytes(content);
+
+        // Buffer sizes that are not multiples of 3, and a content length that is not known
+        for (int bufferSize : new int[] {1, 4, 7, 64, 2000}) {
+            assertEquals(
+                    Base64.getEncoder().encodeToString(content),
+                    FileContentUtils.readAsBase64(new ByteArrayInputStream(content), content.length, bufferSize));
+            assertEquals(
+                    Base64.getEncoder().encodeToString(content),
+                    FileContentUtils.readAsBase64(new ByteArrayInputStream(content), -1, bufferSize));
+        }
+    }
+
+    @Test
+    public void readAsTextWithSmallBuffer_returnsWholeText() throws IOException {
+        String content = "Hello World !!!\n".repeat(10);
+
+        assertEquals(
+                content,
+                FileContentUtils.readAsText(new ByteArrayInputStream(content.getBytes()), content.length(), 5));
+    }
+
+    @Test
+    public void getDecodingInputStream_afterDelimiter_returnsDecodedContent() throws IOException {
+        String encodedPayload = "data:text/plain;base64,SGVsbG8gV29ybGQhCg==";
+        int payloadStart = encodedPayload.indexOf(',') + 1;
+
+        assertEquals(13, FileContentUtils.getDecodedLength(encodedPayload, payloadStart));
+        try (InputStream decoded = FileContentUtils.getDecodingInputStream(encodedPayload, payloadStart)) {
+            assertArrayEquals("Hello World!\n".getBytes(), decoded.readAllBytes());
+        }
+    }
+
+    @Test
+    public void getDecodedLength_matchesDecodedContent() {
+        for (int length = 0; length < 10; length++) {
+            byte[] content = new byte[length];
+            String encoded = Base64.getEncoder().encodeToString(content);
+            String unpadded = Base64.getEncoder().withoutPadding().encodeToString(content);
+
+            assertEquals(length, FileContentUtils.getDecodedLength(encoded, 0));
+            assertEquals(length, FileContentUtils.getDecodedLength(unpadded, 0));
+        }
+    }
+
+    @Test
+    public void getDecodedLength_withInvalidContent_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> FileContentUtils.getDecodedLength("SGVsbG8*", 0));
+        assertThrows(IllegalArgumentException.class, () -> FileContentUtils.getDecodedLength("SGVsb", 0));
+        assertThrows(IllegalArgumentException.class, () -> FileContentUtils.getDecodedLength("SGVsbG=", 0));
+    }
+}
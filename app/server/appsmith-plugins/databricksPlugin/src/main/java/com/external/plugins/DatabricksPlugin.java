@@ -3,6 +3,8 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.DedicatedSchedulers;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.BearerTokenAuth;
@@ -10,13 +12,14 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -41,6 +44,7 @@ import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorM
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.external.plugins.exceptions.DatabricksErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG;
 import static com.external.plugins.exceptions.DatabricksPluginError.QUERY_EXECUTION_FAILED;
+import static com.external.plugins.exceptions.DatabricksPluginError.RESPONSE_SIZE_TOO_LARGE;
 
 public class DatabricksPlugin extends BasePlugin {
 
@@ -56,6 +60,7 @@ public class DatabricksPlugin extends BasePlugin {
     private static final int USER_AGENT_TAG = 4;
     private static final String FORM_PROPERTIES_CONFIGURATION = "FORM_PROPERTIES_CONFIGURATION";
     private static final String JDBC_URL_CONFIGURATION = "JDBC_URL_CONFIGURATION";
+    private static int MAX_SIZE_SUPPORTED;
 
     private static final String TABLES_QUERY =
             """
@@ -72,6 +77,11 @@ public class DatabricksPlugin extends BasePlugin {
     @Slf4j
     @Extension
     public static class DatabricksPluginExecutor implements PluginExecutor<Connection> {
+        private final Scheduler scheduler = DedicatedSchedulers.get("databricks");
+
+        public DatabricksPluginExecutor(SharedConfig sharedConfig) {
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(
@@ -131,6 +141,7 @@ public class DatabricksPlugin extends BasePlugin {
                             int colCount = metaData.getColumnCount();
                             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                            ResultSizeEstimator sizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                             while (resultSet.next()) {
                                 // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                                 Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -149,6 +160,12 @@ public class DatabricksPlugin extends BasePlugin {
                                 }
 
                                 rowsList.add(row);
+
+                                sizeEstimator.addRow(row);
+                                if (sizeEstimator.isLimitExceeded()) {
+                                    return Mono.error(new AppsmithPluginException(
+                                            RESPONSE_SIZE_TOO_LARGE, sizeEstimator.getMaxSizeInMb()));
+                                }
                             }
 
                         } catch (SQLException e) {
@@ -173,7 +190,7 @@ public class DatabricksPlugin extends BasePlugin {
                         return Mono.just(result);
                     })
                     .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
 
         @Override
@@ -287,7 +304,7 @@ public class DatabricksPlugin extends BasePlugin {
                         return Mono.just(connection);
                     })
                     .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
 
         @Override
@@ -358,7 +375,7 @@ public class DatabricksPlugin extends BasePlugin {
                         }
                     })
                     .map(resultStructure -> (DatasourceStructure) resultStructure)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
     }
 }
@@ -1,9 +1,11 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.MockSharedConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -11,20 +13,23 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_INVALID_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_NULL_ERROR_MSG;
 import static com.external.plugins.DatabricksPlugin.VALIDITY_CHECK_TIMEOUT;
+import static com.external.plugins.exceptions.DatabricksPluginError.RESPONSE_SIZE_TOO_LARGE;
 
 public class DatabricksPluginTest {
-
     public DatabricksPlugin.DatabricksPluginExecutor databricksPluginExecutor;
 
     @BeforeEach
     public void setUp() {
-        databricksPluginExecutor = new DatabricksPlugin.DatabricksPluginExecutor();
+        databricksPluginExecutor = new DatabricksPlugin.DatabricksPluginExecutor(new MockSharedConfig());
     }
 
     @Test
@@ -65,4 +70,35 @@ public class DatabricksPluginTest {
                         && throwable.getMessage().equals(CONNECTION_INVALID_ERROR_MSG))
                 .verify();
     }
+
+    @Test
+    public void testExecuteResultLargerThanMaxResponseSize_returnsError() throws SQLException {
+        Connection mockConnection = Mockito.mock(Connection.class);
+        Statement mockStatement = Mockito.mock(Statement.class);
+        ResultSet mockResultSet = Mockito.mock(ResultSet.class);
+        ResultSetMetaData mockMetaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(mockConnection.isValid(VALIDITY_CHECK_TIMEOUT)).thenReturn(true);
+        Mockito.when(mockConnection.createStatement()).thenReturn(mockStatement);
+        Mockito.when(mockStatement.execute(Mockito.anyString())).thenReturn(true);
+        Mockito.when(mockStatement.getResultSet()).thenReturn(mockResultSet);
+        Mockito.when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        Mockito.when(mockMetaData.getColumnCount()).thenReturn(1);
+        Mockito.when(mockMetaData.getColumnName(1)).thenReturn("description");
+        // Every row is about 100 bytes, and there are always more rows
+        Mockito.when(mockResultSet.next()).thenReturn(true);
+        Mockito.when(mockResultSet.getObject(1)).thenReturn("x".repeat(100));
+
+        DatabricksPlugin.DatabricksPluginExecutor pluginExecutor =
+                new DatabricksPlugin.DatabricksPluginExecutor(new MockSharedConfig(1000));
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT description FROM items");
+
+        Mono<ActionExecutionResult> executionResultMono =
+                pluginExecutor.execute(mockConnection, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(executionResultMono)
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) throwable).getError() == RESPONSE_SIZE_TOO_LARGE)
+                .verify();
+    }
 }
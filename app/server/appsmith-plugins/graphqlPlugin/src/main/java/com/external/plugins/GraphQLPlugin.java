@@ -152,14 +152,20 @@ public class GraphQLPlugin extends BasePlugin {
             // Filter out any empty headers
             headerUtils.removeEmptyHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    connection,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    parameters,
+                    executeActionDTO.getDatasourceId());
         }
 
         public Mono<ActionExecutionResult> executeCommon(
                 APIConnection apiConnection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
-                List<Map.Entry<String, String>> insertedParams) {
+                List<Map.Entry<String, String>> insertedParams,
+                String datasourceId) {
 
             // Initializing object for error condition
             ActionExecutionResult errorResult = new ActionExecutionResult();
@@ -189,8 +195,8 @@ public class GraphQLPlugin extends BasePlugin {
             ActionExecutionRequest actionExecutionRequest =
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, insertedParams, objectMapper);
 
-            WebClient.Builder webClientBuilder =
-                    restAPIActivateUtils.getWebClientBuilder(actionConfiguration, datasourceConfiguration);
+            WebClient.Builder webClientBuilder = restAPIActivateUtils.getWebClientBuilder(
+                    actionConfiguration, datasourceConfiguration, datasourceId);
 
             String reqContentType = headerUtils.getRequestContentType(actionConfiguration, datasourceConfiguration);
 
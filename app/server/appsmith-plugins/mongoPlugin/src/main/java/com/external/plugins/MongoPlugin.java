@@ -10,6 +10,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -34,36 +35,30 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.JsonNodeCodec;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -72,16 +67,11 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -104,9 +94,11 @@ import static com.appsmith.external.helpers.PluginUtils.setValueSafelyInFormData
 import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FETCH_ALL_BATCHES;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -134,6 +126,7 @@ import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndSt
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static org.apache.logging.log4j.util.Strings.isBlank;
@@ -203,17 +196,13 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
+    private static final JsonNodeCodec JSON_NODE_CODEC = new JsonNodeCodec();
 
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
+    /*
+     * Upper bound on the number of documents read from a cursor when all of its batches are asked for, so that a query
+     * without a limit can't load a whole collection into memory.
+     */
+    private static final int MAX_FETCHED_DOCUMENTS = 10000;
 
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -223,7 +212,7 @@ public class MongoPlugin extends BasePlugin {
     @Extension
     public static class MongoPluginExecutor implements PluginExecutor<MongoClient>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("mongo");
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -308,19 +297,30 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<JsonNode> mongoOutputMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
+            MongoDatabase database;
             try {
-                MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                MongoDatabase defaultDatabase = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                database = defaultDatabase.withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(JSON_NODE_CODEC), defaultDatabase.getCodecRegistry()));
 
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
+                Object fetchAllBatchesObject =
+                        getDataValueSafelyFromFormData(formData, FETCH_ALL_BATCHES, OBJECT_TYPE, FALSE);
+                boolean fetchAllBatches = fetchAllBatchesObject instanceof String
+                        ? Boolean.parseBoolean((String) fetchAllBatchesObject)
+                        : TRUE.equals(fetchAllBatchesObject);
                 Bson command = Document.parse(query);
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                // The result is decoded straight into a JsonNode, see JsonNodeCodec
+                mongoOutputMono = fetchAllBatches
+                        ? runCommandAndFetchAllBatches(mongoClient, database, command)
+                        : Mono.from(database.runCommand(command, JsonNode.class));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -352,100 +352,80 @@ public class MongoPlugin extends BasePlugin {
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                        // The output contains the key "ok". This is the status of the command
+                        BigInteger status = mongoOutput.path("ok").bigIntegerValue();
+                        ArrayNode headerArray = objectMapper.createArrayNode();
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                        if (BigInteger.ONE.equals(status)) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (mongoOutput.has(VALUE)) {
+                                result.setBody(objectMapper.createObjectNode().set(VALUE, mongoOutput.get(VALUE)));
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
+                            /*
+                             The output contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (mongoOutput.has("n")) {
+                                ObjectNode body = objectMapper
+                                        .createObjectNode()
+                                        .put("n", mongoOutput.get("n").bigIntegerValue());
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
+                            /*
+                             The output key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (mongoOutput.has(N_MODIFIED)) {
+                                ObjectNode body = objectMapper
+                                        .createObjectNode()
+                                        .put(
+                                                N_MODIFIED,
+                                                mongoOutput.get(N_MODIFIED).bigIntegerValue());
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                             The output contains key "values" when distinct command is used.
+                            */
+                            if (mongoOutput.has(VALUES)) {
+                                ObjectNode resultNode = objectMapper.createObjectNode();
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                resultNode.putArray(VALUES).addAll((ArrayNode) mongoOutput.get(VALUES));
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                                result.setBody(resultNode);
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
+                        }
+
+                        headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                        result.setHeaders(headerArray);
+
+                        /*
+                         The output contains key "cursor" when find or aggregate command was issued. Unless asked to
+                         fetch all the batches, only the first batch of the results is returned. Otherwise the
+                         documents of the next batches have been added to the first batch already.
+                        */
+                        if (BigInteger.ONE.equals(status) && mongoOutput.has("cursor")) {
+                            result.setBody(mongoOutput.get("cursor").get("firstBatch"));
                         }
 
                         return Mono.just(result);
@@ -484,6 +464,75 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Runs a command and, if it opens a cursor, reads the batches that follow the first one with getMore commands,
+         * one after the other, until the cursor is exhausted or {@link #MAX_FETCHED_DOCUMENTS} documents have been
+         * read. In the latter case the cursor is killed, instead of waiting for the server to time it out.
+         * <p>
+         * The server only accepts getMore and killCursors from the session that created the cursor, so all of them
+         * run in one explicit session, instead of in implicit sessions that may differ from one command to the next.
+         *
+         * @param mongoClient : client to start the session with
+         * @param database    : database to run the commands on, with the {@link JsonNodeCodec} registered
+         * @param command     : the command to run
+         * @return the output of the command, with the documents of all the batches in its first batch
+         */
+        private Mono<JsonNode> runCommandAndFetchAllBatches(
+                MongoClient mongoClient, MongoDatabase database, Bson command) {
+            return Mono.usingWhen(
+                    mongoClient.startSession(),
+                    session -> Mono.from(database.runCommand(session, command, JsonNode.class))
+                            .flatMap(output -> {
+                                final JsonNode cursor = output.get("cursor");
+                                if (cursor == null || cursor.path("id").asLong() == 0) {
+                                    return Mono.just(output);
+                                }
+
+                                return fetchRemainingBatches(
+                                                session, database, cursor, (ArrayNode) cursor.get("firstBatch"))
+                                        .thenReturn(output);
+                            }),
+                    session -> Mono.fromRunnable(session::close));
+        }
+
+        private Mono<ArrayNode> fetchRemainingBatches(
+                ClientSession session, MongoDatabase database, JsonNode cursor, ArrayNode documents) {
+            // The namespace of the cursor is <database>.<collection>
+            final String namespace = cursor.path("ns").asText();
+            final BsonString collectionName = new BsonString(namespace.substring(namespace.indexOf('.') + 1));
+
+            return Mono.just(cursor)
+                    .expand(currentCursor -> {
+                        final long cursorId = currentCursor.path("id").asLong();
+                        if (cursorId == 0 || documents.size() >= MAX_FETCHED_DOCUMENTS) {
+                            return Mono.empty();
+                        }
+
+                        final BsonDocument getMore =
+                                new BsonDocument("getMore", new BsonInt64(cursorId)).append(COLLECTION, collectionName);
+                        return Mono.from(database.runCommand(session, getMore, JsonNode.class))
+                                .map(output -> {
+                                    final JsonNode nextCursor = output.get("cursor");
+                                    documents.addAll((ArrayNode) nextCursor.get("nextBatch"));
+                                    return nextCursor;
+                                });
+                    })
+                    .last()
+                    .flatMap(lastCursor -> {
+                        final long cursorId = lastCursor.path("id").asLong();
+                        if (cursorId == 0) {
+                            return Mono.just(documents);
+                        }
+
+                        final BsonDocument killCursors = new BsonDocument("killCursors", collectionName)
+                                .append("cursors", new BsonArray(List.of(new BsonInt64(cursorId))));
+                        return Mono.from(database.runCommand(session, killCursors))
+                                .doOnError(error -> log.debug("Unable to kill cursor {} on {}", cursorId, namespace))
+                                .onErrorResume(error -> Mono.empty())
+                                .thenReturn(documents);
+                    });
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1055,54 +1104,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
@@ -5,6 +5,7 @@ public class FieldName {
     // Common field paths
     public static final String BODY = "body";
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
+    public static final String FETCH_ALL_BATCHES = "fetchAllBatches";
     public static final String COMMAND = "command";
     public static final String COLLECTION = "collection";
 
@@ -0,0 +1,161 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Decodes the results of Mongo commands straight from BSON into Jackson nodes, without going through a
+ * {@link org.bson.Document} and its extended JSON first. The values come out the way they used to be shown to the user:
+ * object ids as their hex string, dates as ISO instants, and 64-bit and decimal numbers as plain numbers. The types
+ * that have no plain JSON equivalent are written in the relaxed extended JSON format, e.g.
+ * {"$timestamp": {"t": 1, "i": 1}}.
+ * <p>
+ * This codec can only decode, since commands are still built as {@link org.bson.conversions.Bson} documents.
+ */
+public class JsonNodeCodec implements Codec<JsonNode> {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    @Override
+    public JsonNode decode(BsonReader reader, DecoderContext decoderContext) {
+        return readDocument(reader);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, JsonNode value, EncoderContext encoderContext) {
+        throw new UnsupportedOperationException("JsonNodeCodec can only be used to decode command results");
+    }
+
+    @Override
+    public Class<JsonNode> getEncoderClass() {
+        return JsonNode.class;
+    }
+
+    private static ObjectNode readDocument(BsonReader reader) {
+        final ObjectNode node = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            node.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return node;
+    }
+
+    private static ArrayNode readArray(BsonReader reader) {
+        final ArrayNode node = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            node.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return node;
+    }
+
+    private static JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case INT64:
+                return nodeFactory.numberNode(reader.readInt64());
+            case DOUBLE:
+                final double doubleValue = reader.readDouble();
+                if (Double.isFinite(doubleValue)) {
+                    return nodeFactory.numberNode(doubleValue);
+                }
+                return wrap("$numberDouble", nodeFactory.textNode(Double.toString(doubleValue)));
+            case DECIMAL128:
+                final Decimal128 decimalValue = reader.readDecimal128();
+                if (decimalValue.isNaN() || decimalValue.isInfinite()) {
+                    return wrap("$numberDecimal", nodeFactory.textNode(decimalValue.toString()));
+                }
+                // Going through the string, as bigDecimalValue() refuses to convert negative zero
+                return nodeFactory.numberNode(new BigDecimal(decimalValue.toString()));
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case TIMESTAMP:
+                final BsonTimestamp timestamp = reader.readTimestamp();
+                final ObjectNode timestampNode = nodeFactory.objectNode();
+                timestampNode.put("t", Integer.toUnsignedLong(timestamp.getTime()));
+                timestampNode.put("i", Integer.toUnsignedLong(timestamp.getInc()));
+                return wrap("$timestamp", timestampNode);
+            case BINARY:
+                final BsonBinary binary = reader.readBinaryData();
+                final ObjectNode binaryNode = nodeFactory.objectNode();
+                binaryNode.put("base64", Base64.getEncoder().encodeToString(binary.getData()));
+                binaryNode.put("subType", String.format("%02x", binary.getType()));
+                return wrap("$binary", binaryNode);
+            case REGULAR_EXPRESSION:
+                final BsonRegularExpression regularExpression = reader.readRegularExpression();
+                final ObjectNode regularExpressionNode = nodeFactory.objectNode();
+                regularExpressionNode.put("pattern", regularExpression.getPattern());
+                regularExpressionNode.put("options", regularExpression.getOptions());
+                return wrap("$regularExpression", regularExpressionNode);
+            case SYMBOL:
+                return wrap("$symbol", nodeFactory.textNode(reader.readSymbol()));
+            case JAVASCRIPT:
+                return wrap("$code", nodeFactory.textNode(reader.readJavaScript()));
+            case JAVASCRIPT_WITH_SCOPE:
+                final ObjectNode codeNode = nodeFactory.objectNode();
+                codeNode.put("$code", reader.readJavaScriptWithScope());
+                codeNode.set("$scope", readDocument(reader));
+                return codeNode;
+            case MIN_KEY:
+                reader.readMinKey();
+                return wrap("$minKey", nodeFactory.numberNode(1));
+            case MAX_KEY:
+                reader.readMaxKey();
+                return wrap("$maxKey", nodeFactory.numberNode(1));
+            case UNDEFINED:
+                reader.readUndefined();
+                return wrap("$undefined", nodeFactory.booleanNode(true));
+            case DB_POINTER:
+                final BsonDbPointer dbPointer = reader.readDBPointer();
+                final ObjectNode dbPointerNode = nodeFactory.objectNode();
+                dbPointerNode.put("$ref", dbPointer.getNamespace());
+                dbPointerNode.put("$id", dbPointer.getId().toHexString());
+                return wrap("$dbPointer", dbPointerNode);
+            default:
+                reader.skipValue();
+                return nodeFactory.nullNode();
+        }
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        final ObjectNode node = nodeFactory.objectNode();
+        node.set(key, value);
+        return node;
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -47,6 +48,7 @@ import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FETCH_ALL_BATCHES;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -746,6 +748,64 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    private ActionConfiguration createFindInBatchesOfOneConfiguration(Object fetchAllBatches) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, FETCH_ALL_BATCHES, fetchAllBatches);
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      find: \"users\",\n" + "      sort: { _id: 1 },\n" + "      batchSize: 1,\n" + "    }");
+        actionConfiguration.setFormData(configMap);
+
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testFindCommandFetchAllBatches_readsPastFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        ActionConfiguration actionConfiguration = createFindInBatchesOfOneConfiguration(Boolean.TRUE);
+
+        // Run a few at once, so that the getMore commands of one cursor would be sent from another pooled session,
+        // if they weren't sent in the session that created the cursor
+        Mono<List<ActionExecutionResult>> executeMono = dsConnectionMono.flatMap(conn -> Flux.range(0, 5)
+                .flatMap(i -> pluginExecutor.executeParameterized(
+                        conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .collectList());
+
+        StepVerifier.create(executeMono)
+                .assertNext(results -> {
+                    assertEquals(5, results.size());
+                    results.forEach(result -> {
+                        assertTrue(result.getIsExecutionSuccess());
+                        assertEquals(3, ((ArrayNode) result.getBody()).size());
+                    });
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCommandWithoutFetchAllBatches_returnsFirstBatchOnly() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        ActionConfiguration actionConfiguration = createFindInBatchesOfOneConfiguration(Boolean.FALSE);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testFindCommandProjection() {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -0,0 +1,82 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonMaxKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonNodeCodecTest {
+
+    private final JsonNodeCodec codec = new JsonNodeCodec();
+
+    private JsonNode decode(BsonDocument document) {
+        return codec.decode(
+                new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    @Test
+    void testDecode_withPlainJsonTypes_returnsPlainValues() {
+        BsonDocument document = new BsonDocument()
+                .append("_id", new BsonObjectId(new ObjectId("62b1d2b3e1f7a7a1f1b1c1d1")))
+                .append("name", new BsonString("Ram singh"))
+                .append("age", new BsonInt32(40))
+                .append("views", new BsonInt64(9007199254740993L))
+                .append("rating", new BsonDouble(4.5))
+                .append("price", new BsonDecimal128(new Decimal128(new BigDecimal("12.50"))))
+                .append("createdAt", new BsonDateTime(1656671557318L))
+                .append("bornAt", new BsonDateTime(-493033770000L))
+                .append("nickname", BsonNull.VALUE)
+                .append(
+                        "tags",
+                        new BsonArray(List.of(new BsonString("a"), new BsonDocument("nested", new BsonInt32(1)))));
+
+        String expected = "{\"_id\":\"62b1d2b3e1f7a7a1f1b1c1d1\",\"name\":\"Ram singh\",\"age\":40,"
+                + "\"views\":9007199254740993,\"rating\":4.5,\"price\":12.50,"
+                + "\"createdAt\":\"2022-07-01T10:32:37.318Z\",\"bornAt\":\"1954-05-18T14:10:30Z\","
+                + "\"nickname\":null,\"tags\":[\"a\",{\"nested\":1}]}";
+
+        JsonNode decoded = decode(document);
+
+        assertEquals(expected, decoded.toString());
+        assertEquals(new BigDecimal("12.50"), decoded.get("price").decimalValue());
+        assertEquals(9007199254740993L, decoded.get("views").longValue());
+    }
+
+    @Test
+    void testDecode_withSpecialTypes_returnsExtendedJson() {
+        BsonDocument document = new BsonDocument()
+                .append("ts", new BsonTimestamp(1656671557, 3))
+                .append("data", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("regex", new BsonRegularExpression("^ram", "i"))
+                .append("max", new BsonMaxKey())
+                .append("ratio", new BsonDouble(Double.NaN));
+
+        String expected = "{\"ts\":{\"$timestamp\":{\"t\":1656671557,\"i\":3}},"
+                + "\"data\":{\"$binary\":{\"base64\":\"AQID\",\"subType\":\"00\"}},"
+                + "\"regex\":{\"$regularExpression\":{\"pattern\":\"^ram\",\"options\":\"i\"}},"
+                + "\"max\":{\"$maxKey\":1},\"ratio\":{\"$numberDouble\":\"NaN\"}}";
+
+        assertEquals(expected, decode(document).toString());
+    }
+}
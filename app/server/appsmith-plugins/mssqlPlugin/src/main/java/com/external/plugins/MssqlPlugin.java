@@ -1,5 +1,8 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.constants.DataType;
 import com.appsmith.external.datatypes.AppsmithType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
@@ -7,7 +10,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -24,12 +29,14 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
 import com.external.plugins.utils.MssqlExecuteUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -40,7 +47,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -95,8 +101,17 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
+    private static final ConnectionPoolSettings DEFAULT_CONNECTION_POOL_SETTINGS = ConnectionPoolSettings.builder()
+            .pluginName("mssql")
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .leakDetectionThreshold(Duration.ofMillis(LEAK_DETECTION_TIME_MS))
+            .build();
+
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
+    private static int MAX_SIZE_SUPPORTED;
+
     public static final MssqlDatasourceUtils mssqlDatasourceUtils = new MssqlDatasourceUtils();
 
     public MssqlPlugin(PluginWrapper wrapper) {
@@ -109,10 +124,14 @@ public class MssqlPlugin extends BasePlugin {
     @Extension
     public static class MssqlPluginExecutor implements PluginExecutor<HikariDataSource>, SmartSubstitutionInterface {
 
-        public static final Scheduler scheduler = Schedulers.boundedElastic();
+        public static final Scheduler scheduler = DedicatedSchedulers.get("mssql");
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -278,7 +297,8 @@ public class MssqlPlugin extends BasePlugin {
                                     isResultSet,
                                     preparedStatement,
                                     statement,
-                                    preparedQuery);
+                                    preparedQuery,
+                                    new ResultSizeEstimator(MAX_SIZE_SUPPORTED));
 
                         } catch (SQLException e) {
                             return Mono.error(new AppsmithPluginException(
@@ -345,16 +365,18 @@ public class MssqlPlugin extends BasePlugin {
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
+            return ConnectionPoolFactory.getSettings(DEFAULT_CONNECTION_POOL_SETTINGS)
+                    .flatMap(connectionPoolSettings -> Mono.fromCallable(() -> {
                         log.debug("Connecting to SQL Server db");
-                        return createConnectionPool(datasourceConfiguration);
-                    })
+                        return createConnectionPool(datasourceConfiguration, connectionPoolSettings);
+                    }))
                     .subscribeOn(scheduler);
         }
 
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolFactory.unregister(connection);
                 connection.close();
             }
         }
@@ -546,9 +568,11 @@ public class MssqlPlugin extends BasePlugin {
      * This function is blocking in nature which connects to the database and creates a connection pool
      *
      * @param datasourceConfiguration
+     * @param connectionPoolSettings
      * @return connection pool
      */
-    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+    private static HikariDataSource createConnectionPool(
+            DatasourceConfiguration datasourceConfiguration, ConnectionPoolSettings connectionPoolSettings)
             throws AppsmithPluginException {
 
         DBAuth authentication = null;
@@ -558,11 +582,13 @@ public class MssqlPlugin extends BasePlugin {
 
         hikariConfig = new HikariConfig();
         hikariConfig.setDriverClassName(JDBC_DRIVER);
-        hikariConfig.setMinimumIdle(MINIMUM_POOL_SIZE);
-        hikariConfig.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        hikariConfig.setPoolName(connectionPoolSettings.getPoolName());
+        hikariConfig.setMinimumIdle(connectionPoolSettings.getMinimumIdle());
+        hikariConfig.setMaximumPoolSize(connectionPoolSettings.getMaximumPoolSize());
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
-        hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        hikariConfig.setLeakDetectionThreshold(
+                connectionPoolSettings.getLeakDetectionThreshold().toMillis());
 
         authentication = (DBAuth) datasourceConfiguration.getAuthentication();
         if (authentication.getUsername() != null) {
@@ -601,7 +627,16 @@ public class MssqlPlugin extends BasePlugin {
                     e.getMessage());
         }
 
-        return hikariDatasource;
+        ConnectionPoolFactory.prewarm(connectionPoolSettings, hikariDatasource::getConnection);
+        HikariPoolMXBean poolProxy = hikariDatasource.getHikariPoolMXBean();
+        return ConnectionPoolFactory.register(
+                hikariDatasource,
+                connectionPoolSettings,
+                ConnectionPoolStats.of(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection));
     }
 
     private static void addSslOptionsToUrlBuilder(
@@ -15,6 +15,7 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.MockSharedConfig;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -49,6 +50,7 @@ import static com.external.plugins.MssqlTestDBContainerManager.mssqlPluginExecut
 import static com.external.plugins.MssqlTestDBContainerManager.runSQLQueryOnMssqlTestDB;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -215,6 +217,37 @@ public class MssqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecute_resultLargerThanMaxResponseSize_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration(container);
+        // The maximum response size is shared by all the executors, hence it's set back once this test is done
+        MssqlPlugin.MssqlPluginExecutor limitedPluginExecutor =
+                new MssqlPlugin.MssqlPluginExecutor(new MockSharedConfig(1000));
+
+        try {
+            Mono<HikariDataSource> dsConnectionMono = limitedPluginExecutor.datasourceCreate(dsConfig);
+
+            // Every row is about 100 bytes, and there are far more rows than fit in 1000 bytes
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT TOP 1000 REPLICATE('x', 100) AS description "
+                    + "FROM sys.all_objects a CROSS JOIN sys.all_objects b");
+
+            Mono<ActionExecutionResult> executeMono =
+                    dsConnectionMono.flatMap(conn -> limitedPluginExecutor.executeParameterized(
+                            conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+            StepVerifier.create(executeMono)
+                    .assertNext(result -> {
+                        assertFalse(result.getIsExecutionSuccess());
+                        assertEquals(
+                                MssqlPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                    })
+                    .verifyComplete();
+        } finally {
+            new MssqlPlugin.MssqlPluginExecutor(new MockSharedConfig());
+        }
+    }
+
     @Test
     public void invalidTestConnectMsSqlContainer() {
 
@@ -1,11 +1,13 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
 import com.appsmith.external.datatypes.AppsmithType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
@@ -53,7 +55,6 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import reactor.pool.PoolShutdownException;
 
 import java.io.IOException;
@@ -86,6 +87,7 @@ import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHTunnelConnected;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.exceptions.MySQLErrorMessages.CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG;
+import static com.external.utils.MySqlDatasourceUtils.DEFAULT_CONNECTION_POOL_SETTINGS;
 import static com.external.utils.MySqlDatasourceUtils.getNewConnectionPool;
 import static com.external.utils.MySqlGetStructureUtils.getKeyInfo;
 import static com.external.utils.MySqlGetStructureUtils.getTableInfo;
@@ -168,7 +170,7 @@ public class MySqlPlugin extends BasePlugin {
             implements PluginExecutor<ConnectionContext<ConnectionPool>>, SmartSubstitutionInterface {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("mysql");
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -643,18 +645,40 @@ public class MySqlPlugin extends BasePlugin {
         @Override
         public Mono<ConnectionContext<ConnectionPool>> datasourceCreate(
                 DatasourceConfiguration datasourceConfiguration) {
-            return Mono.just(datasourceConfiguration).flatMap(ignore -> {
-                ConnectionContext<ConnectionPool> connectionContext;
-                try {
-                    connectionContext = getConnectionContext(
-                            datasourceConfiguration, CONNECTION_METHOD_INDEX, MYSQL_DEFAULT_PORT, ConnectionPool.class);
-                    ConnectionPool pool = getNewConnectionPool(datasourceConfiguration, connectionContext);
-                    connectionContext.setConnection(pool);
-                    return Mono.just(connectionContext);
-                } catch (AppsmithPluginException e) {
-                    return Mono.error(e);
-                }
-            });
+            return ConnectionPoolFactory.getSettings(DEFAULT_CONNECTION_POOL_SETTINGS)
+                    .flatMap(connectionPoolSettings -> {
+                        ConnectionContext<ConnectionPool> connectionContext;
+                        try {
+                            connectionContext = getConnectionContext(
+                                    datasourceConfiguration,
+                                    CONNECTION_METHOD_INDEX,
+                                    MYSQL_DEFAULT_PORT,
+                                    ConnectionPool.class);
+                            ConnectionPool pool = getNewConnectionPool(
+                                    datasourceConfiguration, connectionContext, connectionPoolSettings);
+                            connectionContext.setConnection(pool);
+                        } catch (AppsmithPluginException e) {
+                            return Mono.error(e);
+                        }
+
+                        if (!connectionPoolSettings.isPrewarm()) {
+                            return Mono.just(connectionContext);
+                        }
+
+                        // Warming up is best effort, the query that follows would report the same error anyway.
+                        return connectionContext
+                                .getConnection()
+                                .warmup()
+                                .doOnNext(count -> log.debug(
+                                        "Warmed up connection pool {} with {} connections",
+                                        connectionPoolSettings.getPoolName(),
+                                        count))
+                                .onErrorResume(error -> {
+                                    log.debug("Failed to warm up MySQL connection pool", error);
+                                    return Mono.empty();
+                                })
+                                .thenReturn(connectionContext);
+                    });
         }
 
         @Override
@@ -688,6 +712,7 @@ public class MySqlPlugin extends BasePlugin {
              */
             ConnectionPool connectionPool = connectionContext.getConnection();
             if (connectionPool != null) {
+                ConnectionPoolFactory.unregister(connectionPool);
                 connectionPool
                         .disposeLater()
                         .onErrorResume(exception -> {
@@ -1,5 +1,8 @@
 package com.external.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ConnectionContext;
@@ -69,6 +72,19 @@ public class MySqlDatasourceUtils {
      */
     public static final Duration BACKGROUND_EVICTION_TIME = Duration.ofMinutes(5);
 
+    /**
+     * r2dbc-pool 0.8.x has no notion of a minimum number of idle connections, the minimum is only used as the initial
+     * size of the pool when it is pre-warmed.
+     */
+    public static final ConnectionPoolSettings DEFAULT_CONNECTION_POOL_SETTINGS = ConnectionPoolSettings.builder()
+            .pluginName("mysql")
+            .minimumIdle(1)
+            .maximumPoolSize(MAX_CONNECTION_POOL_SIZE)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .maxLifeTime(MAX_LIFE_TIME)
+            .backgroundEvictionInterval(BACKGROUND_EVICTION_TIME)
+            .build();
+
     public static ConnectionFactoryOptions.Builder getBuilder(
             DatasourceConfiguration datasourceConfiguration, ConnectionContext connectionContext) {
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -245,7 +261,9 @@ public class MySqlDatasourceUtils {
     }
 
     public static ConnectionPool getNewConnectionPool(
-            DatasourceConfiguration datasourceConfiguration, ConnectionContext connectionContext)
+            DatasourceConfiguration datasourceConfiguration,
+            ConnectionContext connectionContext,
+            ConnectionPoolSettings connectionPoolSettings)
             throws AppsmithPluginException {
         ConnectionFactoryOptions.Builder ob = getBuilder(datasourceConfiguration, connectionContext);
         ob = addSslOptionsToBuilder(datasourceConfiguration, ob);
@@ -258,13 +276,28 @@ public class MySqlDatasourceUtils {
          * The pool configuration object does not seem to have any option to set the minimum pool size, hence could
          * not configure the minimum pool size.
          */
-        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(connectionFactory)
-                .maxIdleTime(MAX_IDLE_TIME)
-                .maxSize(MAX_CONNECTION_POOL_SIZE)
-                .backgroundEvictionInterval(BACKGROUND_EVICTION_TIME)
-                .maxLifeTime(MAX_LIFE_TIME)
-                .build();
-
-        return new ConnectionPool(configuration);
+        ConnectionPoolConfiguration.Builder configurationBuilder = ConnectionPoolConfiguration.builder(
+                        connectionFactory)
+                .name(connectionPoolSettings.getPoolName())
+                .maxIdleTime(connectionPoolSettings.getMaxIdleTime())
+                .maxSize(connectionPoolSettings.getMaximumPoolSize())
+                .backgroundEvictionInterval(connectionPoolSettings.getBackgroundEvictionInterval())
+                .maxLifeTime(connectionPoolSettings.getMaxLifeTime());
+        if (connectionPoolSettings.isPrewarm()) {
+            configurationBuilder.initialSize(connectionPoolSettings.getMinimumIdle());
+        }
+
+        ConnectionPool pool = new ConnectionPool(configurationBuilder.build());
+        pool.getMetrics()
+                .ifPresent(poolMetrics -> ConnectionPoolFactory.register(
+                        pool,
+                        connectionPoolSettings,
+                        ConnectionPoolStats.of(
+                                poolMetrics::acquiredSize,
+                                poolMetrics::idleSize,
+                                poolMetrics::allocatedSize,
+                                poolMetrics::pendingAcquireSize)));
+
+        return pool;
     }
 }
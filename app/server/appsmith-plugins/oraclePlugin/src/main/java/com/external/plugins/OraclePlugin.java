@@ -1,12 +1,15 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
 import com.appsmith.external.constants.DataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -20,6 +23,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -33,7 +37,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -68,6 +71,7 @@ import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
+import static com.external.plugins.utils.OracleDatasourceUtils.DEFAULT_CONNECTION_POOL_SETTINGS;
 import static com.external.plugins.utils.OracleDatasourceUtils.JDBC_DRIVER;
 import static com.external.plugins.utils.OracleDatasourceUtils.createConnectionPool;
 import static com.external.plugins.utils.OracleDatasourceUtils.logHikariCPStatus;
@@ -83,6 +87,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 public class OraclePlugin extends BasePlugin {
     public static final Long ORACLE_DEFAULT_PORT = 1521L;
     public static final OracleDatasourceUtils oracleDatasourceUtils = new OracleDatasourceUtils();
+    private static int MAX_SIZE_SUPPORTED;
 
     public OraclePlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -90,7 +95,11 @@ public class OraclePlugin extends BasePlugin {
 
     @Extension
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
-        public static final Scheduler scheduler = Schedulers.boundedElastic();
+        public static final Scheduler scheduler = DedicatedSchedulers.get("oracle");
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
@@ -103,10 +112,11 @@ public class OraclePlugin extends BasePlugin {
                         e.getMessage()));
             }
 
-            return Mono.fromCallable(() -> {
+            return ConnectionPoolFactory.getSettings(DEFAULT_CONNECTION_POOL_SETTINGS)
+                    .flatMap(connectionPoolSettings -> Mono.fromCallable(() -> {
                         log.debug(Thread.currentThread().getName() + ": Connecting to Oracle db");
-                        return createConnectionPool(datasourceConfiguration);
-                    })
+                        return createConnectionPool(datasourceConfiguration, connectionPoolSettings);
+                    }))
                     .subscribeOn(scheduler);
         }
 
@@ -272,7 +282,8 @@ public class OraclePlugin extends BasePlugin {
                                     isResultSet,
                                     preparedStatement,
                                     statement,
-                                    preparedQuery);
+                                    preparedQuery,
+                                    new ResultSizeEstimator(MAX_SIZE_SUPPORTED));
                         } catch (SQLException e) {
                             log.debug(Thread.currentThread().getName()
                                     + ": In the OraclePlugin, got action execution error");
@@ -1,5 +1,8 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -23,6 +26,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,6 +52,12 @@ public class OracleDatasourceUtils {
     public static final int MINIMUM_POOL_SIZE = 1;
     public static final int MAXIMUM_POOL_SIZE = 5;
     public static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    public static final ConnectionPoolSettings DEFAULT_CONNECTION_POOL_SETTINGS = ConnectionPoolSettings.builder()
+            .pluginName("oracle")
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .leakDetectionThreshold(Duration.ofMillis(LEAK_DETECTION_TIME_MS))
+            .build();
     public static final String JDBC_DRIVER = "oracle.jdbc.driver.OracleDriver";
     public static final String ORACLE_URL_PREFIX = "jdbc:oracle:thin:@tcp://";
     public static final int ORACLE_URL_PREFIX_TCPS_OFFSET = 21;
@@ -100,6 +110,7 @@ public class OracleDatasourceUtils {
     public static void datasourceDestroy(HikariDataSource connectionPool) {
         if (connectionPool != null) {
             log.debug(Thread.currentThread().getName() + ": Closing Oracle DB Connection Pool");
+            ConnectionPoolFactory.unregister(connectionPool);
             connectionPool.close();
         }
     }
@@ -378,14 +389,16 @@ public class OracleDatasourceUtils {
         }
     }
 
-    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+    public static HikariDataSource createConnectionPool(
+            DatasourceConfiguration datasourceConfiguration, ConnectionPoolSettings connectionPoolSettings)
             throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
+        config.setPoolName(connectionPoolSettings.getPoolName());
 
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        config.setMinimumIdle(connectionPoolSettings.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPoolSettings.getMaximumPoolSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -442,7 +455,8 @@ public class OracleDatasourceUtils {
 
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setLeakDetectionThreshold(
+                connectionPoolSettings.getLeakDetectionThreshold().toMillis());
 
         // Now create the connection pool from the configuration
         HikariDataSource datasource = null;
@@ -455,7 +469,16 @@ public class OracleDatasourceUtils {
                     e.getMessage());
         }
 
-        return datasource;
+        ConnectionPoolFactory.prewarm(connectionPoolSettings, datasource::getConnection);
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        return ConnectionPoolFactory.register(
+                datasource,
+                connectionPoolSettings,
+                ConnectionPoolStats.of(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection));
     }
 
     public static void logHikariCPStatus(String logPrefix, HikariDataSource connectionPool) {
@@ -4,6 +4,8 @@ import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.services.MockSharedConfig;
+import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import static com.external.plugins.OracleTestDBContainerManager.getDefaultDataso
 import static com.external.plugins.OracleTestDBContainerManager.oraclePluginExecutor;
 import static com.external.plugins.OracleTestDBContainerManager.runSQLQueryOnOracleTestDB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
@@ -164,6 +167,33 @@ public class OracleExecutionTest {
         verifyColumnValue(executionResultMono, expectedResultString);
     }
 
+    @Test
+    public void testExecute_resultLargerThanMaxResponseSize_returnsError() {
+        // The maximum response size is shared by all the executors, hence it's set back once this test is done
+        OraclePlugin.OraclePluginExecutor limitedPluginExecutor =
+                new OraclePlugin.OraclePluginExecutor(new MockSharedConfig(1000));
+
+        try {
+            // Every row is about 100 bytes, and there are far more rows than fit in 1000 bytes
+            String sqlSelectQuery = "SELECT RPAD('x', 100, 'x') AS description FROM dual CONNECT BY LEVEL <= 1000";
+            Map formData = setDataValueSafelyInFormData(null, "body", sqlSelectQuery);
+            ActionConfiguration actionConfig = new ActionConfiguration();
+            actionConfig.setFormData(formData);
+            Mono<ActionExecutionResult> executionResultMono = limitedPluginExecutor.executeParameterized(
+                    sharedConnectionPool, new ExecuteActionDTO(), getDefaultDatasourceConfig(oracleDB), actionConfig);
+
+            StepVerifier.create(executionResultMono)
+                    .assertNext(result -> {
+                        assertFalse(result.getIsExecutionSuccess());
+                        assertEquals(
+                                OraclePluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                    })
+                    .verifyComplete();
+        } finally {
+            new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
+        }
+    }
+
     @Test
     public void testSelectQueryWithPreparedStatementWithBinding() {
         String sqlSelectQuery = MessageFormat.format(
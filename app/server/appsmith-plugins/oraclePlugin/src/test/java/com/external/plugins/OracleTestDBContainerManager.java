@@ -5,6 +5,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.MockSharedConfig;
 import com.external.plugins.utils.OracleDatasourceUtils;
 import com.zaxxer.hikari.HikariDataSource;
 import org.testcontainers.containers.OracleContainer;
@@ -23,7 +24,8 @@ public class OracleTestDBContainerManager {
     public static final String ORACLE_DOCKER_HUB_CONTAINER = "gvenzl/oracle-xe:21-slim-faststart";
 
     public static OracleDatasourceUtils oracleDatasourceUtils = new OracleDatasourceUtils();
-    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
 
     public static OracleContainer getOracleDBForTest() {
         return new OracleContainer(ORACLE_DOCKER_HUB_CONTAINER)
@@ -1,6 +1,9 @@
 package com.external.plugins;
 
 import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.constants.DataType;
 import com.appsmith.external.datatypes.AppsmithType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
@@ -8,7 +11,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -45,9 +50,10 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -87,7 +93,6 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -129,8 +134,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -143,7 +146,7 @@ public class PostgresPlugin extends BasePlugin {
 
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("postgres");
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
@@ -188,6 +191,9 @@ public class PostgresPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        // Number of rows fetched from the database at a time when streaming the rows of a result
+        private static final int STREAMING_FETCH_SIZE = 500;
+
         private final SharedConfig sharedConfig;
         private final ConnectionPoolConfig connectionPoolConfig;
 
@@ -236,24 +242,7 @@ public class PostgresPlugin extends BasePlugin {
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -279,6 +268,221 @@ public class PostgresPlugin extends BasePlugin {
                     explicitCastDataTypes);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean supportsRowStreaming() {
+            return true;
+        }
+
+        /**
+         * Executes the query in the same way as {@link #executeParameterized}, but reads the rows of the result through
+         * a cursor, a batch at a time, and only as fast as they are requested. The connection is held until all the
+         * rows have been read, or the subscription is cancelled.
+         */
+        @Override
+        public Flux<Map<String, Object>> executeParameterizedRows(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final boolean preparedStatement = TRUE.equals(isPreparedStatement(actionConfiguration));
+            final List<MustacheBindingToken> mustacheKeysInOrder;
+            final List<DataType> explicitCastDataTypes;
+            if (preparedStatement) {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                actionConfiguration.setBody(updatedQuery);
+            } else {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+                explicitCastDataTypes = null;
+            }
+            final String finalQuery = actionConfiguration.getBody();
+
+            return Flux.using(
+                            () -> openRowCursor(
+                                    connection,
+                                    finalQuery,
+                                    preparedStatement,
+                                    mustacheKeysInOrder,
+                                    executeActionDTO,
+                                    explicitCastDataTypes),
+                            rowCursor -> Flux.<Map<String, Object>>generate(rowCursor::next),
+                            RowCursor::close)
+                    // A client that goes away cancels on the event loop, and closing the cursor blocks on JDBC calls
+                    .cancelOn(scheduler)
+                    .onErrorMap(
+                            SQLException.class,
+                            e -> new AppsmithPluginException(
+                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage(),
+                                    "SQLSTATE: " + e.getSQLState()))
+                    .onErrorMap(
+                            IOException.class,
+                            e -> new AppsmithPluginException(
+                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage()))
+                    // Requests for more rows are made on the scheduler too, as reading them may block
+                    .subscribeOn(scheduler);
+        }
+
+        private RowCursor openRowCursor(
+                HikariDataSource connection,
+                String query,
+                boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes)
+                throws SQLException {
+            Connection connectionFromPool;
+            try {
+                connectionFromPool =
+                        postgresDatasourceUtils.getConnectionFromHikariConnectionPool(connection, POSTGRES_PLUGIN_NAME);
+            } catch (SQLException e) {
+                // Same as in executeCommon, this means the pool has to be recreated
+                throw new StaleConnectionException(e.getMessage());
+            }
+
+            RowCursor rowCursor = new RowCursor(connectionFromPool);
+            try {
+                // Postgres only fetches the rows of a result a batch at a time inside of a transaction, otherwise all
+                // of them are read into memory as soon as the query is executed
+                connectionFromPool.setAutoCommit(false);
+                if (preparedStatement) {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+                    rowCursor.statement = preparedQuery;
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    smartSubstitutionOfBindings(
+                            preparedQuery,
+                            mustacheValuesInOrder,
+                            executeActionDTO.getParams(),
+                            new ArrayList<>(),
+                            connectionFromPool,
+                            explicitCastDataTypes);
+                    rowCursor.start(preparedQuery.execute());
+                } else {
+                    Statement statement = connectionFromPool.createStatement();
+                    rowCursor.statement = statement;
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    rowCursor.start(statement.execute(query));
+                }
+                return rowCursor;
+            } catch (SQLException | RuntimeException e) {
+                rowCursor.close();
+                throw e;
+            }
+        }
+
+        /**
+         * The result of a query being read one row at a time, along with the connection it is read from. Reading and
+         * closing are synchronized, as a cancellation may close the cursor on one worker of the scheduler while a row
+         * is being read on another, and a JDBC connection must not be used by two threads at once.
+         */
+        private class RowCursor {
+            private final Connection connection;
+            private Statement statement;
+            private ResultSet resultSet;
+            private ResultSetMetaData metaData;
+            private int colCount;
+            // Number of rows changed, for queries that don't return rows
+            private Object updateCount;
+            private boolean done;
+
+            RowCursor(Connection connection) {
+                this.connection = connection;
+            }
+
+            void start(boolean isResultSet) throws SQLException {
+                if (isResultSet) {
+                    resultSet = statement.getResultSet();
+                    metaData = resultSet.getMetaData();
+                    colCount = metaData.getColumnCount();
+                } else {
+                    updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
+                }
+            }
+
+            synchronized void next(SynchronousSink<Map<String, Object>> sink) {
+                try {
+                    if (resultSet == null) {
+                        sink.next(Map.of("affectedRows", updateCount));
+                        done = true;
+                        sink.complete();
+                    } else if (resultSet.next()) {
+                        sink.next(readRow(resultSet, metaData, colCount));
+                    } else {
+                        done = true;
+                        sink.complete();
+                    }
+                } catch (SQLException | IOException e) {
+                    sink.error(e);
+                }
+            }
+
+            synchronized void close() {
+                try {
+                    // Changes made by a query that was not read to the end, e.g. because it failed or the client went
+                    // away, are not kept
+                    if (done) {
+                        connection.commit();
+                    } else {
+                        connection.rollback();
+                    }
+                } catch (SQLException e) {
+                    log.debug("Error ending the Postgres transaction of a streamed query", e);
+                }
+
+                if (resultSet != null) {
+                    try {
+                        resultSet.close();
+                    } catch (SQLException e) {
+                        log.debug("Execute Error closing Postgres ResultSet", e);
+                    }
+                }
+
+                if (statement != null) {
+                    try {
+                        statement.close();
+                    } catch (SQLException e) {
+                        log.debug("Execute Error closing Postgres Statement", e);
+                    }
+                }
+
+                try {
+                    // Return the connection back to the pool
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Execute Error returning Postgres connection to pool", e);
+                }
+            }
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             ActionConfiguration actionConfig = new ActionConfiguration();
@@ -414,87 +618,23 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
+                                ResultSizeEstimator sizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
-
+                                    Map<String, Object> row = readRow(resultSet, metaData, colCount);
                                     rowsList.add(row);
 
-                                    iterator++;
+                                    // The estimate is updated per row so that the limit is enforced without having to
+                                    // serialize the rows collected so far.
+                                    sizeEstimator.addRow(row);
+                                    if (sizeEstimator.isLimitExceeded()) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED,
+                                                sizeEstimator.getEstimatedSize());
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                sizeEstimator.getMaxSizeInMb()));
+                                    }
                                 }
                             }
 
@@ -599,6 +739,71 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the current row of the result set, converting the values of the columns to what is sent back to the
+         * client.
+         */
+        private Map<String, Object> readRow(ResultSet resultSet, ResultSetMetaData metaData, int colCount)
+                throws SQLException, IOException {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the
+            // response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(
+                            resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()))
+                            + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                     * are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference:
+                     * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -637,10 +842,11 @@ public class PostgresPlugin extends BasePlugin {
 
             return connectionPoolConfig
                     .getMaxConnectionPoolSize()
-                    .flatMap(maxPoolSize -> {
+                    .flatMap(maxPoolSize -> ConnectionPoolFactory.getSettings(getConnectionPoolSettings(maxPoolSize)))
+                    .flatMap(connectionPoolSettings -> {
                         return Mono.fromCallable(() -> {
                             log.debug("Connecting to Postgres db");
-                            return createConnectionPool(datasourceConfiguration, maxPoolSize);
+                            return createConnectionPool(datasourceConfiguration, connectionPoolSettings);
                         });
                     })
                     .subscribeOn(scheduler);
@@ -649,6 +855,7 @@ public class PostgresPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolFactory.unregister(connection);
                 connection.close();
             }
         }
@@ -1093,30 +1300,40 @@ public class PostgresPlugin extends BasePlugin {
         }
     }
 
+    private static ConnectionPoolSettings getConnectionPoolSettings(Integer maximumConfigurablePoolSize) {
+        int maxPoolSize = MAXIMUM_POOL_SIZE;
+        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= maxPoolSize) {
+            maxPoolSize = maximumConfigurablePoolSize;
+        }
+
+        return ConnectionPoolSettings.builder()
+                .pluginName("postgres")
+                .minimumIdle(MINIMUM_POOL_SIZE)
+                .maximumPoolSize(maxPoolSize)
+                .leakDetectionThreshold(Duration.ofMillis(LEAK_DETECTION_TIME_MS))
+                .build();
+    }
+
     /**
      * This function is blocking in nature which connects to the database and
      * creates a connection pool
      *
      * @param datasourceConfiguration
+     * @param connectionPoolSettings
      * @return connection pool
      */
     private static HikariDataSource createConnectionPool(
-            DatasourceConfiguration datasourceConfiguration, Integer maximumConfigurablePoolSize)
+            DatasourceConfiguration datasourceConfiguration, ConnectionPoolSettings connectionPoolSettings)
             throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
+        config.setPoolName(connectionPoolSettings.getPoolName());
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-
-        int maxPoolSize = MAXIMUM_POOL_SIZE;
-        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= maxPoolSize) {
-            maxPoolSize = maximumConfigurablePoolSize;
-        }
-
-        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(connectionPoolSettings.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPoolSettings.getMaximumPoolSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -1240,7 +1457,8 @@ public class PostgresPlugin extends BasePlugin {
         // hasn't been released in 60 seconds
         // should get tracked (maybe falsely for long-running queries) as leaked
         // connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setLeakDetectionThreshold(
+                connectionPoolSettings.getLeakDetectionThreshold().toMillis());
 
         // Set read only mode if applicable
         switch (configurationConnection.getMode()) {
@@ -1266,6 +1484,15 @@ public class PostgresPlugin extends BasePlugin {
                     e.getMessage());
         }
 
-        return datasource;
+        ConnectionPoolFactory.prewarm(connectionPoolSettings, datasource::getConnection);
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        return ConnectionPoolFactory.register(
+                datasource,
+                connectionPoolSettings,
+                ConnectionPoolStats.of(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection));
     }
 }
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -55,6 +56,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -491,6 +493,27 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecute_resultLargerThanMaxResponseSize_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        // Every row is about 100 bytes, which adds up to far more than the maximum response size of MockSharedConfig
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT repeat('x', 100) AS description FROM generate_series(1, 1000)");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(PostgresPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -719,6 +742,42 @@ public class PostgresPluginTest {
                 .verify();
     }
 
+    @Test
+    public void testExecuteParameterizedRows_withPreparedStatement_streamsRowsInOrder() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(
+                "SELECT id, username, dob FROM public.\"users\" where id >= {{binding1}} ORDER BY id;");
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "true"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        Param param = new Param();
+        param.setKey("binding1");
+        param.setValue("1");
+        param.setClientDataType(ClientDataType.NUMBER);
+        executeActionDTO.setParams(List.of(param));
+
+        Flux<Map<String, Object>> rowsFlux = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMapMany(pool ->
+                        pluginExecutor.executeParameterizedRows(pool, executeActionDTO, dsConfig, actionConfiguration));
+
+        StepVerifier.create(rowsFlux)
+                .assertNext(row -> {
+                    assertArrayEquals(
+                            new String[] {"id", "username", "dob"}, row.keySet().toArray());
+                    assertEquals(1, row.get("id"));
+                    assertEquals("2018-12-31", row.get("dob"));
+                })
+                .assertNext(row -> assertEquals(2, row.get("id")))
+                .thenConsumeWhile(row -> true)
+                .verifyComplete();
+    }
+
     @Test
     public void testPreparedStatementWithoutQuotes() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
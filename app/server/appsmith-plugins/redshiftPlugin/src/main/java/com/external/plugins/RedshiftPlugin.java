@@ -1,8 +1,11 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.DedicatedSchedulers;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +16,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -27,7 +31,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -52,6 +55,7 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.REDSHIF
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.JDBC_DRIVER_LOADING_ERROR_MSG;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.external.utils.RedshiftDatasourceUtils.DEFAULT_CONNECTION_POOL_SETTINGS;
 import static com.external.utils.RedshiftDatasourceUtils.createConnectionPool;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -61,6 +65,7 @@ public class RedshiftPlugin extends BasePlugin {
     private static final String DATE_COLUMN_TYPE_NAME = "date";
     public static RedshiftDatasourceUtils redshiftDatasourceUtils = new RedshiftDatasourceUtils();
     public static final Long REDSHIFT_DEFAULT_PORT = 5439L;
+    private static int MAX_SIZE_SUPPORTED;
 
     public RedshiftPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -69,7 +74,11 @@ public class RedshiftPlugin extends BasePlugin {
     @Extension
     public static class RedshiftPluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("redshift");
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
@@ -251,9 +260,17 @@ public class RedshiftPlugin extends BasePlugin {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                ResultSizeEstimator sizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
                                     rowsList.add(row);
+
+                                    sizeEstimator.addRow(row);
+                                    if (sizeEstimator.isLimitExceeded()) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                sizeEstimator.getMaxSizeInMb()));
+                                    }
                                 }
                             } else {
                                 rowsList.add(Map.of(
@@ -369,16 +386,18 @@ public class RedshiftPlugin extends BasePlugin {
                         e.getMessage()));
             }
 
-            return Mono.fromCallable(() -> {
+            return ConnectionPoolFactory.getSettings(DEFAULT_CONNECTION_POOL_SETTINGS)
+                    .flatMap(connectionPoolSettings -> Mono.fromCallable(() -> {
                         log.debug(Thread.currentThread().getName() + ": Connecting to Redshift db");
-                        return createConnectionPool(datasourceConfiguration);
-                    })
+                        return createConnectionPool(datasourceConfiguration, connectionPoolSettings);
+                    }))
                     .subscribeOn(scheduler);
         }
 
         @Override
         public void datasourceDestroy(HikariDataSource connectionPool) {
             if (connectionPool != null) {
+                ConnectionPoolFactory.unregister(connectionPool);
                 connectionPool.close();
             }
         }
@@ -1,5 +1,8 @@
 package com.external.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -8,6 +11,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import org.apache.commons.lang.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -15,6 +19,7 @@ import org.springframework.util.StringUtils;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,13 +36,22 @@ public class RedshiftDatasourceUtils {
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
 
-    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+    public static final ConnectionPoolSettings DEFAULT_CONNECTION_POOL_SETTINGS = ConnectionPoolSettings.builder()
+            .pluginName("redshift")
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .leakDetectionThreshold(Duration.ofMillis(LEAK_DETECTION_TIME_MS))
+            .build();
+
+    public static HikariDataSource createConnectionPool(
+            DatasourceConfiguration datasourceConfiguration, ConnectionPoolSettings connectionPoolSettings)
             throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        config.setPoolName(connectionPoolSettings.getPoolName());
+        config.setMinimumIdle(connectionPoolSettings.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPoolSettings.getMaximumPoolSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -66,7 +80,8 @@ public class RedshiftDatasourceUtils {
 
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setLeakDetectionThreshold(
+                connectionPoolSettings.getLeakDetectionThreshold().toMillis());
         config.setConnectionTimeout(60 * 1000);
 
         // Set read only mode if applicable
@@ -94,7 +109,16 @@ public class RedshiftDatasourceUtils {
                     e.getMessage());
         }
 
-        return datasource;
+        ConnectionPoolFactory.prewarm(connectionPoolSettings, datasource::getConnection);
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        return ConnectionPoolFactory.register(
+                datasource,
+                connectionPoolSettings,
+                ConnectionPoolStats.of(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection));
     }
 
     public void checkHikariCPConnectionPoolValidity(HikariDataSource connectionPool, String pluginName)
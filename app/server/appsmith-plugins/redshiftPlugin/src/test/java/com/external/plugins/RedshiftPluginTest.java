@@ -9,6 +9,8 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.MockSharedConfig;
+import com.external.plugins.exceptions.RedshiftPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -40,6 +42,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -54,7 +57,8 @@ import static org.mockito.Mockito.when;
  */
 @Slf4j
 public class RedshiftPluginTest {
-    RedshiftPlugin.RedshiftPluginExecutor pluginExecutor = new RedshiftPlugin.RedshiftPluginExecutor();
+    RedshiftPlugin.RedshiftPluginExecutor pluginExecutor =
+            new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -266,7 +270,8 @@ public class RedshiftPluginTest {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
@@ -432,7 +437,8 @@ public class RedshiftPluginTest {
         when(mockResultSet.getString("foreign_column")).thenReturn("id"); // KEYS_QUERY_FOREIGN_KEY
         doNothing().when(mockResultSet).close();
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, true);
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -600,7 +606,8 @@ public class RedshiftPluginTest {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
@@ -698,4 +705,49 @@ public class RedshiftPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecute_resultLargerThanMaxResponseSize_returnsError() throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+
+        Connection mockConnection = mock(Connection.class);
+        when(mockConnection.isClosed()).thenReturn(false);
+        when(mockConnection.isValid(Mockito.anyInt())).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(mockConnection);
+
+        Statement mockStatement = mock(Statement.class);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.execute(any())).thenReturn(true);
+
+        // Every row is about 100 bytes, and there are always more rows
+        ResultSet mockResultSet = mock(ResultSet.class);
+        when(mockStatement.getResultSet()).thenReturn(mockResultSet);
+        when(mockResultSet.getObject(Mockito.anyInt())).thenReturn("x".repeat(100));
+        when(mockResultSet.next()).thenReturn(true);
+
+        ResultSetMetaData mockResultSetMetaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(mockResultSetMetaData);
+        when(mockResultSetMetaData.getColumnCount()).thenReturn(1);
+        when(mockResultSetMetaData.getColumnTypeName(Mockito.anyInt())).thenReturn("varchar");
+        when(mockResultSetMetaData.getColumnName(Mockito.anyInt())).thenReturn("description");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT description FROM items");
+
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig(1000)));
+        doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
+
+        Mono<ActionExecutionResult> executeMono =
+                spyPluginExecutor.execute(mockConnectionPool, createDatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+    }
 }
@@ -122,14 +122,20 @@ public class RestApiPlugin extends BasePlugin {
             headerUtils.removeEmptyHeaders(actionConfiguration);
             headerUtils.setHeaderFromAutoGeneratedHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    connection,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    parameters,
+                    executeActionDTO.getDatasourceId());
         }
 
         public Mono<ActionExecutionResult> executeCommon(
                 APIConnection apiConnection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
-                List<Map.Entry<String, String>> insertedParams) {
+                List<Map.Entry<String, String>> insertedParams,
+                String datasourceId) {
 
             // Initializing object for error condition
             ActionExecutionResult errorResult = new ActionExecutionResult();
@@ -162,8 +168,8 @@ public class RestApiPlugin extends BasePlugin {
             ActionExecutionRequest actionExecutionRequest =
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, insertedParams, objectMapper);
 
-            WebClient.Builder webClientBuilder =
-                    restAPIActivateUtils.getWebClientBuilder(actionConfiguration, datasourceConfiguration);
+            WebClient.Builder webClientBuilder = restAPIActivateUtils.getWebClientBuilder(
+                    actionConfiguration, datasourceConfiguration, datasourceId);
             String reqContentType = headerUtils.getRequestContentType(actionConfiguration, datasourceConfiguration);
 
             /* Check for content type */
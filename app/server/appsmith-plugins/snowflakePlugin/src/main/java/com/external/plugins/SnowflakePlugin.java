@@ -1,8 +1,13 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.DedicatedSchedulers;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -12,6 +17,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
@@ -24,7 +30,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -58,6 +63,8 @@ public class SnowflakePlugin extends BasePlugin {
 
     private static final int SNOWFLAKE_DB_LOGIN_TIMEOUT_VALUE_SEC = 15;
 
+    private static int MAX_SIZE_SUPPORTED;
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -65,7 +72,11 @@ public class SnowflakePlugin extends BasePlugin {
     @Extension
     public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = DedicatedSchedulers.get("snowflake");
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(
@@ -116,7 +127,8 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return getRowsFromQueryResult(
+                                    connectionFromPool, query, new ResultSizeEstimator(MAX_SIZE_SUPPORTED));
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -157,15 +169,22 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public Mono<HikariDataSource> createConnectionClient(
                 DatasourceConfiguration datasourceConfiguration, Properties properties) {
-            return Mono.fromCallable(() -> {
+            ConnectionPoolSettings defaultConnectionPoolSettings = ConnectionPoolSettings.builder()
+                    .pluginName("snowflake")
+                    .minimumIdle(Integer.parseInt(properties.get("minimumIdle").toString()))
+                    .maximumPoolSize(
+                            Integer.parseInt(properties.get("maximunPoolSize").toString()))
+                    .build();
+
+            return ConnectionPoolFactory.getSettings(defaultConnectionPoolSettings)
+                    .flatMap(connectionPoolSettings -> Mono.fromCallable(() -> {
                         HikariConfig config = new HikariConfig();
 
                         config.setDriverClassName(properties.getProperty("driver_name"));
+                        config.setPoolName(connectionPoolSettings.getPoolName());
 
-                        config.setMinimumIdle(
-                                Integer.parseInt(properties.get("minimumIdle").toString()));
-                        config.setMaximumPoolSize(Integer.parseInt(
-                                properties.get("maximunPoolSize").toString()));
+                        config.setMinimumIdle(connectionPoolSettings.getMinimumIdle());
+                        config.setMaximumPoolSize(connectionPoolSettings.getMaximumPoolSize());
 
                         config.setInitializationFailTimeout(Long.parseLong(
                                 properties.get("initializationFailTimeout").toString()));
@@ -197,8 +216,17 @@ public class SnowflakePlugin extends BasePlugin {
                                     AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
                         }
 
-                        return datasource;
-                    })
+                        ConnectionPoolFactory.prewarm(connectionPoolSettings, datasource::getConnection);
+                        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+                        return ConnectionPoolFactory.register(
+                                datasource,
+                                connectionPoolSettings,
+                                ConnectionPoolStats.of(
+                                        poolProxy::getActiveConnections,
+                                        poolProxy::getIdleConnections,
+                                        poolProxy::getTotalConnections,
+                                        poolProxy::getThreadsAwaitingConnection));
+                    }))
                     .subscribeOn(scheduler);
         }
 
@@ -250,6 +278,7 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolFactory.unregister(connection);
                 connection.close();
             }
         }
@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,23 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
+        return getRowsFromQueryResult(connection, query, new ResultSizeEstimator(Long.MAX_VALUE));
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, failing as soon as the estimated size of the
+     * rows read so far goes beyond the limit of the given size estimator.
+     *
+     * @param connection    - Connection object to execute query.
+     * @param query         - Query string
+     * @param sizeEstimator - Tracks the estimated size of the rows read so far.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(
+            Connection connection, String query, ResultSizeEstimator sizeEstimator)
+            throws AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
         ResultSet resultSet = null;
         Statement statement = null;
@@ -57,6 +75,12 @@ public class ExecutionUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
                 rowsList.add(row);
+
+                sizeEstimator.addRow(row);
+                if (sizeEstimator.isLimitExceeded()) {
+                    throw new AppsmithPluginException(
+                            SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE, sizeEstimator.getMaxSizeInMb());
+                }
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -7,6 +8,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.services.MockSharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import com.external.utils.ExecutionUtils;
@@ -30,6 +32,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -54,8 +58,8 @@ import static org.mockito.Mockito.when;
 
 @Slf4j
 public class SnowflakePluginTest {
-
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor =
+            new SnowflakePlugin.SnowflakePluginExecutor(new MockSharedConfig());
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -133,6 +137,41 @@ public class SnowflakePluginTest {
                 .verify();
     }
 
+    @Test
+    public void testExecute_resultLargerThanMaxResponseSize_returnsError() throws SQLException {
+        final String testQuery = "SELECT description FROM items";
+        final Connection connection = mock(Connection.class);
+        when(connection.isValid(30)).thenReturn(true);
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(testQuery)).thenReturn(resultSet);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnName(1)).thenReturn("DESCRIPTION");
+        // Every row is about 100 bytes, and there are always more rows
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn("x".repeat(100));
+
+        final HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        when(hikariDataSource.getConnection()).thenReturn(connection);
+        when(hikariDataSource.isClosed()).thenReturn(false);
+        when(hikariDataSource.isRunning()).thenReturn(true);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+        final Mono<ActionExecutionResult> actionExecutionResultMono = new SnowflakePlugin.SnowflakePluginExecutor(
+                        new MockSharedConfig(1000))
+                .execute(hikariDataSource, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) e).getError() == SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE)
+                .verify();
+    }
+
     /**
      * Although this test verifies error with bad database name, the exact same flow would also apply to bad schema
      * and warehouse name - hence not replicating the tests for schema or warehouse - as it would provide no extra
@@ -27,6 +27,7 @@ import com.appsmith.server.helpers.CollectionUtils;
 import com.appsmith.server.helpers.ce.ArtifactGitFileUtilsCE;
 import com.appsmith.server.migrations.JsonSchemaMigration;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.util.SerializationUtils;
 import com.google.gson.Gson;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -276,7 +277,7 @@ public class ApplicationGitFileUtilsCEImpl implements ArtifactGitFileUtilsCE<App
                                             .getActionConfiguration()
                                             .getFormData()
                                     != null) {
-                        body = new Gson()
+                        body = SerializationUtils.getPlainGson()
                                 .toJson(
                                         newAction
                                                 .getUnpublishedAction()
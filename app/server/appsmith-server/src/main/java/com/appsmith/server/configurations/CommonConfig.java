@@ -5,7 +5,6 @@ import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
@@ -103,9 +102,7 @@ public class CommonConfig {
 
     @Bean
     public Gson gsonInstance() {
-        GsonBuilder gsonBuilder = new GsonBuilder();
-        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
-        return gsonBuilder.create();
+        return SerializationUtils.getDefaultGson();
     }
 
     public List<String> getOauthAllowedDomains() {
@@ -3,7 +3,7 @@ package com.appsmith.server.configurations;
 import com.appsmith.server.domains.LoginSource;
 import com.appsmith.server.dtos.OAuth2AuthorizedClientDTO;
 import com.appsmith.server.dtos.UserSessionDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
@@ -275,8 +275,8 @@ public class RedisConfig {
 
                 final Map<String, OAuth2AuthorizedClient> sessionData = new HashMap<>();
                 for (final Map.Entry<String, Map<?, ?>> entry : clientData.entrySet()) {
-                    final OAuth2AuthorizedClientDTO dto =
-                            new ObjectMapper().convertValue(entry.getValue(), OAuth2AuthorizedClientDTO.class);
+                    final OAuth2AuthorizedClientDTO dto = SerializationUtils.getPlainObjectMapper()
+                            .convertValue(entry.getValue(), OAuth2AuthorizedClientDTO.class);
                     sessionData.put(entry.getKey(), dto.makeOAuth2AuthorizedClient());
                 }
 
@@ -17,6 +17,15 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.rest-api.connection-pool.max-connections:50}")
+    private int restApiMaxConnectionsPerDatasource;
+
+    @Value("${appsmith.plugin.rest-api.connection-pool.pending-acquire-max-count:500}")
+    private int restApiPendingAcquireMaxCount;
+
+    @Value("${appsmith.plugin.rest-api.connection-pool.max-idle-time-seconds:600}")
+    private int restApiConnectionMaxIdleTimeInSeconds;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -33,4 +42,19 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
     }
+
+    @Override
+    public int getRestApiMaxConnectionsPerDatasource() {
+        return this.restApiMaxConnectionsPerDatasource;
+    }
+
+    @Override
+    public int getRestApiPendingAcquireMaxCount() {
+        return this.restApiPendingAcquireMaxCount;
+    }
+
+    @Override
+    public int getRestApiConnectionMaxIdleTimeInSeconds() {
+        return this.restApiConnectionMaxIdleTimeInSeconds;
+    }
 }
@@ -1,14 +1,46 @@
 package com.appsmith.server.configurations.connectionpool;
 
 import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfigCE;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import reactor.core.publisher.Mono;
 
 public class ConnectionPoolConfigCEImpl implements ConnectionPoolConfigCE {
 
     protected static final Integer DEFAULT_MINIMUM_MAX_POOL_SIZE = 5;
 
+    protected static final String CONNECTION_POOL_PROPERTY_PREFIX = "appsmith.datasource.connection-pool.";
+
+    @Autowired
+    private Environment environment;
+
     @Override
     public Mono<Integer> getMaxConnectionPoolSize() {
         return Mono.just(DEFAULT_MINIMUM_MAX_POOL_SIZE);
     }
+
+    /**
+     * Reads the pool settings from the appsmith.datasource.connection-pool.* properties. Each of them can also be set
+     * for a single datasource, e.g. appsmith.datasource.connection-pool.{datasourceId}.maximum-size, which takes
+     * precedence over the one for all datasources.
+     */
+    @Override
+    public Mono<ConnectionPoolSettings> getConnectionPoolSettings(String datasourceId) {
+        return Mono.fromSupplier(() -> ConnectionPoolSettings.builder()
+                .datasourceId(datasourceId)
+                .minimumIdle(getProperty(datasourceId, "minimum-idle", Integer.class))
+                .maximumPoolSize(getProperty(datasourceId, "maximum-size", Integer.class))
+                .prewarm(getProperty(datasourceId, "prewarm", Boolean.class))
+                .build());
+    }
+
+    private <T> T getProperty(String datasourceId, String name, Class<T> type) {
+        T value = null;
+        if (datasourceId != null) {
+            value = environment.getProperty(CONNECTION_POOL_PROPERTY_PREFIX + datasourceId + "." + name, type);
+        }
+
+        return value != null ? value : environment.getProperty(CONNECTION_POOL_PROPERTY_PREFIX + name, type);
+    }
 }
@@ -10,12 +10,14 @@ import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
@@ -72,7 +74,8 @@ public class ConsolidatedAPIController {
     public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -81,8 +84,15 @@ public class ConsolidatedAPIController {
                 branchName,
                 ApplicationMode.PUBLISHED);
 
+        // Lets the browser keep the response, as long as it checks with us that its ETag is still current before use.
+        // When it is, the response is a 304 with no body.
+        exchange.getResponse()
+                .getHeaders()
+                .setCacheControl(CacheControl.noCache().cachePrivate());
+
         return consolidatedAPIService
-                .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
+                .getConsolidatedInfoForPageLoadInViewMode(
+                        defaultPageId, applicationId, branchName, exchange::checkNotModified)
                 .map(consolidatedAPIResponseDTO ->
                         new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
                 .tag("pageId", Objects.toString(defaultPageId))
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
@@ -92,6 +93,24 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    @PostMapping(
+            value = "/execute/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> executeActionAsStream(
+            @RequestBody Flux<Part> partFlux,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId,
+            ServerWebExchange serverWebExchange) {
+
+        return actionExecutionSolution.executeActionAsStream(
+                partFlux,
+                branchName,
+                environmentId,
+                serverWebExchange.getRequest().getHeaders(),
+                serverWebExchange.getResponse().bufferFactory());
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(
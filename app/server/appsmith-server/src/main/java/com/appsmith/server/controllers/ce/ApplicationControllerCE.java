@@ -34,6 +34,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -51,6 +52,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -191,14 +193,14 @@ public class ApplicationControllerCE {
 
     @JsonView(Views.Public.class)
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(
             @PathVariable String id, @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName) {
         log.debug("Going to export application with id: {}, branch: {}", id, branchName);
 
-        return exportService.getArtifactFile(id, branchName, APPLICATION).map(fetchedResource -> {
+        return exportService.getArtifactFileStream(id, branchName, APPLICATION).map(fetchedResource -> {
             HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-            Object applicationResource = fetchedResource.getArtifactResource();
-            return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
+            Flux<DataBuffer> applicationContent = fetchedResource.getArtifactContent();
+            return new ResponseEntity<>(applicationContent, responseHeaders, HttpStatus.OK);
         });
     }
 
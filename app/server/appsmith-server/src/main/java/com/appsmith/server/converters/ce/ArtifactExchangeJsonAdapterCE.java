@@ -9,10 +9,15 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
@@ -34,11 +39,44 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
             throws JsonParseException {
         JsonObject jsonObject = json.getAsJsonObject();
         JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
-        Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
-        if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+        String artifactJsonType = artifactJsonTypeElement == null ? null : artifactJsonTypeElement.getAsString();
+        return gson.fromJson(json, getArtifactExchangeJsonClass(artifactJsonType));
+    }
+
+    /**
+     * Deserialises an artifact JSON without building its JsonElement tree first, which takes several times the memory
+     * of the JSON text itself. The JSON is read twice, hence the reader supplier: once to find the artifact type,
+     * skipping over everything else, then to deserialise it straight into the class of that type.
+     *
+     * @param readerSupplier : provides a fresh reader from the beginning of the JSON on every call
+     */
+    public ArtifactExchangeJson fromJson(Supplier<Reader> readerSupplier) {
+        String artifactJsonType = null;
+        try {
+            JsonReader jsonReader = new JsonReader(readerSupplier.get());
+            jsonReader.setLenient(true);
+            if (jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    if (FIELD_NAME.equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.STRING) {
+                        artifactJsonType = jsonReader.nextString();
+                        break;
+                    }
+                    jsonReader.skipValue();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The JSON is malformed, deserialising it below reports the error the same way as it always did
+        }
+
+        return gson.fromJson(readerSupplier.get(), getArtifactExchangeJsonClass(artifactJsonType));
+    }
+
+    private Class<? extends ArtifactExchangeJson> getArtifactExchangeJsonClass(String artifactJsonType) {
+        if (artifactJsonType == null) {
+            return ApplicationJson.class;
         }
-        return gson.fromJson(json, instanceClass);
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonType);
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
     }
 }
@@ -1,10 +1,12 @@
 package com.appsmith.server.domains;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +16,48 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Used to close the connections of contexts that haven't been used for a while
+    volatile Instant lastAccessedTime;
+
+    // Id of the plugin that created the connection, and hence knows how to destroy it
+    String pluginId;
+
+    // Number of executions using the connection right now, or -1 once the context has been evicted, after which it can
+    // no longer be acquired
+    @Getter(AccessLevel.NONE)
+    final AtomicInteger inFlightUses = new AtomicInteger();
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessedTime = creationTime;
+    }
+
+    /**
+     * Marks the connection as used by one more execution, unless the context has been evicted already.
+     */
+    public boolean acquire() {
+        int uses;
+        do {
+            uses = inFlightUses.get();
+            if (uses < 0) {
+                return false;
+            }
+        } while (!inFlightUses.compareAndSet(uses, uses + 1));
+        return true;
+    }
+
+    public void release() {
+        inFlightUses.decrementAndGet();
+    }
+
+    /**
+     * Marks the context as evicted, unless an execution is using its connection right now.
+     */
+    public boolean markEvicted() {
+        return inFlightUses.compareAndSet(0, -1);
+    }
+
+    public boolean isEvicted() {
+        return inFlightUses.get() < 0;
     }
 }
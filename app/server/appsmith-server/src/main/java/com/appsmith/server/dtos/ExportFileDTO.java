@@ -1,10 +1,14 @@
 package com.appsmith.server.dtos;
 
 import lombok.Data;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
 
 @Data
 public class ExportFileDTO {
     HttpHeaders httpHeaders;
-    Object artifactResource;
+
+    // Serialised JSON of the artifact, written as it is being serialised
+    Flux<DataBuffer> artifactContent;
 }
@@ -26,5 +26,9 @@ public interface ExportServiceCE {
     Mono<? extends ArtifactExchangeJson> exportByArtifactIdAndBranchName(
             String artifactId, String branchName, ArtifactType artifactType);
 
-    Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType);
+    /**
+     * Exports the artifact as a file. The JSON of the artifact is streamed as artifactContent while it is being
+     * serialised, instead of being materialised as a string and an object tree first.
+     */
+    Mono<ExportFileDTO> getArtifactFileStream(String artifactId, String branchName, ArtifactType artifactType);
 }
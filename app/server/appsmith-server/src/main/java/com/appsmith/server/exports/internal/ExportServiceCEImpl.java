@@ -1,6 +1,7 @@
 package com.appsmith.server.exports.internal;
 
 import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.external.helpers.DedicatedSchedulers;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.server.acl.AclPermission;
@@ -20,24 +21,35 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.exportable.ExportableService;
 import com.appsmith.server.exports.internal.artifactbased.ArtifactBasedExportService;
+import com.appsmith.server.helpers.DataBufferStreamUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.appsmith.server.constants.ce.FieldNameCE.ARTIFACT_CONTEXT;
 import static java.lang.Boolean.TRUE;
@@ -54,6 +66,16 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     private final ExportableService<CustomJSLib> customJSLibExportableService;
     protected final Gson gson;
     private final JsonSchemaVersions jsonSchemaVersions;
+    private final Timer exportTimeToFirstByteTimer;
+
+    // Size of the chunks in which streamed exports are written to the response
+    private static final int EXPORT_STREAM_CHUNK_SIZE = 32 * 1024;
+
+    // Streamed exports are aborted when the client hasn't read anything for this long
+    private static final Duration EXPORT_STREAM_MAX_DEMAND_WAIT = Duration.ofMinutes(2);
+
+    // Streamed exports block a thread each while the client reads them, so they get threads of their own
+    private final Scheduler exportScheduler = DedicatedSchedulers.get("export");
 
     public ExportServiceCEImpl(
             SessionUserService sessionUserService,
@@ -64,7 +86,8 @@ public class ExportServiceCEImpl implements ExportServiceCE {
             ExportableService<Datasource> datasourceExportableService,
             ExportableService<Plugin> pluginExportableService,
             ExportableService<CustomJSLib> customJSLibExportableService,
-            JsonSchemaVersions jsonSchemaVersions) {
+            JsonSchemaVersions jsonSchemaVersions,
+            MeterRegistry meterRegistry) {
         this.sessionUserService = sessionUserService;
         this.analyticsService = analyticsService;
         this.workspaceService = workspaceService;
@@ -74,6 +97,9 @@ public class ExportServiceCEImpl implements ExportServiceCE {
         this.pluginExportableService = pluginExportableService;
         this.customJSLibExportableService = customJSLibExportableService;
         this.jsonSchemaVersions = jsonSchemaVersions;
+        this.exportTimeToFirstByteTimer = Timer.builder("appsmith.export.time-to-first-byte")
+                .description("Time from the start of a streamed export until its first bytes are written")
+                .register(meterRegistry);
     }
 
     @Override
@@ -285,25 +311,57 @@ public class ExportServiceCEImpl implements ExportServiceCE {
                 artifactId, branchName, SerialiseArtifactObjective.SHARE, artifactType);
     }
 
-    public Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType) {
-        return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
-                .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
-                .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
-                    String artifactName = artifactExchangeJson.getArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
-                    HttpHeaders responseHeaders = new HttpHeaders();
-                    ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
-                            .filename(artifactName + ".json", StandardCharsets.UTF_8)
-                            .build();
-                    responseHeaders.setContentDisposition(contentDisposition);
-                    responseHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-                    ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
-                    exportFileDTO.setHttpHeaders(responseHeaders);
-                    return exportFileDTO;
-                });
+    @Override
+    public Mono<ExportFileDTO> getArtifactFileStream(String artifactId, String branchName, ArtifactType artifactType) {
+        return Mono.defer(() -> {
+            final long startTime = System.nanoTime();
+            return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
+                    .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
+                    .map(artifactExchangeJson -> {
+                        ExportFileDTO exportFileDTO = new ExportFileDTO();
+                        exportFileDTO.setArtifactContent(streamArtifactJson(artifactExchangeJson, startTime));
+                        exportFileDTO.setHttpHeaders(getExportFileHeaders(artifactExchangeJson));
+                        return exportFileDTO;
+                    });
+        });
+    }
+
+    /**
+     * Serialises the given JSON straight into the buffers that are written to the response, as the client reads them.
+     */
+    private Flux<DataBuffer> streamArtifactJson(ArtifactExchangeJson artifactExchangeJson, long startTime) {
+        final AtomicLong bytesWritten = new AtomicLong();
+        return DataBufferStreamUtils.outputStreamPublisher(
+                        outputStream -> {
+                            JsonWriter jsonWriter =
+                                    gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                            gson.toJson(artifactExchangeJson, artifactExchangeJson.getClass(), jsonWriter);
+                            jsonWriter.flush();
+                        },
+                        DefaultDataBufferFactory.sharedInstance,
+                        exportScheduler,
+                        EXPORT_STREAM_CHUNK_SIZE,
+                        EXPORT_STREAM_MAX_DEMAND_WAIT)
+                .doOnNext(dataBuffer -> {
+                    if (bytesWritten.getAndAdd(dataBuffer.readableByteCount()) == 0) {
+                        exportTimeToFirstByteTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .doOnComplete(() -> log.debug(
+                        "Streamed export of {} bytes in {} ms",
+                        bytesWritten.get(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    private HttpHeaders getExportFileHeaders(ArtifactExchangeJson artifactExchangeJson) {
+        String artifactName = artifactExchangeJson.getArtifact().getName();
+        HttpHeaders responseHeaders = new HttpHeaders();
+        ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
+                .filename(artifactName + ".json", StandardCharsets.UTF_8)
+                .build();
+        responseHeaders.setContentDisposition(contentDisposition);
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        return responseHeaders;
     }
 
     /**
@@ -12,6 +12,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -28,7 +29,8 @@ public class ExportServiceImpl extends ExportServiceCEImpl implements ExportServ
             ExportableService<Datasource> datasourceExportableService,
             ExportableService<Plugin> pluginExportableService,
             ExportableService<CustomJSLib> customJSLibExportableService,
-            JsonSchemaVersions jsonSchemaVersions) {
+            JsonSchemaVersions jsonSchemaVersions,
+            MeterRegistry meterRegistry) {
         super(
                 sessionUserService,
                 analyticsService,
@@ -38,6 +40,7 @@ public class ExportServiceImpl extends ExportServiceCEImpl implements ExportServ
                 datasourceExportableService,
                 pluginExportableService,
                 customJSLibExportableService,
-                jsonSchemaVersions);
+                jsonSchemaVersions,
+                meterRegistry);
     }
 }
@@ -4,14 +4,25 @@ import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static com.appsmith.server.helpers.GitUtils.MAX_RETRIES;
 import static com.appsmith.server.helpers.GitUtils.RETRY_DELAY;
 
@@ -20,26 +31,76 @@ import static com.appsmith.server.helpers.GitUtils.RETRY_DELAY;
 @RequiredArgsConstructor
 public class GitRedisUtils {
 
+    // Locks are taken for a short time, and renewed for as long as they are held, so that a lock left behind by a node
+    // that went away is freed up quickly, while a long running git operation doesn't lose its lock midway.
+    static final Duration FILE_LOCK_TIME_LIMIT = Duration.ofSeconds(30);
+    static final Duration FILE_LOCK_RENEWAL_INTERVAL = FILE_LOCK_TIME_LIMIT.dividedBy(3);
+    // Stops renewing a lock that was never released, e.g. by an operation that was not run with withLockOwner, after
+    // about as long as locks were taken for before they were renewed
+    static final Duration MAX_FILE_LOCK_HOLD_TIME = Duration.ofSeconds(120);
+
+    private static final String LOCK_WAIT_METRIC = "appsmith.git.lock.wait";
+    private static final String LOCK_HOLD_METRIC = "appsmith.git.lock.hold";
+    private static final String WRITE_LOCK = "write";
+    private static final String READ_LOCK = "read";
+
+    // Context key of the git operation that locks are taken and released for, see withLockOwner
+    static final String LOCK_OWNER_KEY = "gitFileLockOwner";
+
     private final RedisUtils redisUtils;
     private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
 
-    public Mono<Boolean> addFileLock(String defaultApplicationId, String commandName, Boolean isRetryAllowed) {
-        long numberOfRetries = Boolean.TRUE.equals(isRetryAllowed) ? MAX_RETRIES : 0L;
+    // Exclusive locks held by this node, by default application id and the operation that holds them. They are
+    // acquired and released by separate calls, which find their owner in the reactor context.
+    private final Map<LockHolder, HeldLock> heldFileLocks = new ConcurrentHashMap<>();
+
+    private record LockHolder(String defaultApplicationId, String owner) {}
 
+    private record HeldLock(String value, String commandName, long acquiredAt, Disposable renewal) {}
+
+    /**
+     * Makes a git operation the owner of the file locks that it takes, so that releaseFileLock from that operation
+     * only ever releases its own lock, and not one that was taken by another operation after the first one lost it,
+     * e.g. to a force release. A lock that the operation still holds when it ends, however it ends, including by
+     * cancellation, is released then. An operation that runs inside another one keeps the owner of the outer one.
+     */
+    public <T> Mono<T> withLockOwner(Mono<T> operation) {
+        return Mono.deferContextual(contextView -> {
+            if (contextView.hasKey(LOCK_OWNER_KEY)) {
+                return operation;
+            }
+            return Mono.usingWhen(
+                    Mono.fromSupplier(() -> UUID.randomUUID().toString()),
+                    owner -> operation.contextWrite(Context.of(LOCK_OWNER_KEY, owner)),
+                    this::releaseFileLocksOf);
+        });
+    }
+
+    // Operations that were not given an owner share one per application
+    private static LockHolder getLockHolder(ContextView contextView, String defaultApplicationId) {
+        return new LockHolder(defaultApplicationId, contextView.getOrDefault(LOCK_OWNER_KEY, defaultApplicationId));
+    }
+
+    public Mono<Boolean> addFileLock(String defaultApplicationId, String commandName, Boolean isRetryAllowed) {
         log.info(
                 "Git command {} is trying to acquire the lock for application id {}",
                 commandName,
                 defaultApplicationId);
-        return redisUtils
-                .addFileLock(defaultApplicationId, commandName)
-                .retryWhen(Retry.fixedDelay(numberOfRetries, RETRY_DELAY)
-                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
-                            if (retrySignal.failure() instanceof AppsmithException) {
-                                throw (AppsmithException) retrySignal.failure();
-                            }
-
-                            throw new AppsmithException(AppsmithError.GIT_FILE_IN_USE, commandName);
-                        }))
+        return Mono.deferContextual(contextView -> {
+                    LockHolder lockHolder = getLockHolder(contextView, defaultApplicationId);
+                    return acquireLock(defaultApplicationId, commandName, isRetryAllowed, WRITE_LOCK)
+                            .map(lockValue -> {
+                                Disposable renewal = renewWhileHeld(lockHolder, lockValue, WRITE_LOCK);
+                                HeldLock previousLock = heldFileLocks.put(
+                                        lockHolder, new HeldLock(lockValue, commandName, System.nanoTime(), renewal));
+                                if (previousLock != null) {
+                                    // The same operation lost its previous lock, and has taken it again since
+                                    previousLock.renewal().dispose();
+                                }
+                                return Boolean.TRUE;
+                            });
+                })
                 .name(GitSpan.ADD_FILE_LOCK)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -48,10 +109,119 @@ public class GitRedisUtils {
         return addFileLock(defaultApplicationId, commandName, true);
     }
 
+    /**
+     * Releases the exclusive lock taken by the same operation on this node, unless it was lost in the meantime, e.g. to
+     * expiry or to a force release, in which case the lock that is there now is left alone.
+     */
     public Mono<Boolean> releaseFileLock(String defaultApplicationId) {
-        return redisUtils
-                .releaseFileLock(defaultApplicationId)
+        return Mono.deferContextual(contextView -> releaseHeldLock(getLockHolder(contextView, defaultApplicationId)))
                 .name(GitSpan.RELEASE_FILE_LOCK)
                 .tap(Micrometer.observation(observationRegistry));
     }
+
+    private Mono<Boolean> releaseHeldLock(LockHolder lockHolder) {
+        HeldLock heldLock = heldFileLocks.remove(lockHolder);
+        if (heldLock == null) {
+            log.debug("No lock held by this operation for application id {}", lockHolder.defaultApplicationId());
+            return Mono.just(Boolean.FALSE);
+        }
+        heldLock.renewal().dispose();
+        recordHoldTime(WRITE_LOCK, heldLock.commandName(), heldLock.acquiredAt());
+        return redisUtils.releaseWriteLock(lockHolder.defaultApplicationId(), heldLock.value());
+    }
+
+    private Mono<Void> releaseFileLocksOf(String owner) {
+        return Flux.fromIterable(heldFileLocks.keySet())
+                .filter(lockHolder -> owner.equals(lockHolder.owner()))
+                .concatMap(lockHolder -> {
+                    log.info(
+                            "Git operation ended without releasing its lock for application id {}, releasing it now",
+                            lockHolder.defaultApplicationId());
+                    return releaseHeldLock(lockHolder);
+                })
+                .then();
+    }
+
+    /**
+     * Runs the given work under a shared lock, which any number of read only git commands can hold together, but which
+     * excludes, and is excluded by, the lock taken by addFileLock. The lock is released however the work ends.
+     */
+    public <T> Mono<T> withReadLock(String defaultApplicationId, String commandName, Mono<T> work) {
+        return Mono.usingWhen(
+                acquireLock(defaultApplicationId, commandName, true, READ_LOCK)
+                        .map(lockValue -> new HeldLock(
+                                lockValue,
+                                commandName,
+                                System.nanoTime(),
+                                renewWhileHeld(new LockHolder(defaultApplicationId, lockValue), lockValue, READ_LOCK))),
+                heldLock -> work,
+                heldLock -> releaseReadLock(defaultApplicationId, heldLock));
+    }
+
+    private Mono<Boolean> releaseReadLock(String defaultApplicationId, HeldLock heldLock) {
+        heldLock.renewal().dispose();
+        recordHoldTime(READ_LOCK, heldLock.commandName(), heldLock.acquiredAt());
+        return redisUtils.releaseReadLock(defaultApplicationId, heldLock.value());
+    }
+
+    private Mono<String> acquireLock(
+            String defaultApplicationId, String commandName, Boolean isRetryAllowed, String lockMode) {
+        long numberOfRetries = Boolean.TRUE.equals(isRetryAllowed) ? MAX_RETRIES : 0L;
+
+        return Mono.defer(() -> {
+            long waitStart = System.nanoTime();
+            Mono<String> lockMono = WRITE_LOCK.equals(lockMode)
+                    ? redisUtils.acquireWriteLock(defaultApplicationId, commandName, FILE_LOCK_TIME_LIMIT)
+                    : redisUtils.acquireReadLock(defaultApplicationId, commandName, FILE_LOCK_TIME_LIMIT);
+
+            return lockMono.retryWhen(Retry.fixedDelay(numberOfRetries, RETRY_DELAY)
+                            .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
+                                if (retrySignal.failure() instanceof AppsmithException) {
+                                    throw (AppsmithException) retrySignal.failure();
+                                }
+
+                                throw new AppsmithException(AppsmithError.GIT_FILE_IN_USE, commandName);
+                            }))
+                    .doOnSuccess(lockValue -> recordWaitTime(lockMode, commandName, "acquired", waitStart))
+                    .doOnError(error -> recordWaitTime(lockMode, commandName, "failed", waitStart));
+        });
+    }
+
+    private Disposable renewWhileHeld(LockHolder lockHolder, String lockValue, String lockMode) {
+        String defaultApplicationId = lockHolder.defaultApplicationId();
+        return Flux.interval(FILE_LOCK_RENEWAL_INTERVAL)
+                .take(MAX_FILE_LOCK_HOLD_TIME.dividedBy(FILE_LOCK_RENEWAL_INTERVAL))
+                .concatMap(tick -> WRITE_LOCK.equals(lockMode)
+                        ? redisUtils.renewWriteLock(defaultApplicationId, lockValue, FILE_LOCK_TIME_LIMIT)
+                        : redisUtils.renewReadLock(defaultApplicationId, lockValue, FILE_LOCK_TIME_LIMIT))
+                .takeWhile(Boolean.TRUE::equals)
+                .then()
+                .doOnSuccess(ignored -> {
+                    log.debug("Stopped renewing the {} lock {} for {}", lockMode, lockValue, defaultApplicationId);
+                    if (WRITE_LOCK.equals(lockMode)) {
+                        heldFileLocks.computeIfPresent(
+                                lockHolder, (id, heldLock) -> lockValue.equals(heldLock.value()) ? null : heldLock);
+                    }
+                })
+                .subscribe(
+                        null,
+                        error -> log.error("Error renewing the {} lock for {}", lockMode, defaultApplicationId, error));
+    }
+
+    private void recordWaitTime(String lockMode, String commandName, String outcome, long waitStart) {
+        Timer.builder(LOCK_WAIT_METRIC)
+                .tag("mode", lockMode)
+                .tag("command", String.valueOf(commandName))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - waitStart));
+    }
+
+    private void recordHoldTime(String lockMode, String commandName, long acquiredAt) {
+        Timer.builder(LOCK_HOLD_METRIC)
+                .tag("mode", lockMode)
+                .tag("command", String.valueOf(commandName))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - acquiredAt));
+    }
 }
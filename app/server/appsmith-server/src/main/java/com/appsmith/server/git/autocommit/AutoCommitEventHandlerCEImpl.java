@@ -10,6 +10,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.events.AutoCommitEvent;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -22,6 +23,7 @@ import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.services.AnalyticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -29,13 +31,16 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.appsmith.external.git.constants.GitConstants.PAGE_LIST;
 import static java.lang.Boolean.TRUE;
@@ -55,6 +60,9 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
     public static final String AUTO_COMMIT_MSG_FORMAT =
             "System generated commit, to support new features in Appsmith %s";
 
+    // RTS rejects request bodies over 5 MB, this leaves room for the rest of the request
+    private static final long DSL_MIGRATION_BATCH_MAX_BYTES = 4L * 1024 * 1024;
+
     @Override
     public void publish(AutoCommitEvent autoCommitEvent) {
         applicationEventPublisher.publishEvent(autoCommitEvent);
@@ -154,7 +162,8 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                             autoCommitEvent.getBranchName(),
                             throwable);
                     return cleanUp(autoCommitEvent, Boolean.FALSE, true);
-                });
+                })
+                .as(gitRedisUtils::withLockOwner);
     }
 
     private Mono<Boolean> cleanUp(AutoCommitEvent autoCommitEvent, boolean isCommitMade, boolean exceptionCaught) {
@@ -230,7 +239,8 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
 
     /**
      * This method takes a list of NewPage and latest dsl schema version. It'll iterate through the list of the pages
-     * and migrate the page dsl if the version in the page dsl is older than latestSchemaVersion.
+     * and migrate the page dsl if the version in the page dsl is older than latestSchemaVersion. The outdated pages are
+     * sent to RTS together, in batches, instead of one call per page.
      * After finishing all the migrations, it'll return a list of page names that have been updated.
      * @param newPageList list of NewPage objects
      * @param latestSchemaVersion latest dsl schema version obtained from RTS
@@ -250,15 +260,47 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                     return false;
                 })
                 .map(NewPage::getUnpublishedPage)
-                .flatMap(pageDTO -> {
-                    Layout layout = pageDTO.getLayouts().get(0);
-                    return dslMigrationUtils
-                            .migratePageDsl(layout.getDsl())
-                            .map(migratedDsl -> {
-                                layout.setDsl(migratedDsl);
-                                return migratedDsl;
-                            })
-                            .thenReturn(pageDTO.getName());
+                // RTS migrates the pages of each batch in a single call, batches are cut by the serialized size of
+                // their dsl so that the request stays under the RTS size limit
+                .transform(pageDTOs -> Flux.defer(() -> {
+                    AtomicLong batchBytes = new AtomicLong();
+                    return pageDTOs.bufferUntil(
+                            pageDTO -> {
+                                long dslBytes = pageDTO.getLayouts()
+                                        .get(0)
+                                        .getDsl()
+                                        .toJSONString()
+                                        .getBytes(StandardCharsets.UTF_8)
+                                        .length;
+                                if (batchBytes.get() > 0
+                                        && batchBytes.get() + dslBytes > DSL_MIGRATION_BATCH_MAX_BYTES) {
+                                    batchBytes.set(dslBytes);
+                                    return true;
+                                }
+                                batchBytes.addAndGet(dslBytes);
+                                return false;
+                            },
+                            true);
+                }))
+                .concatMap(pageDTOs -> {
+                    List<JSONObject> pageDsls = pageDTOs.stream()
+                            .map(pageDTO -> pageDTO.getLayouts().get(0).getDsl())
+                            .toList();
+                    return dslMigrationUtils.migratePageDsls(pageDsls).flatMapIterable(migratedDsls -> {
+                        if (migratedDsls == null || migratedDsls.size() != pageDTOs.size()) {
+                            throw new AppsmithException(
+                                    AppsmithError.RTS_SERVER_ERROR,
+                                    "expected " + pageDTOs.size() + " migrated page dsls, received "
+                                            + (migratedDsls == null ? 0 : migratedDsls.size()));
+                        }
+                        List<String> pageNames = new ArrayList<>();
+                        for (int i = 0; i < pageDTOs.size(); i++) {
+                            PageDTO pageDTO = pageDTOs.get(i);
+                            pageDTO.getLayouts().get(0).setDsl(migratedDsls.get(i));
+                            pageNames.add(pageDTO.getName());
+                        }
+                        return pageNames;
+                    });
                 })
                 .collectList();
     }
@@ -318,7 +360,8 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                             autoCommitEvent.getBranchName(),
                             throwable);
                     return cleanUp(autoCommitEvent, Boolean.FALSE, true);
-                });
+                })
+                .as(gitRedisUtils::withLockOwner);
     }
 
     protected Mono<Boolean> commitAndPush(AutoCommitEvent autoCommitEvent, Path baseRepoPath) {
@@ -160,6 +160,7 @@ public class AutoCommitEligibilityHelperImpl extends AutoCommitEligibilityHelper
                     autoCommitTriggerDTO.setIsAutoCommitRequired((TRUE.equals(serverFlag) || TRUE.equals(clientFlag)));
 
                     return gitRedisUtils.releaseFileLock(defaultApplicationId).then(Mono.just(autoCommitTriggerDTO));
-                });
+                })
+                .as(gitRedisUtils::withLockOwner);
     }
 }
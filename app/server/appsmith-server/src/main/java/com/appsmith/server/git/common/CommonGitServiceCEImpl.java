@@ -392,7 +392,8 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             .thenReturn(gitStatusDTO);
                 })
                 .name(OPS_STATUS)
-                .tap(Micrometer.observation(observationRegistry));
+                .tap(Micrometer.observation(observationRegistry))
+                .as(gitRedisUtils::withLockOwner);
     }
 
     /**
@@ -529,7 +530,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry));
 
         return Mono.create(sink -> {
-            fetchRemoteStatusMono.subscribe(sink::success, sink::error, null, sink.currentContext());
+            fetchRemoteStatusMono
+                    .as(gitRedisUtils::withLockOwner)
+                    .subscribe(sink::success, sink::error, null, sink.currentContext());
         });
     }
 
@@ -643,7 +646,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry));
 
         return Mono.create(sink -> {
-            fetchRemoteStatusMono.subscribe(sink::success, sink::error, null, sink.currentContext());
+            fetchRemoteStatusMono
+                    .as(gitRedisUtils::withLockOwner)
+                    .subscribe(sink::success, sink::error, null, sink.currentContext());
         });
     }
 
@@ -1249,7 +1254,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 });
 
         return Mono.create(sink -> {
-            commitMono.subscribe(sink::success, sink::error, null, sink.currentContext());
+            commitMono
+                    .as(gitRedisUtils::withLockOwner)
+                    .subscribe(sink::success, sink::error, null, sink.currentContext());
         });
     }
 
@@ -1392,7 +1399,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_PUSH)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(sink -> pushStatusMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> pushStatusMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     private Mono<? extends Artifact> publishArtifact(Artifact artifact, boolean publish) {
@@ -1521,7 +1530,8 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry))
                 .onErrorResume(throwable -> {
                     return Mono.error(throwable);
-                });
+                })
+                .as(gitRedisUtils::withLockOwner);
     }
 
     private Mono<? extends Artifact> checkoutRemoteBranch(
@@ -1621,8 +1631,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_CHECKOUT_BRANCH)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(
-                sink -> checkoutRemoteBranchMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> checkoutRemoteBranchMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     /**
@@ -1840,7 +1851,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_CREATE_BRANCH)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(sink -> createBranchMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> createBranchMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     /**
@@ -1909,7 +1922,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_PULL)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(sink -> pullDTOMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> pullDTOMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     /**
@@ -2361,7 +2376,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_DELETE_BRANCH)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(sink -> deleteBranchMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> deleteBranchMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     @Override
@@ -2430,8 +2447,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_DISCARD_CHANGES)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(
-                sink -> discardChangeMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> discardChangeMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     @Override
@@ -2601,7 +2619,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .name(GitSpan.OPS_MERGE_BRANCH)
                 .tap(Micrometer.observation(observationRegistry));
 
-        return Mono.create(sink -> mergeMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> mergeMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     @Override
@@ -2758,8 +2778,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                     });
         });
 
-        return Mono.create(
-                sink -> mergeableStatusMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> mergeableStatusMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     @Override
@@ -2989,7 +3010,9 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                     return Mono.error(throwable);
                 });
 
-        return Mono.create(sink -> branchMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
+        return Mono.create(sink -> branchMono
+                .as(gitRedisUtils::withLockOwner)
+                .subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
     private Mono<String> syncDefaultBranchNameFromRemote(Artifact defaultArtifact, Path repoPath) {
@@ -3128,26 +3151,29 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
             String defaultBranchName,
             String currentBranch,
             boolean pruneBranches) {
-        return addFileLock(defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH)
-                .flatMap(objects -> {
-                    GitArtifactMetadata gitArtifactMetadata = defaultArtifact.getGitArtifactMetadata();
+        Mono<List<GitBranchDTO>> branchListMono;
+        if (TRUE.equals(pruneBranches)) {
+            // Fetching updates the refs, so this needs the repository to itself
+            GitArtifactMetadata gitArtifactMetadata = defaultArtifact.getGitArtifactMetadata();
+            branchListMono = addFileLock(defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH)
+                    .flatMap(objects -> gitExecutor
+                            .fetchRemote(
+                                    repoPath,
+                                    gitArtifactMetadata.getGitAuth().getPublicKey(),
+                                    gitArtifactMetadata.getGitAuth().getPrivateKey(),
+                                    false,
+                                    currentBranch,
+                                    true)
+                            .then(gitExecutor.listBranches(repoPath)))
+                    .flatMap(branchDTOList ->
+                            releaseFileLock(defaultArtifact.getId()).thenReturn(branchDTOList));
+        } else {
+            // Only reads the refs, so any number of these can run together
+            branchListMono = gitRedisUtils.withReadLock(
+                    defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH, gitExecutor.listBranches(repoPath));
+        }
 
-                    if (TRUE.equals(pruneBranches)) {
-                        return gitExecutor
-                                .fetchRemote(
-                                        repoPath,
-                                        gitArtifactMetadata.getGitAuth().getPublicKey(),
-                                        gitArtifactMetadata.getGitAuth().getPrivateKey(),
-                                        false,
-                                        currentBranch,
-                                        true)
-                                .then(gitExecutor.listBranches(repoPath));
-                    } else {
-                        return gitExecutor.listBranches(repoPath);
-                    }
-                })
-                .flatMap(branchDTOList ->
-                        releaseFileLock(defaultArtifact.getId()).thenReturn(branchDTOList))
+        return branchListMono
                 .map(branchDTOList -> {
                     for (GitBranchDTO branchDTO : branchDTOList) {
                         if (StringUtils.equalsIgnoreCase(branchDTO.getBranchName(), defaultBranchName)) {
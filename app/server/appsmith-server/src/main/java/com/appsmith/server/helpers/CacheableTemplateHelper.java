@@ -1,6 +1,5 @@
 package com.appsmith.server.helpers;
 
-import com.appsmith.external.converters.ISOStringToInstantConverter;
 import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.dtos.ApplicationTemplate;
 import com.appsmith.server.dtos.CacheableApplicationJson;
@@ -8,12 +7,11 @@ import com.appsmith.server.dtos.CacheableApplicationTemplate;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.ce.ApplicationTemplateServiceCEImpl;
+import com.appsmith.util.SerializationUtils;
 import com.appsmith.util.WebClientUtils;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -111,7 +109,7 @@ public class CacheableTemplateHelper {
                 .retrieve()
                 .bodyToMono(String.class)
                 .map(jsonString -> {
-                    Gson gson = getGson();
+                    Gson gson = SerializationUtils.getDefaultGson();
                     Type fileType = new TypeToken<ApplicationJson>() {}.getType();
 
                     CacheableApplicationJson cacheableApplicationJson = new CacheableApplicationJson();
@@ -127,16 +125,10 @@ public class CacheableTemplateHelper {
     }
 
     private CacheableApplicationJson getCacheableApplicationJsonCopy(CacheableApplicationJson src) {
-        Gson gson = getGson();
+        Gson gson = SerializationUtils.getDefaultGson();
         return gson.fromJson(gson.toJson(src), CacheableApplicationJson.class);
     }
 
-    @NotNull private Gson getGson() {
-        return new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
-                .create();
-    }
-
     public boolean isCacheValid(Instant lastUpdatedAt) {
         return Instant.now().minusSeconds(CACHE_LIFE_TIME_IN_SECONDS).isBefore(lastUpdatedAt);
     }
@@ -2,19 +2,54 @@ package com.appsmith.server.helpers;
 
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.ce.DslVersionDTO;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class DSLMigrationUtils {
 
+    // The latest DSL version only changes when RTS is deployed, so it's enough to check for it once in a while
+    private static final Duration DSL_VERSION_CACHE_TTL = Duration.ofMinutes(1);
+
     private final RTSCaller rtsCaller;
 
+    private final Mono<Integer> latestDslVersionMono;
+
+    public DSLMigrationUtils(RTSCaller rtsCaller) {
+        this.rtsCaller = rtsCaller;
+        // Failures are not cached, so that the next caller tries again
+        this.latestDslVersionMono = fetchLatestDslVersion()
+                .cache(version -> DSL_VERSION_CACHE_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * Fetches the latest DSL version once the server has started, so that the first page load doesn't have to wait for
+     * it. If RTS isn't up yet, the version is fetched again when it's first needed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshLatestDslVersion() {
+        latestDslVersionMono.subscribe(
+                version -> log.debug("Latest DSL version is {}", version),
+                error -> log.warn("Unable to fetch the latest DSL version on startup: {}", error.getMessage()));
+    }
+
     public Mono<Integer> getLatestDslVersion() {
+        return latestDslVersionMono;
+    }
+
+    private Mono<Integer> fetchLatestDslVersion() {
         ParameterizedTypeReference<ResponseDTO<DslVersionDTO>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
         return rtsCaller
@@ -37,4 +72,32 @@ public class DSLMigrationUtils {
                 .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
                 .map(responseDTO -> responseDTO.getData());
     }
+
+    /**
+     * Migrates the dsl of several pages to the latest version in a single call to RTS. If RTS rejects the request as
+     * too large, the pages are migrated one by one instead.
+     * @param pageDsls List of page dsl to migrate
+     * @return List of page dsl after migration, in the same order as the given ones
+     */
+    public Mono<List<JSONObject>> migratePageDsls(List<JSONObject> pageDsls) {
+        ParameterizedTypeReference<ResponseDTO<List<JSONObject>>> parameterizedTypeReference =
+                new ParameterizedTypeReference<>() {};
+
+        return rtsCaller
+                .post("/rts-api/v1/dsl/migrate/batch", pageDsls)
+                .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
+                .map(responseDTO -> responseDTO.getData())
+                .onErrorResume(
+                        error -> pageDsls.size() > 1
+                                && error instanceof WebClientResponseException responseException
+                                && responseException.getStatusCode().isSameCodeAs(HttpStatus.PAYLOAD_TOO_LARGE),
+                        error -> {
+                            log.warn(
+                                    "RTS rejected the migration of {} pages as too large, migrating them one by one",
+                                    pageDsls.size());
+                            return Flux.fromIterable(pageDsls)
+                                    .concatMap(this::migratePageDsl)
+                                    .collectList();
+                        });
+    }
 }
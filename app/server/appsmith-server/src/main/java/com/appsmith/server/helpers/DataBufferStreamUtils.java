@@ -0,0 +1,262 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.BaseException;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DataBufferStreamUtils {
+
+    /**
+     * Writes something to an {@link OutputStream}, e.g. serialises a large object.
+     */
+    @FunctionalInterface
+    public interface OutputStreamWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Creates a publisher of the bytes written to an {@link OutputStream} by the given writer, in chunks of the given
+     * size. The writer runs on the given scheduler once subscribed to, and blocks whenever the subscriber hasn't
+     * requested more chunks, so that a response body can be written as it is being produced without ever holding more
+     * than a couple of chunks in memory. Cancelling the subscription, or not requesting any chunk for the given time,
+     * makes the next write fail, which aborts the writer.
+     * <p>
+     * This is what {@code DataBufferUtils.outputStreamPublisher} provides as of Spring 6.1.
+     */
+    public static Flux<DataBuffer> outputStreamPublisher(
+            OutputStreamWriter writer,
+            DataBufferFactory bufferFactory,
+            Scheduler scheduler,
+            int chunkSize,
+            Duration maxDemandWait) {
+        return Flux.create(
+                sink -> {
+                    final DataBufferOutputStream outputStream =
+                            new DataBufferOutputStream(sink, bufferFactory, chunkSize, maxDemandWait);
+                    sink.onRequest(outputStream::request);
+                    sink.onDispose(outputStream::cancel);
+
+                    scheduler.schedule(() -> {
+                        try (outputStream) {
+                            writer.write(outputStream);
+                        } catch (Throwable e) {
+                            outputStream.discard();
+                            if (!outputStream.isCancelled()) {
+                                sink.error(e);
+                            }
+                            return;
+                        }
+                        sink.complete();
+                    });
+                },
+                FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    /**
+     * Keys of the object written by {@link #jsonRowsPublisher}: the array of rows, and the error that ended it early.
+     */
+    public static final String ROWS_KEY = "rows";
+
+    public static final String ERROR_KEY = "error";
+
+    private static final byte[] ROWS_PREFIX = ("{\"" + ROWS_KEY + "\":[").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] ROWS_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Writes the given rows as a JSON object with one key, {@link #ROWS_KEY}, holding the array of rows, one chunk per
+     * row, as soon as each one is emitted. Rows are only requested as fast as the chunks are consumed. The start of the
+     * object is only written along with the first row, so that an error before then can still be sent back as a regular
+     * error response.
+     * <p>
+     * The status of the response has been sent along with the first row, so an error after it, e.g.
+     * {@link AppsmithPluginError#PLUGIN_RESPONSE_SIZE_TOO_LARGE} as soon as the object would grow beyond the given
+     * number of bytes, can't change it anymore. Instead, the array is ended there, and the object gets a second key,
+     * {@link #ERROR_KEY}, holding the code, title and message of the error:
+     * <pre>{"rows":[{"id":1},{"id":2}],"error":{"code":"PE-RSZ-5000","title":"...","message":"..."}}</pre>
+     * so that the response is still valid JSON, and a client can tell a partial result from a complete one, whatever
+     * the columns of the rows are named.
+     */
+    public static Flux<DataBuffer> jsonRowsPublisher(
+            Flux<?> rows, ObjectMapper objectMapper, DataBufferFactory bufferFactory, long maxSize) {
+        return Flux.defer(() -> {
+            final AtomicLong size = new AtomicLong();
+            return rows.<DataBuffer>handle((row, sink) -> {
+                        final byte[] json;
+                        try {
+                            json = objectMapper.writeValueAsBytes(row);
+                        } catch (JsonProcessingException e) {
+                            sink.error(e);
+                            return;
+                        }
+
+                        final boolean first = size.get() == 0;
+                        // The start of the object, or a comma, in front of the row, and the end of the object after it
+                        final int prefixLength = first ? ROWS_PREFIX.length : 1;
+                        if (size.get() + prefixLength + json.length + ROWS_SUFFIX.length > maxSize) {
+                            sink.error(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_RESPONSE_SIZE_TOO_LARGE,
+                                    (float) maxSize / (1024 * 1024)));
+                            return;
+                        }
+                        size.addAndGet(prefixLength + json.length);
+
+                        final DataBuffer buffer = bufferFactory.allocateBuffer(prefixLength + json.length);
+                        if (first) {
+                            buffer.write(ROWS_PREFIX);
+                        } else {
+                            buffer.write((byte) ',');
+                        }
+                        buffer.write(json);
+                        sink.next(buffer);
+                    })
+                    .concatWith(Mono.fromSupplier(() -> size.get() == 0
+                            ? bufferFactory.wrap(("{\"" + ROWS_KEY + "\":[]}").getBytes(StandardCharsets.UTF_8))
+                            : bufferFactory.wrap(ROWS_SUFFIX)))
+                    .onErrorResume(
+                            error -> size.get() > 0,
+                            error -> Mono.fromCallable(() -> bufferFactory.wrap(getRowsErrorEnd(error, objectMapper))));
+        });
+    }
+
+    private static byte[] getRowsErrorEnd(Throwable error, ObjectMapper objectMapper) throws JsonProcessingException {
+        final BaseException baseException = error instanceof BaseException
+                ? (BaseException) error
+                : new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, error.getMessage());
+
+        final ObjectNode errorNode = objectMapper
+                .createObjectNode()
+                .put("code", baseException.getAppErrorCode())
+                .put("title", baseException.getTitle())
+                .put("message", baseException.getMessage());
+
+        return ("],\"" + ERROR_KEY + "\":" + objectMapper.writeValueAsString(errorNode) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class DataBufferOutputStream extends OutputStream {
+
+        private final FluxSink<DataBuffer> sink;
+        private final DataBufferFactory bufferFactory;
+        private final int chunkSize;
+        private final long maxDemandWaitNanos;
+
+        // Guarded by this
+        private long demand;
+        private boolean cancelled;
+        private boolean timedOut;
+
+        // Only ever touched by the writing thread
+        private DataBuffer buffer;
+
+        DataBufferOutputStream(
+                FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory, int chunkSize, Duration maxDemandWait) {
+            this.sink = sink;
+            this.bufferFactory = bufferFactory;
+            this.chunkSize = chunkSize;
+            this.maxDemandWaitNanos = maxDemandWait.toNanos();
+        }
+
+        synchronized void request(long n) {
+            demand = Operators.addCap(demand, n);
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (buffer == null) {
+                    buffer = bufferFactory.allocateBuffer(chunkSize);
+                }
+                final int count = Math.min(length, chunkSize - buffer.readableByteCount());
+                buffer.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                if (buffer.readableByteCount() >= chunkSize) {
+                    emit();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer != null && buffer.readableByteCount() > 0) {
+                emit();
+            }
+            discard();
+        }
+
+        void discard() {
+            if (buffer != null) {
+                DataBufferUtils.release(buffer);
+                buffer = null;
+            }
+        }
+
+        private void emit() throws IOException {
+            synchronized (this) {
+                final long deadline = System.nanoTime() + maxDemandWaitNanos;
+                while (demand == 0 && !cancelled && !timedOut && !sink.isCancelled()) {
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        timedOut = true;
+                        break;
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancelled = true;
+                    }
+                }
+                if (timedOut) {
+                    throw new IOException("Subscriber requested nothing for "
+                            + TimeUnit.NANOSECONDS.toMillis(maxDemandWaitNanos) + " ms");
+                }
+                if (cancelled || sink.isCancelled()) {
+                    cancelled = true;
+                    throw new IOException("Subscriber cancelled the stream");
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            }
+
+            final DataBuffer chunk = buffer;
+            buffer = null;
+            sink.next(chunk);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import org.springframework.util.CollectionUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Index over the permission groups of the current user, used to evaluate the policies of every document returned by a
+ * query into the permissions the user has on it.
+ * <p>
+ * A policy grants its permission when its permission groups intersect with the user's. The intersection is found by
+ * probing the smaller of the two sets against the larger one, so that a user with many permission groups (say, a member
+ * of a lot of workspaces) doesn't pay for all of them on every policy of every document. This evaluates to the same
+ * result as the {@code userAcl} criteria, which is what selected these documents in the first place.
+ */
+public final class PermissionGroupIndex {
+
+    private static final PermissionGroupIndex EMPTY = new PermissionGroupIndex(new HashSet<>());
+
+    private final Set<String> permissionGroups;
+
+    private PermissionGroupIndex(Set<String> permissionGroups) {
+        this.permissionGroups = permissionGroups;
+    }
+
+    /**
+     * Creates an index over the given permission groups. Hash based sets, which is what the permission groups of the
+     * user are fetched as, are used as is and hence must not be modified while the index is in use. Other sets are
+     * copied, so that every lookup is a constant time one.
+     */
+    public static PermissionGroupIndex of(Set<String> permissionGroups) {
+        if (CollectionUtils.isEmpty(permissionGroups)) {
+            return EMPTY;
+        }
+
+        return new PermissionGroupIndex(
+                permissionGroups instanceof HashSet ? permissionGroups : new HashSet<>(permissionGroups));
+    }
+
+    public boolean isEmpty() {
+        return permissionGroups.isEmpty();
+    }
+
+    /**
+     * Checks if any of the permission groups of the given policy is in this index.
+     */
+    public boolean isGrantedBy(Policy policy) {
+        Set<String> policyPermissionGroups = policy.getPermissionGroups();
+        if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+            return false;
+        }
+
+        if (policyPermissionGroups.size() <= permissionGroups.size()) {
+            for (String permissionGroup : policyPermissionGroups) {
+                if (permissionGroups.contains(permissionGroup)) {
+                    return true;
+                }
+            }
+        } else {
+            for (String permissionGroup : permissionGroups) {
+                if (policyPermissionGroups.contains(permissionGroup)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the permissions granted by the given policies to the permission groups in this index. The returned set is
+     * always a new, mutable set.
+     */
+    public Set<String> getPermissions(Set<Policy> policies) {
+        Set<String> permissions = new HashSet<>();
+        if (CollectionUtils.isEmpty(policies) || isEmpty()) {
+            return permissions;
+        }
+
+        for (Policy policy : policies) {
+            if (isGrantedBy(policy)) {
+                permissions.add(policy.getPermission());
+            }
+        }
+
+        return permissions;
+    }
+}
@@ -4,10 +4,13 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitCommandConstantsCE.AUTO_COMMIT;
 import static org.springframework.util.StringUtils.hasText;
@@ -22,31 +25,154 @@ public class RedisUtils {
     private static final String AUTO_COMMIT_KEY_FORMAT = "autocommit_%s";
     private static final String AUTO_COMMIT_PROGRESS_KEY_FORMAT = "autocommit_progress_%s";
 
-    private static final Duration FILE_LOCK_TIME_LIMIT = Duration.ofSeconds(120);
-
     private static final Duration AUTO_COMMIT_TIME_LIMIT = Duration.ofMinutes(3);
 
-    public Mono<Boolean> addFileLock(String key, String gitCommand) {
+    /*
+     File locks are read/write locks. The exclusive (write) lock is the value at the key itself, which is what it has
+     always been, so that releaseFileLock can still force release it. Shared (read) locks are the members of a sorted
+     set next to it, scored by their expiry time. Every lock value is the command that holds it, followed by a token
+     that is unique to that acquisition, e.g. commit:5f0c..., so that a holder can only renew or release its own lock.
+     The read locks key has the lock key as its hash tag. A key without braces, like an application id, hashes to the
+     same cluster slot as a hash tag of itself, so in cluster mode both keys are in one slot and can be used together
+     in one script.
+     The acquiring scripts return the lock value prefixed with "1" when the lock is taken, or the value of a lock that
+     is in the way prefixed with "0".
+    */
+    private static final String READ_LOCKS_KEY_FORMAT = "{%s}:readLocks";
+    private static final String LOCK_ACQUIRED = "1";
+
+    private static final String REDIS_NOW_MILLIS =
+            "local time = redis.call('TIME') " + "local now = time[1] * 1000 + math.floor(time[2] / 1000) ";
+
+    // KEYS: write lock, read locks. ARGV: lock value, lock time limit in ms
+    private static final RedisScript<String> ACQUIRE_WRITE_LOCK_SCRIPT = RedisScript.of(
+            "local holder = redis.call('GET', KEYS[1]) "
+                    + "if holder then return '0' .. holder end "
+                    + REDIS_NOW_MILLIS
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now) "
+                    + "local readers = redis.call('ZRANGE', KEYS[2], 0, 0) "
+                    + "if #readers > 0 then return '0' .. readers[1] end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "return '1' .. ARGV[1]",
+            String.class);
+
+    // KEYS: write lock, read locks. ARGV: lock value, lock time limit in ms
+    private static final RedisScript<String> ACQUIRE_READ_LOCK_SCRIPT = RedisScript.of(
+            "local holder = redis.call('GET', KEYS[1]) "
+                    + "if holder then return '0' .. holder end "
+                    + REDIS_NOW_MILLIS
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now) "
+                    + "redis.call('ZADD', KEYS[2], now + ARGV[2], ARGV[1]) "
+                    + "if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[2]) then "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) end "
+                    + "return '1' .. ARGV[1]",
+            String.class);
+
+    // KEYS: write lock. ARGV: lock value, lock time limit in ms
+    private static final RedisScript<Boolean> RENEW_WRITE_LOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+            Boolean.class);
+
+    // KEYS: read locks. ARGV: lock value, lock time limit in ms
+    private static final RedisScript<Boolean> RENEW_READ_LOCK_SCRIPT = RedisScript.of(
+            "if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 0 end "
+                    + REDIS_NOW_MILLIS
+                    + "redis.call('ZADD', KEYS[1], 'XX', now + ARGV[2], ARGV[1]) "
+                    + "if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 1",
+            Boolean.class);
+
+    // KEYS: write lock. ARGV: lock value
+    private static final RedisScript<Boolean> RELEASE_WRITE_LOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " + "return redis.call('DEL', KEYS[1])",
+            Boolean.class);
+
+    /**
+     * Atomically takes the exclusive lock on the given key, unless it is held by another command, or shared by any.
+     *
+     * @return the value of the lock, to renew and release it with
+     */
+    public Mono<String> acquireWriteLock(String key, String gitCommand, Duration timeLimit) {
+        return acquireLock(ACQUIRE_WRITE_LOCK_SCRIPT, key, gitCommand, timeLimit);
+    }
+
+    /**
+     * Atomically takes a shared lock on the given key, unless its exclusive lock is held.
+     *
+     * @return the value of the lock, to renew and release it with
+     */
+    public Mono<String> acquireReadLock(String key, String gitCommand, Duration timeLimit) {
+        return acquireLock(ACQUIRE_READ_LOCK_SCRIPT, key, gitCommand, timeLimit);
+    }
+
+    private Mono<String> acquireLock(RedisScript<String> script, String key, String gitCommand, Duration timeLimit) {
         String command = hasText(gitCommand) ? gitCommand : REDIS_FILE_LOCK_VALUE;
-        return redisOperations.hasKey(key).flatMap(isKeyPresent -> {
-            if (!Boolean.TRUE.equals(isKeyPresent)) {
-                return redisOperations.opsForValue().set(key, gitCommand, FILE_LOCK_TIME_LIMIT);
-            }
-            return redisOperations
-                    .opsForValue()
-                    .get(key)
-                    .flatMap(commandName ->
-                            Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, command, commandName)));
-        });
+        String lockValue = command + ":" + UUID.randomUUID();
+        List<String> keys = List.of(key, String.format(READ_LOCKS_KEY_FORMAT, key));
+        return redisOperations
+                .execute(script, keys, List.of(lockValue, String.valueOf(timeLimit.toMillis())))
+                .next()
+                .flatMap(result -> {
+                    String value = result.substring(1);
+                    if (result.startsWith(LOCK_ACQUIRED)) {
+                        return Mono.just(value);
+                    }
+                    return Mono.error(
+                            new AppsmithException(AppsmithError.GIT_FILE_IN_USE, command, getLockCommand(value)));
+                });
+    }
+
+    /**
+     * Extends the time limit of a lock that is still held with the given value.
+     *
+     * @return false if the lock has been released, or has expired, in the meantime
+     */
+    public Mono<Boolean> renewWriteLock(String key, String value, Duration timeLimit) {
+        return redisOperations
+                .execute(RENEW_WRITE_LOCK_SCRIPT, List.of(key), List.of(value, String.valueOf(timeLimit.toMillis())))
+                .next();
+    }
+
+    public Mono<Boolean> renewReadLock(String key, String value, Duration timeLimit) {
+        return redisOperations
+                .execute(
+                        RENEW_READ_LOCK_SCRIPT,
+                        List.of(String.format(READ_LOCKS_KEY_FORMAT, key)),
+                        List.of(value, String.valueOf(timeLimit.toMillis())))
+                .next();
+    }
+
+    /**
+     * Releases the exclusive lock on the given key, only if it is still the one that was acquired with this value.
+     */
+    public Mono<Boolean> releaseWriteLock(String key, String value) {
+        return redisOperations
+                .execute(RELEASE_WRITE_LOCK_SCRIPT, List.of(key), List.of(value))
+                .next();
+    }
+
+    public Mono<Boolean> releaseReadLock(String key, String value) {
+        return redisOperations
+                .opsForZSet()
+                .remove(String.format(READ_LOCKS_KEY_FORMAT, key), value)
+                .map(removed -> removed > 0);
+    }
+
+    /**
+     * Strips the acquisition token from a lock value, leaving the command that holds the lock.
+     */
+    public static String getLockCommand(String lockValue) {
+        int separatorIndex = lockValue.lastIndexOf(':');
+        return separatorIndex < 0 ? lockValue : lockValue.substring(0, separatorIndex);
     }
 
     public Mono<Boolean> addFileLock(String key, Duration expirationPeriod, AppsmithException exception) {
-        return redisOperations.hasKey(key).flatMap(isKeyPresent -> {
-            if (Boolean.TRUE.equals(isKeyPresent)) {
-                return Mono.error(exception);
-            }
-            return redisOperations.opsForValue().set(key, REDIS_FILE_LOCK_VALUE, expirationPeriod);
-        });
+        return redisOperations
+                .opsForValue()
+                .setIfAbsent(key, REDIS_FILE_LOCK_VALUE, expirationPeriod)
+                .flatMap(isSet -> Boolean.TRUE.equals(isSet) ? Mono.just(Boolean.TRUE) : Mono.error(exception));
     }
 
     public Mono<Boolean> releaseFileLock(String key) {
@@ -22,6 +22,7 @@ import com.appsmith.server.helpers.ArtifactGitFileUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
+import com.appsmith.util.SerializationUtils;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -307,7 +308,7 @@ public class CommonGitFileUtilsCE {
                 .onErrorResume(error -> Mono.error(
                         new AppsmithException(AppsmithError.GIT_ACTION_FAILED, CHECKOUT_BRANCH, error.getMessage())))
                 .map(metadata -> {
-                    Gson gson = new Gson();
+                    Gson gson = SerializationUtils.getPlainGson();
                     JsonObject metadataJsonObject =
                             gson.toJsonTree(metadata, Object.class).getAsJsonObject();
                     Integer serverSchemaVersion = getServerSchemaVersion(metadataJsonObject);
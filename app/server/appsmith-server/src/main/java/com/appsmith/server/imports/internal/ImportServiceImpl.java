@@ -13,7 +13,6 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.GsonBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -28,7 +27,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
             AnalyticsService analyticsService,
             ImportableService<Plugin> pluginImportableService,
             ImportableService<Datasource> datasourceImportableService,
-            GsonBuilder gsonBuilder,
             ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter,
             JsonSchemaMigration jsonSchemaMigration) {
         super(
@@ -40,7 +38,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
                 analyticsService,
                 pluginImportableService,
                 datasourceImportableService,
-                gsonBuilder,
                 artifactExchangeJsonAdapter,
                 jsonSchemaMigration);
     }
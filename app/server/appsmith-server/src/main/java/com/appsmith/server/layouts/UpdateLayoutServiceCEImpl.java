@@ -20,6 +20,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.WidgetSpecificUtils;
 import com.appsmith.server.newpages.base.NewPageService;
+import com.appsmith.server.onload.internal.ExecutablesSnapshot;
 import com.appsmith.server.onload.internal.OnLoadExecutablesUtil;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
@@ -111,7 +112,8 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
             String layoutId,
             Layout layout,
             Integer evaluatedVersion,
-            CreatorContextType creatorType) {
+            CreatorContextType creatorType,
+            ExecutablesSnapshot executablesSnapshot) {
         JSONObject dsl = layout.getDsl();
         if (dsl == null) {
             // There is no DSL here. No need to process anything. Return as is.
@@ -149,14 +151,13 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
 
         Mono<List<Set<DslExecutableDTO>>> allOnLoadExecutablesMono = onLoadExecutablesUtil
                 .findAllOnLoadExecutables(
-                        creatorId,
+                        executablesSnapshot,
                         evaluatedVersion,
                         widgetNames,
                         edges,
                         widgetDynamicBindingsMap,
                         flatmapOnLoadExecutables,
-                        executablesUsedInDSL,
-                        creatorType)
+                        executablesUsedInDSL)
                 .onErrorResume(AppsmithException.class, error -> {
                     log.info(error.getMessage());
                     validOnLoadExecutables.set(FALSE);
@@ -182,7 +183,8 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                     // setting for this
                     return onLoadExecutablesUtil
                             .updateExecutablesExecuteOnLoad(
-                                    flatmapOnLoadExecutables, creatorId, executableUpdatesRef, messagesRef, creatorType)
+                                    flatmapOnLoadExecutables, executablesSnapshot, executableUpdatesRef, messagesRef)
+                            .then(onLoadExecutablesUtil.flushExecutablesSnapshot(executablesSnapshot))
                             .thenReturn(allOnLoadExecutables);
                 })
                 // Now update the page layout with the page load executables and the graph.
@@ -212,6 +214,18 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
 
     @Override
     public Mono<LayoutDTO> updateLayout(String pageId, String applicationId, String layoutId, Layout layout) {
+        // The executables of the page are fetched once, and shared by all the steps of the update
+        ExecutablesSnapshot executablesSnapshot =
+                onLoadExecutablesUtil.getExecutablesSnapshot(pageId, CreatorContextType.PAGE);
+        return updateLayout(pageId, applicationId, layoutId, layout, executablesSnapshot);
+    }
+
+    private Mono<LayoutDTO> updateLayout(
+            String pageId,
+            String applicationId,
+            String layoutId,
+            Layout layout,
+            ExecutablesSnapshot executablesSnapshot) {
         return applicationService
                 .findById(applicationId)
                 .switchIfEmpty(Mono.error(new AppsmithException(
@@ -221,7 +235,8 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                     if (evaluationVersion == null) {
                         evaluationVersion = EVALUATION_VERSION;
                     }
-                    return updateLayoutDsl(pageId, layoutId, layout, evaluationVersion, CreatorContextType.PAGE);
+                    return updateLayoutDsl(
+                            pageId, layoutId, layout, evaluationVersion, CreatorContextType.PAGE, executablesSnapshot);
                 });
     }
 
@@ -295,9 +310,14 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                     if (page.getLayouts() == null) {
                         return Mono.empty();
                     }
-                    return Flux.fromIterable(page.getLayouts()).flatMap(layout -> {
+                    // All the layouts of the page share one snapshot of its executables, so they are updated one
+                    // after the other, each seeing the execute on load changes of the previous ones
+                    ExecutablesSnapshot executablesSnapshot =
+                            onLoadExecutablesUtil.getExecutablesSnapshot(page.getId(), CreatorContextType.PAGE);
+                    return Flux.fromIterable(page.getLayouts()).concatMap(layout -> {
                         layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
-                        return this.updateLayout(page.getId(), page.getApplicationId(), layout.getId(), layout);
+                        return this.updateLayout(
+                                page.getId(), page.getApplicationId(), layout.getId(), layout, executablesSnapshot);
                     });
                 })
                 .collectList()
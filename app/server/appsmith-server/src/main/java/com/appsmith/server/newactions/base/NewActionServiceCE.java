@@ -56,6 +56,8 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
     Flux<NewAction> findUnpublishedOnLoadActionsExplicitSetByUserInPage(String pageId);
 
+    Mono<Integer> updateUnpublishedActionsExecuteOnLoad(List<String> ids, Boolean executeOnLoad);
+
     Flux<NewAction> findUnpublishedActionsInPageByNames(Set<String> names, String pageId);
 
     Mono<NewAction> findById(String id);
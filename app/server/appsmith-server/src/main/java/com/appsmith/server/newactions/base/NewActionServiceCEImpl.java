@@ -701,6 +701,21 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 .flatMap(this::sanitizeAction);
     }
 
+    /**
+     * Sets execute on load in the unpublished version of all the given actions with a single update, without reading
+     * the actions first. Only meant for the execute on load setting computed from the layout, as the actions are not
+     * validated again.
+     *
+     * @return the number of actions updated
+     */
+    @Override
+    public Mono<Integer> updateUnpublishedActionsExecuteOnLoad(List<String> ids, Boolean executeOnLoad) {
+        if (ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        return repository.updateUnpublishedExecuteOnLoadByIds(ids, executeOnLoad, actionPermission.getEditPermission());
+    }
+
     /**
      * Given a list of names of actions and pageId, find all the actions matching this criteria of names and pageId
      *
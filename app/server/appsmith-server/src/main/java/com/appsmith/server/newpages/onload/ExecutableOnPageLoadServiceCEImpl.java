@@ -52,17 +52,8 @@ public class ExecutableOnPageLoadServiceCEImpl implements ExecutableOnLoadServic
     }
 
     @Override
-    public Flux<Executable> getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(String creatorId) {
-        return newActionService
-                .findUnpublishedOnLoadActionsExplicitSetByUserInPage(creatorId)
-                .map(newAction -> newActionService.generateActionByViewMode(newAction, false));
-    }
-
-    @Override
-    public Mono<Executable> updateUnpublishedExecutable(String id, Executable executable) {
-        return newActionService
-                .updateUnpublishedAction(id, (ActionDTO) executable)
-                .map(updated -> updated);
+    public Mono<Integer> updateUnpublishedExecutablesExecuteOnLoad(List<String> ids, Boolean executeOnLoad) {
+        return newActionService.updateUnpublishedActionsExecuteOnLoad(ids, executeOnLoad);
     }
 
     @Override
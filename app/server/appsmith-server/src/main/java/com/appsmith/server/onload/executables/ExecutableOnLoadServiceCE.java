@@ -6,15 +6,15 @@ import com.appsmith.server.domains.Layout;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ExecutableOnLoadServiceCE<T extends BaseDomain> {
 
     Flux<Executable> getAllExecutablesByCreatorIdFlux(String creatorId);
 
     Mono<Executable> fillSelfReferencingPaths(Executable executable);
 
-    Flux<Executable> getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(String creatorId);
-
-    Mono<Executable> updateUnpublishedExecutable(String id, Executable executable);
+    Mono<Integer> updateUnpublishedExecutablesExecuteOnLoad(List<String> ids, Boolean executeOnLoad);
 
     Mono<Layout> findAndUpdateLayout(String creatorId, String layoutId, Layout layout);
 }
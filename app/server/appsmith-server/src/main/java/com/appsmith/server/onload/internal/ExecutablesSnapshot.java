@@ -0,0 +1,81 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * The executables of a creator (e.g. a page), fetched once and shared by every step of a single operation on it, such
+ * as computing the on load executables of a layout and updating their execute on load setting.
+ * <p>
+ * Changes made to the executables through the snapshot are only kept in memory, until they are flushed to the database
+ * in one go at the end of the operation, with {@link OnLoadExecutablesUtilCE#flushExecutablesSnapshot}.
+ * <p>
+ * A snapshot is meant to be used by one operation only, and must not be kept around after it.
+ */
+public class ExecutablesSnapshot {
+
+    @Getter
+    private final String creatorId;
+
+    @Getter
+    private final CreatorContextType creatorType;
+
+    private final Mono<List<Executable>> executablesMono;
+
+    // New execute on load setting, by id of the executables that have been changed since the snapshot was taken
+    private final Map<String, Boolean> executeOnLoadUpdates = new HashMap<>();
+
+    ExecutablesSnapshot(String creatorId, CreatorContextType creatorType, Flux<Executable> executablesFlux) {
+        this.creatorId = creatorId;
+        this.creatorType = creatorType;
+        this.executablesMono = executablesFlux.collectList().cache();
+    }
+
+    /**
+     * All the executables of the creator. The database is only queried the first time this is subscribed to.
+     */
+    public Flux<Executable> getExecutables() {
+        return executablesMono.flatMapIterable(executables -> executables);
+    }
+
+    /**
+     * The executables of the creator which the user has explicitly set to run on load.
+     */
+    public Flux<Executable> getExecutablesExplicitlySetOnLoadByUser() {
+        return getExecutables()
+                .filter(executable ->
+                        TRUE.equals(executable.getExecuteOnLoad()) && TRUE.equals(executable.getUserSetOnLoad()));
+    }
+
+    /**
+     * Changes the execute on load setting of the given executable, which must be one of the executables in this
+     * snapshot. The change is written to the database when the snapshot is flushed.
+     */
+    public synchronized void setExecuteOnLoad(Executable executable, Boolean executeOnLoad) {
+        executable.setExecuteOnLoad(executeOnLoad);
+        executeOnLoadUpdates.put(executable.getId(), executeOnLoad);
+    }
+
+    /**
+     * Returns the ids of the executables whose execute on load setting has been changed since the last call, grouped
+     * by the new value of the setting, and forgets about them.
+     */
+    synchronized Map<Boolean, List<String>> drainExecuteOnLoadUpdates() {
+        Map<Boolean, List<String>> idsByExecuteOnLoad = new HashMap<>();
+        executeOnLoadUpdates.forEach((id, executeOnLoad) -> idsByExecuteOnLoad
+                .computeIfAbsent(executeOnLoad, key -> new ArrayList<>())
+                .add(id));
+        executeOnLoadUpdates.clear();
+        return idsByExecuteOnLoad;
+    }
+}
@@ -14,22 +14,30 @@ import java.util.Set;
 
 public interface OnLoadExecutablesUtilCE {
 
+    /**
+     * Takes a snapshot of the executables of the given creator, to be shared by all the steps of one operation on it.
+     * The executables are only fetched once the snapshot is first read from.
+     */
+    ExecutablesSnapshot getExecutablesSnapshot(String creatorId, CreatorContextType creatorType);
+
     Mono<List<Set<DslExecutableDTO>>> findAllOnLoadExecutables(
-            String creatorId,
+            ExecutablesSnapshot executablesSnapshot,
             Integer evaluatedVersion,
             Set<String> widgetNames,
             Set<ExecutableDependencyEdge> edges,
             Map<String, Set<String>> widgetDynamicBindingsMap,
             List<Executable> flatPageLoadExecutables,
-            Set<String> executablesUsedInDSL,
-            CreatorContextType creatorType);
+            Set<String> executablesUsedInDSL);
 
     /**
      * !!!WARNING!!! This function edits the parameters executableUpdatesRef and messagesRef which are eventually returned back to
      * the caller with the updates values.
      *
+     * The updated executables are only changed in the snapshot, and have to be written with
+     * {@link #flushExecutablesSnapshot(ExecutablesSnapshot)}.
+     *
      * @param onLoadExecutables : All the actions which have been found to be on page load
-     * @param creatorId
+     * @param executablesSnapshot : Snapshot of the executables of the creator
      * @param executableUpdatesRef : Empty array list which would be set in this function with all the page actions whose
      *                      execute on load setting has changed (whether flipped from true to false, or vice versa)
      * @param messagesRef      : Empty array list which would be set in this function with all the messagesRef that should be
@@ -38,10 +46,14 @@ public interface OnLoadExecutablesUtilCE {
      */
     Mono<Boolean> updateExecutablesExecuteOnLoad(
             List<Executable> onLoadExecutables,
-            String creatorId,
+            ExecutablesSnapshot executablesSnapshot,
             List<LayoutExecutableUpdateDTO> executableUpdatesRef,
-            List<String> messagesRef,
-            CreatorContextType creatorType);
+            List<String> messagesRef);
+
+    /**
+     * Writes the changes made to the executables in the snapshot to the database, in as few queries as possible.
+     */
+    Mono<Void> flushExecutablesSnapshot(ExecutablesSnapshot executablesSnapshot);
 
     Mono<Layout> findAndUpdateLayout(String creatorId, CreatorContextType creatorType, String layoutId, Layout layout);
 }
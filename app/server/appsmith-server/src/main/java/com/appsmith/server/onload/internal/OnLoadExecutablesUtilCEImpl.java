@@ -78,7 +78,7 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * !!!WARNING!!! : This function edits the parameters edges, executablesUsedInDSL and flatPageLoadExecutables
      * and the same are used by the caller function for further processing.
      *
-     * @param creatorId                  : Argument used for fetching executables in this page
+     * @param executablesSnapshot        : Snapshot of the executables in this page
      * @param evaluatedVersion           : Depending on the evaluated version, the way the AST parsing logic picks entities in the dynamic binding will change
      * @param widgetNames                : Set of widget names which SHOULD have been populated before calling this function.
      * @param edgesRef                   : Set where this function adds all the relationships (dependencies) between executables
@@ -94,15 +94,15 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * in parallel. But one set of executables MUST finish execution before the next set of executables can be executed
      * in the list.
      */
+    @Override
     public Mono<List<Set<DslExecutableDTO>>> findAllOnLoadExecutables(
-            String creatorId,
+            ExecutablesSnapshot executablesSnapshot,
             Integer evaluatedVersion,
             Set<String> widgetNames,
             Set<ExecutableDependencyEdge> edgesRef,
             Map<String, Set<String>> widgetDynamicBindingsMap,
             List<Executable> flatPageLoadExecutablesRef,
-            Set<String> executablesUsedInDSLRef,
-            CreatorContextType creatorType) {
+            Set<String> executablesUsedInDSLRef) {
 
         Set<String> onLoadExecutableSetRef = new HashSet<>();
         Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
@@ -119,7 +119,9 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         // In the above case, the two executables depend on each other without there being a real cyclical dependency.
         Map<String, EntityDependencyNode> executablesFoundDuringWalkRef = new HashMap<>();
 
-        Flux<Executable> allExecutablesByCreatorIdFlux = getAllExecutablesByCreatorIdFlux(creatorId, creatorType);
+        // All of the following publishers read the executables of the creator from the snapshot, which fetches them
+        // only once
+        Flux<Executable> allExecutablesByCreatorIdFlux = executablesSnapshot.getExecutables();
 
         Mono<Map<String, Executable>> executableNameToExecutableMapMono = allExecutablesByCreatorIdFlux
                 .flatMapIterable(executable -> {
@@ -157,15 +159,14 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         Mono<Set<ExecutableDependencyEdge>> createAllEdgesForPageMono = directlyReferencedExecutablesToGraphMono
                 // Add dependencies of all on page load executables set by the user in the graph
                 .flatMap(updatedEdges -> addExplicitUserSetOnLoadExecutablesToGraph(
-                        creatorId,
+                        executablesSnapshot,
                         updatedEdges,
                         explicitUserSetOnLoadExecutablesRef,
                         executablesFoundDuringWalkRef,
                         bindingsFromExecutablesRef,
                         executableNameToExecutableMapMono,
                         executableBindingsInDslRef,
-                        evaluatedVersion,
-                        creatorType))
+                        evaluatedVersion))
                 // For all the executables found so far, recursively walk the dynamic bindings of the executables to
                 // find more relationships with other executables (& widgets)
                 .flatMap(updatedEdges -> recursivelyAddExecutablesAndTheirDependentsToGraphFromBindings(
@@ -253,18 +254,20 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         return createGraphMono.then(flatPageLoadExecutablesMono).then(computeCompletePageLoadExecutableScheduleMono);
     }
 
+    @Override
+    public ExecutablesSnapshot getExecutablesSnapshot(String creatorId, CreatorContextType creatorType) {
+        return new ExecutablesSnapshot(
+                creatorId, creatorType, Flux.defer(() -> getAllExecutablesByCreatorIdFlux(creatorId, creatorType)));
+    }
+
     @Override
     public Mono<Boolean> updateExecutablesExecuteOnLoad(
             List<Executable> onLoadExecutables,
-            String creatorId,
+            ExecutablesSnapshot executablesSnapshot,
             List<LayoutExecutableUpdateDTO> executableUpdatesRef,
-            List<String> messagesRef,
-            CreatorContextType creatorType) {
-        List<Executable> toUpdateExecutables = new ArrayList<>();
-
-        // Fetch all the actions which exist in this page.
-        Flux<Executable> creatorContextExecutablesFlux =
-                this.getAllExecutablesByCreatorIdFlux(creatorId, creatorType).cache();
+            List<String> messagesRef) {
+        // All the actions which exist in this page.
+        Flux<Executable> creatorContextExecutablesFlux = executablesSnapshot.getExecutables();
 
         // Before we update the actions, fetch all the actions which are currently set to execute on load.
         Mono<List<Executable>> existingOnLoadExecutablesMono = creatorContextExecutablesFlux
@@ -323,14 +326,12 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
 
                             // If this executable is no longer an onload executable, turn the execute on load to false
                             if (turnedOffExecutableNames.contains(executableName)) {
-                                executable.setExecuteOnLoad(FALSE);
-                                toUpdateExecutables.add(executable);
+                                executablesSnapshot.setExecuteOnLoad(executable, FALSE);
                             }
 
                             // If this executable is newly found to be on load, turn execute on load to true
                             if (turnedOnExecutableNames.contains(executableName)) {
-                                executable.setExecuteOnLoad(TRUE);
-                                toUpdateExecutables.add(executable);
+                                executablesSnapshot.setExecuteOnLoad(executable, TRUE);
                             }
 
                         } else {
@@ -369,25 +370,28 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                                 turnedOnExecutableNames.toString() + " will be executed automatically on page load");
                     }
 
-                    // Finally update the actions which require an update
-                    return Flux.fromIterable(toUpdateExecutables)
-                            .flatMap(executable -> this.updateUnpublishedExecutable(executable.getId(), executable))
-                            .then(Mono.just(TRUE));
+                    // The actions which require an update are written when the snapshot is flushed
+                    return Mono.just(TRUE);
                 });
     }
 
+    @Override
+    public Mono<Void> flushExecutablesSnapshot(ExecutablesSnapshot executablesSnapshot) {
+        // The changes are drained on subscription, so that the flush also writes the changes made by the publishers
+        // it is chained after. At most one write for the executables turned on, and one for those turned off.
+        return Flux.defer(() -> Flux.fromIterable(
+                        executablesSnapshot.drainExecuteOnLoadUpdates().entrySet()))
+                .concatMap(entry -> pageExecutableOnLoadService.updateUnpublishedExecutablesExecuteOnLoad(
+                        entry.getValue(), entry.getKey()))
+                .then();
+    }
+
     @Override
     public Mono<Layout> findAndUpdateLayout(
             String creatorId, CreatorContextType creatorType, String layoutId, Layout layout) {
         return pageExecutableOnLoadService.findAndUpdateLayout(creatorId, layoutId, layout);
     }
 
-    private Mono<Executable> updateUnpublishedExecutable(String id, Executable executable) {
-        if (executable instanceof ActionDTO actionDTO) {
-            return pageExecutableOnLoadService.updateUnpublishedExecutable(id, actionDTO);
-        } else return Mono.just(executable);
-    }
-
     private List<LayoutExecutableUpdateDTO> addExecutableUpdatesForExecutableNames(
             List<Executable> executables, Set<String> updatedExecutableNames) {
 
@@ -925,7 +929,7 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * !!! WARNING !!! : This function updates the set `explicitUserSetOnLoadExecutables` and adds the names of all such
      * executables found in this function.
      *
-     * @param creatorId
+     * @param executablesSnapshot
      * @param edges
      * @param explicitUserSetOnLoadExecutables
      * @param executablesFoundDuringWalkRef
@@ -933,18 +937,18 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * @return
      */
     private Mono<Set<ExecutableDependencyEdge>> addExplicitUserSetOnLoadExecutablesToGraph(
-            String creatorId,
+            ExecutablesSnapshot executablesSnapshot,
             Set<ExecutableDependencyEdge> edges,
             Set<String> explicitUserSetOnLoadExecutables,
             Map<String, EntityDependencyNode> executablesFoundDuringWalkRef,
             Set<String> bindingsFromExecutablesRef,
             Mono<Map<String, Executable>> executableNameToExecutableMapMono,
             Set<EntityDependencyNode> executableBindingsInDsl,
-            int evalVersion,
-            CreatorContextType creatorType) {
+            int evalVersion) {
 
-        // First fetch all the executables which have been tagged as on load by the user explicitly.
-        return getUnpublishedOnLoadExecutablesExplicitSetByUserInCreatorContextFlux(creatorId, creatorType)
+        // First find all the executables which have been tagged as on load by the user explicitly.
+        return executablesSnapshot
+                .getExecutablesExplicitlySetOnLoadByUser()
                 .flatMap(this::fillSelfReferencingPaths)
                 // Add the vertices and edges to the graph for these executables
                 .flatMap(executable -> {
@@ -969,11 +973,6 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                 .thenReturn(edges);
     }
 
-    protected Flux<Executable> getUnpublishedOnLoadExecutablesExplicitSetByUserInCreatorContextFlux(
-            String creatorId, CreatorContextType creatorType) {
-        return pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(creatorId);
-    }
-
     /**
      * Given an executable, this function adds all the dependencies the executable to the graph edges. This is achieved by first
      * walking the executable configuration and finding the paths and the mustache JS snippets found at the said path. Then
@@ -4,6 +4,7 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -28,7 +29,8 @@ public interface AppsmithRepository<T extends BaseDomain> {
     /**
      * This method uses the mongodb bulk operation to save a list of new actions. When calling this method, please note
      * the following points:
-     * 1. All of them will be written to database in a single DB operation.
+     * 1. They will be written to database in as few DB operations as possible, in batches of
+     *    appsmith.mongodb.bulk-write.batch-size.
      * 2. If you pass a domain without ID, the ID will be generated by the database.
      * 3. All the auto generated fields e.g. createdAt, updatedAt should be set by the caller.
      *    They'll not be generated in the bulk write.
@@ -38,5 +40,23 @@ public interface AppsmithRepository<T extends BaseDomain> {
      */
     Mono<Void> bulkInsert(List<T> domainList);
 
+    /**
+     * Same as {@link #bulkInsert(List)}, except that the domains are converted and written in bounded batches as they
+     * are emitted, so the whole set is never held as database documents at once. Batches that were written before a
+     * failure, including one raised by the given Flux, stay written. Callers that must not leave a partial write behind,
+     * such as import, hence validate all the domains before the first one is handed over.
+     * @param domains Domains that'll be saved in bulk
+     * @return Mono that completes once all the batches are written
+     */
+    Mono<Void> bulkInsert(Flux<T> domains);
+
     Mono<Void> bulkUpdate(List<T> domainList);
+
+    /**
+     * Same as {@link #bulkUpdate(List)}, except that the domains are written in bounded batches as they are emitted,
+     * with the same failure behaviour as {@link #bulkInsert(Flux)}.
+     * @param domains Domains that'll be updated in bulk
+     * @return Mono that completes once all the batches are written
+     */
+    Mono<Void> bulkUpdate(Flux<T> domains);
 }
@@ -1,23 +1,28 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PermissionGroupIndex;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
@@ -29,8 +34,10 @@ import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 import java.lang.reflect.Modifier;
 import java.time.Instant;
@@ -41,7 +48,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -72,6 +78,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * <p>
  * <a href="https://theappsmith.slack.com/archives/CPQNLFHTN/p1711966160274399">Ref Slack thread</a>.
  */
+@Slf4j
 public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     @Autowired
@@ -82,6 +89,17 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     @Autowired
     private CacheableRepositoryHelper cacheableRepositoryHelper;
 
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    // Number of domains converted and written to the database at a time by bulkInsert and bulkUpdate.
+    @Value("${appsmith.mongodb.bulk-write.batch-size:500}")
+    private int bulkWriteBatchSize = DEFAULT_BULK_WRITE_BATCH_SIZE;
+
+    public static final int DEFAULT_BULK_WRITE_BATCH_SIZE = 500;
+
+    private static final String BULK_WRITE_BATCH_SPAN = "appsmith.mongodb.bulk-write.batch";
+
     public static final int NO_RECORD_LIMIT = -1;
 
     public static final int NO_SKIP = 0;
@@ -403,26 +421,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
-        Set<String> permissions = new HashSet<>();
-        obj.setUserPermissions(permissions);
-
-        if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
-            return Mono.just(obj);
-        }
-
-        for (Policy policy : obj.getPolicies()) {
-            Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
-                continue;
-            }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
-            }
-        }
-
+        obj.setUserPermissions(PermissionGroupIndex.of(permissionGroups).getPermissions(obj.getPolicies()));
         return Mono.just(obj);
     }
 
@@ -515,19 +514,38 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
+        return bulkInsert(Flux.fromIterable(domainList));
+    }
 
-        return mongoOperations
-                .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
+    /**
+     * Inserts the given domains in batches of {@code appsmith.mongodb.bulk-write.batch-size}. Every batch is converted
+     * to documents only when the previous one has been written, so that neither the converted documents nor a single
+     * insert message grows with the number of domains. The writes are unordered, hence a failure of one document
+     * doesn't stop the others in its batch from being written.
+     */
+    public Mono<Void> bulkInsert(Flux<T> domains) {
+        final String collectionName = mongoOperations.getCollectionName(genericDomain);
+        final InsertManyOptions insertManyOptions = new InsertManyOptions().ordered(false);
+
+        return domains.buffer(bulkWriteBatchSize)
+                .concatMap(batch -> {
+                    // convert the batch of domains to a list of DBObjects
+                    final List<Document> dbObjects = new ArrayList<>(batch.size());
+                    for (T domain : batch) {
+                        Document document = new Document();
+                        mongoOperations.getConverter().write(domain, document);
+                        dbObjects.add(document);
+                    }
+
+                    return timeBulkWriteBatch(
+                            "insert",
+                            collectionName,
+                            dbObjects.size(),
+                            mongoOperations
+                                    .getCollection(collectionName)
+                                    .flatMap(documentMongoCollection -> Mono.from(
+                                            documentMongoCollection.insertMany(dbObjects, insertManyOptions))));
+                })
                 .then();
     }
 
@@ -536,23 +554,51 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of new actions to a list of DBObjects
-        List<WriteModel<Document>> dbObjects = domainObjects.stream()
-                .map(actionCollection -> {
-                    assert actionCollection.getId() != null;
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(actionCollection, document);
-                    document.remove("_id");
-                    return (WriteModel<Document>) new UpdateOneModel<Document>(
-                            new Document("_id", new ObjectId(actionCollection.getId())),
-                            new Document("$set", document));
-                })
-                .collect(Collectors.toList());
+        return bulkUpdate(Flux.fromIterable(domainObjects));
+    }
 
-        return mongoOperations
-                .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
-                .collectList()
+    /**
+     * Updates the given domains in batches of {@code appsmith.mongodb.bulk-write.batch-size}, with a {@code $set} of the
+     * fields that are present in each domain, same as {@link #bulkInsert(Flux)} does for inserts.
+     */
+    public Mono<Void> bulkUpdate(Flux<T> domains) {
+        final String collectionName = mongoOperations.getCollectionName(genericDomain);
+        final BulkWriteOptions bulkWriteOptions = new BulkWriteOptions().ordered(false);
+
+        return domains.buffer(bulkWriteBatchSize)
+                .concatMap(batch -> {
+                    // convert the batch of domains to a list of DBObjects
+                    final List<WriteModel<Document>> dbObjects = new ArrayList<>(batch.size());
+                    for (T domain : batch) {
+                        assert domain.getId() != null;
+                        Document document = new Document();
+                        mongoOperations.getConverter().write(domain, document);
+                        document.remove("_id");
+                        dbObjects.add(new UpdateOneModel<>(
+                                new Document("_id", new ObjectId(domain.getId())), new Document("$set", document)));
+                    }
+
+                    return timeBulkWriteBatch(
+                            "update",
+                            collectionName,
+                            dbObjects.size(),
+                            mongoOperations
+                                    .getCollection(collectionName)
+                                    .flatMap(documentMongoCollection ->
+                                            Mono.from(documentMongoCollection.bulkWrite(dbObjects, bulkWriteOptions))));
+                })
                 .then();
     }
+
+    private <R> Mono<R> timeBulkWriteBatch(String operation, String collectionName, int size, Mono<R> writeMono) {
+        return writeMono
+                .elapsed()
+                .doOnNext(tuple -> log.debug(
+                        "Bulk {} of {} documents into {} took {} ms", operation, size, collectionName, tuple.getT1()))
+                .map(Tuple2::getT2)
+                .name(BULK_WRITE_BATCH_SPAN)
+                .tag("operation", operation)
+                .tag("collection", collectionName)
+                .tap(Micrometer.observation(observationRegistry));
+    }
 }
@@ -32,6 +32,9 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
     Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(
             String pageId, AclPermission permission);
 
+    Mono<Integer> updateUnpublishedExecuteOnLoadByIds(
+            List<String> ids, Boolean executeOnLoad, AclPermission permission);
+
     Flux<NewAction> findAllActionsByNameAndPageIdsAndViewMode(
             String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
 
@@ -187,6 +187,18 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         return queryBuilder().criteria(q).permission(permission).all();
     }
 
+    @Override
+    public Mono<Integer> updateUnpublishedExecuteOnLoadByIds(
+            List<String> ids, Boolean executeOnLoad, AclPermission permission) {
+        BridgeUpdate update = Bridge.update();
+        update.set(NewAction.Fields.unpublishedAction_executeOnLoad, executeOnLoad);
+        update.set(NewAction.Fields.updatedAt, Instant.now());
+        return queryBuilder()
+                .criteria(Bridge.in(NewAction.Fields.id, ids))
+                .permission(permission)
+                .updateAll(update);
+    }
+
     @Override
     public Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission, Sort sort) {
         return queryBuilder()
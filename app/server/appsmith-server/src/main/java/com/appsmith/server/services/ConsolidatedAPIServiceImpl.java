@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ProjectProperties;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -33,7 +34,9 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
             PluginService pluginService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            PermissionGroupService permissionGroupService,
+            ProjectProperties projectProperties) {
         super(
                 sessionUserService,
                 userService,
@@ -50,6 +53,8 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
                 pluginService,
                 datasourceService,
                 mockDataService,
-                observationRegistry);
+                observationRegistry,
+                permissionGroupService,
+                projectProperties);
     }
 }
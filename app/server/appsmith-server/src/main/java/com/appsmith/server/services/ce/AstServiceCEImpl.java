@@ -8,6 +8,8 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.util.WebClientUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +26,9 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +57,20 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    // Upper bound on the total length of the bindings whose references are cached
+    private static final long MAX_CACHED_BINDINGS_LENGTH = 20_000_000;
+
+    private record BindingKey(String binding, int evalVersion) {}
+
+    /*
+     References found by RTS in each binding. Most bindings of a page are unchanged from one layout save to the next, so
+     that only the ones that were edited need to be sent to RTS again.
+    */
+    private final Cache<BindingKey, Set<String>> bindingReferencesCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_BINDINGS_LENGTH)
+            .<BindingKey, Set<String>>weigher((key, references) -> key.binding().length())
+            .build();
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -116,8 +134,27 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
+
+        List<Tuple2<String, Set<String>>> cachedReferences = new ArrayList<>();
+        Set<String> uncachedBindingValues = new LinkedHashSet<>();
+        for (String bindingValue : bindingValues) {
+            Set<String> references = bindingReferencesCache.getIfPresent(new BindingKey(bindingValue, evalVersion));
+            if (references != null) {
+                cachedReferences.add(Tuples.of(bindingValue, new HashSet<>(references)));
+            } else {
+                uncachedBindingValues.add(bindingValue);
+            }
+        }
+
+        if (uncachedBindingValues.isEmpty()) {
+            return Flux.fromIterable(cachedReferences);
+        }
+
+        final List<String> requestedBindingValues = new ArrayList<>(uncachedBindingValues);
         return rtsCaller
-                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(bindingValues, evalVersion))
+                .post(
+                        "/rts-api/v1/ast/multiple-script-data",
+                        new GetIdentifiersRequestBulk(requestedBindingValues, evalVersion))
                 .flatMapMany(spec -> spec.retrieve()
                         .bodyToMono(GetIdentifiersResponseBulk.class)
                         .retryWhen(Retry.max(3))
@@ -126,8 +163,14 @@ public class AstServiceCEImpl implements AstServiceCE {
                 .flatMap(tuple2 -> {
                     long currentIndex = tuple2.getT1();
                     Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
+                    String bindingValue = requestedBindingValues.get((int) currentIndex);
+                    if (references != null) {
+                        bindingReferencesCache.put(
+                                new BindingKey(bindingValue, evalVersion), new HashSet<>(references));
+                    }
+                    return Mono.zip(Mono.just(bindingValue), Mono.just(references));
+                })
+                .concatWith(Flux.fromIterable(cachedReferences));
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
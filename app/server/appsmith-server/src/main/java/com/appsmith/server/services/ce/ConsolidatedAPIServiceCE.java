@@ -4,8 +4,18 @@ import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import reactor.core.publisher.Mono;
 
+import java.util.function.Predicate;
+
 public interface ConsolidatedAPIServiceCE {
 
     Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoad(
             String defaultPageId, String applicationId, String branchName, ApplicationMode mode);
+
+    /**
+     * Same as getConsolidatedInfoForPageLoad in view mode, along with an ETag that only changes when the application is
+     * deployed or the data of the user changes. The ETag is given to isNotModified, and if it accepts it, the response
+     * is empty, without fetching the data of the application.
+     */
+    Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoadInViewMode(
+            String defaultPageId, String applicationId, String branchName, Predicate<String> isNotModified);
 }
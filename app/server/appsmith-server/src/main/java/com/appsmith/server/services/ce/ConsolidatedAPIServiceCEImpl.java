@@ -3,8 +3,10 @@ package com.appsmith.server.services.ce;
 import com.appsmith.external.exceptions.ErrorDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.views.Views;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ProjectProperties;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
@@ -23,15 +25,23 @@ import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.services.UserService;
 import com.appsmith.server.themes.base.ThemeService;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -41,12 +51,18 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
@@ -100,6 +116,36 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
+    private final PermissionGroupService permissionGroupService;
+    private final ProjectProperties projectProperties;
+
+    private static final int VIEW_MODE_RESPONSE_CACHE_SIZE = 100;
+
+    private static final Duration VIEW_MODE_RESPONSE_CACHE_TTL = Duration.ofMinutes(10);
+
+    private static final ObjectWriter ETAG_WRITER = SerializationUtils.getBasicObjectMapper(null)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .writerWithView(Views.Public.class);
+
+    /**
+     * Identifies the published data of a page, as seen by the users with the given permission groups. This data only
+     * changes when the application is deployed, or when the application itself is updated, e.g. when it's made public.
+     */
+    protected record ViewModeVersion(
+            String applicationId,
+            String defaultPageId,
+            String lastDeployedAt,
+            Instant updatedAt,
+            Set<String> permissionGroupIds) {}
+
+    /*
+     View mode responses of recently loaded pages. Only their application data is reused, which is the same for all the
+     users that have the same permission groups, e.g. for all the anonymous viewers of a public application.
+    */
+    private final Cache<ViewModeVersion, ConsolidatedAPIResponseDTO> viewModeResponseCache = Caffeine.newBuilder()
+            .maximumSize(VIEW_MODE_RESPONSE_CACHE_SIZE)
+            .expireAfterWrite(VIEW_MODE_RESPONSE_CACHE_TTL)
+            .build();
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
@@ -147,6 +193,144 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* This object will serve as a container to hold the response of this method*/
         ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
 
+        final List<Mono<?>> fetches = new ArrayList<>(getUserAndTenantFetches(consolidatedAPIResponseDTO, mode));
+
+        if (isBlank(defaultPageId) && isBlank(applicationId)) {
+            return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+        }
+
+        Mono<String> applicationIdMonoCache = getApplicationIdMono(defaultPageId, applicationId, branchName, mode);
+        Mono<Application> branchedApplicationMonoCached =
+                getBranchedApplicationMono(applicationIdMonoCache, branchName, mode);
+        fetches.addAll(getApplicationFetches(
+                consolidatedAPIResponseDTO,
+                defaultPageId,
+                branchName,
+                mode,
+                applicationIdMonoCache,
+                branchedApplicationMonoCached));
+
+        return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+    }
+
+    @Override
+    public Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoadInViewMode(
+            String defaultPageId, String applicationId, String branchName, Predicate<String> isNotModified) {
+        final ApplicationMode mode = ApplicationMode.PUBLISHED;
+        if (isBlank(defaultPageId) && isBlank(applicationId)) {
+            return getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, mode);
+        }
+
+        ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
+        List<Mono<?>> userAndTenantFetches = getUserAndTenantFetches(consolidatedAPIResponseDTO, mode);
+        Mono<String> applicationIdMonoCache = getApplicationIdMono(defaultPageId, applicationId, branchName, mode);
+        Mono<Application> branchedApplicationMonoCached =
+                getBranchedApplicationMono(applicationIdMonoCache, branchName, mode);
+
+        // If the application can't be fetched, the fetches of its data report the error in the response as usual
+        Mono<Optional<ViewModeVersion>> viewModeVersionMono = Mono.zip(
+                        branchedApplicationMonoCached, permissionGroupService.getSessionUserPermissionGroupIds())
+                .map(tuple2 -> {
+                    Application branchedApplication = tuple2.getT1();
+                    return Optional.of(new ViewModeVersion(
+                            branchedApplication.getId(),
+                            defaultPageId,
+                            branchedApplication.getLastDeployedAt(),
+                            branchedApplication.getUpdatedAt(),
+                            new TreeSet<>(tuple2.getT2())));
+                })
+                .onErrorResume(error -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty());
+
+        Mono<ConsolidatedAPIResponseDTO> fetchApplicationDataMono = Mono.defer(() -> Mono.when(getApplicationFetches(
+                        consolidatedAPIResponseDTO,
+                        defaultPageId,
+                        branchName,
+                        mode,
+                        applicationIdMonoCache,
+                        branchedApplicationMonoCached))
+                .thenReturn(consolidatedAPIResponseDTO));
+
+        return Mono.when(userAndTenantFetches).then(viewModeVersionMono).flatMap(viewModeVersion -> {
+            if (viewModeVersion.isEmpty()) {
+                return fetchApplicationDataMono;
+            }
+
+            String etag = getViewModeEtag(consolidatedAPIResponseDTO, viewModeVersion.get());
+            if (etag != null && isNotModified.test(etag)) {
+                return Mono.empty();
+            }
+
+            ConsolidatedAPIResponseDTO cachedResponseDTO = viewModeResponseCache.getIfPresent(viewModeVersion.get());
+            if (cachedResponseDTO != null) {
+                copyViewModeApplicationData(cachedResponseDTO, consolidatedAPIResponseDTO);
+                return Mono.just(consolidatedAPIResponseDTO);
+            }
+
+            return fetchApplicationDataMono.doOnNext(responseDTO -> {
+                if (isViewModeApplicationDataSuccessful(responseDTO, defaultPageId)) {
+                    viewModeResponseCache.put(viewModeVersion.get(), responseDTO);
+                }
+            });
+        });
+    }
+
+    /**
+     * The ETag of a view mode response is derived from the version of the published application, the data of the user
+     * and the version of the server, which decides how the page DSL is migrated.
+     */
+    protected String getViewModeEtag(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, ViewModeVersion viewModeVersion) {
+        List<Object> etagSources = Arrays.asList(
+                projectProperties.getVersion(),
+                projectProperties.getCommitSha(),
+                viewModeVersion,
+                consolidatedAPIResponseDTO.getUserProfile(),
+                consolidatedAPIResponseDTO.getFeatureFlags(),
+                consolidatedAPIResponseDTO.getTenantConfig(),
+                consolidatedAPIResponseDTO.getProductAlert());
+
+        try {
+            return "\"" + DigestUtils.sha256Hex(ETAG_WRITER.writeValueAsBytes(etagSources)) + "\"";
+        } catch (JsonProcessingException e) {
+            log.error("Unable to compute the ETag of the view mode response", e);
+            return null;
+        }
+    }
+
+    private static boolean isViewModeApplicationDataSuccessful(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, String defaultPageId) {
+        return isSuccessful(consolidatedAPIResponseDTO.getPages())
+                && isSuccessful(consolidatedAPIResponseDTO.getCurrentTheme())
+                && isSuccessful(consolidatedAPIResponseDTO.getThemes())
+                && isSuccessful(consolidatedAPIResponseDTO.getCustomJSLibraries())
+                && (isBlank(defaultPageId) || isSuccessful(consolidatedAPIResponseDTO.getPageWithMigratedDsl()))
+                && isSuccessful(consolidatedAPIResponseDTO.getPublishedActions())
+                && isSuccessful(consolidatedAPIResponseDTO.getPublishedActionCollections());
+    }
+
+    private static boolean isSuccessful(ResponseDTO<?> responseDTO) {
+        return responseDTO != null
+                && responseDTO.getResponseMeta() != null
+                && HttpStatus.OK.value() == responseDTO.getResponseMeta().getStatus();
+    }
+
+    private static void copyViewModeApplicationData(ConsolidatedAPIResponseDTO from, ConsolidatedAPIResponseDTO to) {
+        to.setPages(from.getPages());
+        to.setCurrentTheme(from.getCurrentTheme());
+        to.setThemes(from.getThemes());
+        to.setCustomJSLibraries(from.getCustomJSLibraries());
+        to.setPageWithMigratedDsl(from.getPageWithMigratedDsl());
+        to.setPublishedActions(from.getPublishedActions());
+        to.setPublishedActionCollections(from.getPublishedActionCollections());
+    }
+
+    /**
+     * Fetches the data that doesn't depend on the application: the user, their feature flags, the tenant and the product
+     * alert.
+     */
+    protected List<Mono<?>> getUserAndTenantFetches(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, ApplicationMode mode) {
         final List<Mono<?>> fetches = new ArrayList<>();
 
         /* Get user profile data */
@@ -191,30 +375,46 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .name(getQualifiedSpanName(PRODUCT_ALERT_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
-        if (isBlank(defaultPageId) && isBlank(applicationId)) {
-            return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
-        }
-
-        /* Get view mode - EDIT or PUBLISHED */
-        boolean isViewMode = ApplicationMode.PUBLISHED.equals(mode);
+        return fetches;
+    }
 
+    protected Mono<String> getApplicationIdMono(
+            String defaultPageId, String applicationId, String branchName, ApplicationMode mode) {
         /* Fetch application id if not provided */
-        Mono<String> applicationIdMonoCache;
         if (isBlank(applicationId)) {
-            applicationIdMonoCache = newPageService
+            return newPageService
                     .findRootApplicationIdFromNewPage(branchName, defaultPageId)
                     .name(getQualifiedSpanName(APPLICATION_ID_SPAN, mode))
                     .tap(Micrometer.observation(observationRegistry))
                     .cache();
-        } else {
-            applicationIdMonoCache = Mono.just(applicationId).cache();
         }
 
+        return Mono.just(applicationId).cache();
+    }
+
+    protected Mono<Application> getBranchedApplicationMono(
+            Mono<String> applicationIdMonoCache, String branchName, ApplicationMode mode) {
         // dslMigration-over-here using the branchName and defaultId
-        Mono<Application> branchedApplicationMonoCached = applicationIdMonoCache
+        return applicationIdMonoCache
                 .flatMap(defaultApplicationId -> applicationService.findByDefaultIdBranchNameAndApplicationMode(
                         defaultApplicationId, branchName, mode))
                 .cache();
+    }
+
+    /**
+     * Fetches the data of the application, its pages and their actions, that is needed to load the given page.
+     */
+    protected List<Mono<?>> getApplicationFetches(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            String defaultPageId,
+            String branchName,
+            ApplicationMode mode,
+            Mono<String> applicationIdMonoCache,
+            Mono<Application> branchedApplicationMonoCached) {
+        final List<Mono<?>> fetches = new ArrayList<>();
+
+        /* Get view mode - EDIT or PUBLISHED */
+        boolean isViewMode = ApplicationMode.PUBLISHED.equals(mode);
 
         Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached = branchedApplicationMonoCached
                 .flatMap(branchedApplication ->
@@ -428,7 +628,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .tap(Micrometer.observation(observationRegistry)));
         }
 
-        return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+        return fetches;
     }
 
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
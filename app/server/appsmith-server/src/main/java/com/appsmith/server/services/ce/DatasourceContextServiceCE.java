@@ -26,9 +26,19 @@ public interface DatasourceContextServiceCE {
 
     Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, DatasourceStorage datasourceStorage);
 
+    /**
+     * Same as getDatasourceContext, except that the context is marked as in use until it is given back with
+     * releaseDatasourceContext, so that it is not evicted, and its connection closed, in the meantime.
+     */
+    Mono<DatasourceContext<?>> acquireDatasourceContext(DatasourceStorage datasourceStorage, Plugin plugin);
+
+    Mono<Void> releaseDatasourceContext(DatasourceContext<?> datasourceContext);
+
     <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task);
 
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
+    Mono<Void> evictDatasourceContexts();
+
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
 }
@@ -1,5 +1,7 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolFactory;
 import com.appsmith.external.constants.PluginConstants;
 import com.appsmith.external.dtos.ExecutePluginDTO;
 import com.appsmith.external.dtos.RemoteDatasourceDTO;
@@ -20,16 +22,26 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
@@ -44,10 +56,27 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final ConnectionPoolConfig connectionPoolConfig;
 
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
 
+    private static final String METRIC_PREFIX = "appsmith.datasource.context";
+
+    // A context can be evicted between being looked up and being acquired, in which case a fresh one is looked up
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    // Contexts that haven't been used for this long get their connections closed
+    @Value("${appsmith.datasource.context.max-idle-time-seconds:1800}")
+    private long maxIdleTimeSeconds = 1800;
+
+    // Beyond this many contexts, the least recently used ones get their connections closed
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private int maxSize = 1000;
+
+    private final Counter idleEvictionCounter;
+    private final Counter sizeEvictionCounter;
+
     @Autowired
     public DatasourceContextServiceCEImpl(
             @Lazy DatasourceService datasourceService,
@@ -55,7 +84,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            ConnectionPoolConfig connectionPoolConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
@@ -65,6 +96,15 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.connectionPoolConfig = connectionPoolConfig;
+
+        Gauge.builder(METRIC_PREFIX + ".live", datasourceContextMap, Map::size).register(meterRegistry);
+        this.idleEvictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.sizeEvictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+                .tag("reason", "size")
+                .register(meterRegistry);
     }
 
     /**
@@ -94,6 +134,15 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
         return Mono.fromCallable(() -> {
                     synchronized (monitor) {
+                        /* The context may have been evicted, along with its monitor, while this thread was waiting for
+                        the monitor. Start over with the current monitor so that only one connection gets created. */
+                        if (datasourceContextIdentifier.isKeyValid()
+                                && datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier)
+                                        != monitor) {
+                            return getDatasourceContextMono(
+                                    datasourceStorage, datasourceContextIdentifier, plugin, pluginExecutor);
+                        }
+
                         /* Destroy any connection that is stale or in error state to free up resource */
                         final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
                         final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
@@ -129,19 +178,32 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                             + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
                                     datasourceContextIdentifier.getDatasourceId(),
                                     datasourceContextIdentifier.getEnvironmentId());
+                            markAccessed(datasourceContextIdentifier);
                             return datasourceContextMonoMap.get(datasourceContextIdentifier);
                         }
 
                         /* Create a fresh datasource context */
                         DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                        datasourceContext.setPluginId(plugin.getId());
                         if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
                             /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
                             the new connection in the context map. */
                             datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+                            if (datasourceContextMap.size() > maxSize) {
+                                /* Evicting takes the monitors of other datasources, hence it must not happen while this
+                                one is held. */
+                                evictDatasourceContexts().subscribe();
+                            }
                         }
 
-                        Mono<Object> connectionMonoCache = pluginExecutor
-                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                        /* The pool settings of this datasource reach the plugin through the Reactor context, along
+                        with the datasource id, which the plugin otherwise doesn't know about. */
+                        Mono<Object> connectionMonoCache = connectionPoolConfig
+                                .getConnectionPoolSettings(datasourceStorage.getDatasourceId())
+                                .flatMap(connectionPoolSettings -> pluginExecutor
+                                        .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                                        .contextWrite(context ->
+                                                ConnectionPoolFactory.withSettings(context, connectionPoolSettings)))
                                 .cache();
 
                         Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
@@ -292,6 +354,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 // The following condition happens when there's a timeout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
                 && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
+                && !datasourceContextMap.get(datasourceContextIdentifier).isEvicted()
                 && !isStale
                 && !isInErrorState;
     }
@@ -308,7 +371,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+                datasourceContext.setLastAccessedTime(Instant.now());
+                return Mono.just(datasourceContext);
             }
         }
 
@@ -360,13 +425,32 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    @Override
+    public Mono<DatasourceContext<?>> acquireDatasourceContext(DatasourceStorage datasourceStorage, Plugin plugin) {
+        return acquireDatasourceContext(() -> getDatasourceContext(datasourceStorage, plugin));
+    }
+
+    private Mono<DatasourceContext<?>> acquireDatasourceContext(
+            Supplier<Mono<DatasourceContext<?>>> datasourceContextMonoSupplier) {
+        return Mono.defer(datasourceContextMonoSupplier)
+                .filter(DatasourceContext::acquire)
+                .repeatWhenEmpty(MAX_ACQUIRE_ATTEMPTS, Function.identity());
+    }
+
+    @Override
+    public Mono<Void> releaseDatasourceContext(DatasourceContext<?> datasourceContext) {
+        return Mono.fromRunnable(datasourceContext::release);
+    }
+
     @Override
     public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
 
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
-                .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(storage -> Mono.usingWhen(
+                        acquireDatasourceContext(() -> getDatasourceContext(storage)),
+                        task,
+                        this::releaseDatasourceContext));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -444,6 +528,108 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         });
     }
 
+    /**
+     * Closes the connections of the contexts that haven't been used for appsmith.datasource.context.max-idle-time-seconds
+     * and, if there are still more than appsmith.datasource.context.max-size contexts, of the least recently used
+     * ones. Contexts that are acquired by an execution, or whose connection pool has connections borrowed or callers
+     * waiting for one, are left alone.
+     */
+    @Override
+    public Mono<Void> evictDatasourceContexts() {
+        return Mono.fromCallable(this::removeDatasourceContextsToEvict)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(this::destroyEvictedDatasourceContext)
+                .then()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private List<DatasourceContext<?>> removeDatasourceContextsToEvict() {
+        final Instant idleThreshold = Instant.now().minus(Duration.ofSeconds(maxIdleTimeSeconds));
+        List<Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>>> entries =
+                new ArrayList<>(datasourceContextMap.entrySet());
+        entries.sort(Comparator.comparing(entry -> entry.getValue().getLastAccessedTime()));
+
+        int excess = entries.size() - maxSize;
+        List<DatasourceContext<?>> evictedContexts = new ArrayList<>();
+        for (Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>> entry : entries) {
+            final DatasourceContextIdentifier datasourceContextIdentifier = entry.getKey();
+            final DatasourceContext<?> datasourceContext = entry.getValue();
+            final boolean isIdle = datasourceContext.getLastAccessedTime().isBefore(idleThreshold);
+            if (!isIdle && excess <= 0) {
+                // Entries are sorted by last access, so the remaining ones have been used even more recently.
+                break;
+            }
+
+            // A context without a connection that is in use is still being created.
+            if ((!isIdle && datasourceContext.getConnection() == null)
+                    || ConnectionPoolFactory.isInUse(datasourceContextIdentifier.getDatasourceId())
+                    || !datasourceContext.markEvicted()
+                    || !removeDatasourceContext(datasourceContextIdentifier, datasourceContext)) {
+                continue;
+            }
+
+            evictedContexts.add(datasourceContext);
+            excess--;
+            (isIdle ? idleEvictionCounter : sizeEvictionCounter).increment();
+            log.debug(
+                    "Evicted {} datasource context for datasource id {}, environment id {}",
+                    isIdle ? "idle" : "least recently used",
+                    datasourceContextIdentifier.getDatasourceId(),
+                    datasourceContextIdentifier.getEnvironmentId());
+        }
+
+        return evictedContexts;
+    }
+
+    /**
+     * Removes the given context from all the context maps, unless it has been replaced by a fresh one in the meantime.
+     */
+    private boolean removeDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+        Object monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
+        if (monitor == null) {
+            if (!datasourceContextMap.remove(datasourceContextIdentifier, datasourceContext)) {
+                return false;
+            }
+
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+            return true;
+        }
+
+        synchronized (monitor) {
+            if (datasourceContextMap.get(datasourceContextIdentifier) != datasourceContext) {
+                return false;
+            }
+
+            datasourceContextMap.remove(datasourceContextIdentifier);
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+            datasourceContextSynchronizationMonitorMap.remove(datasourceContextIdentifier);
+            return true;
+        }
+    }
+
+    private Mono<Void> destroyEvictedDatasourceContext(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext.getConnection() == null || datasourceContext.getPluginId() == null) {
+            return Mono.empty();
+        }
+
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginService.findById(datasourceContext.getPluginId()))
+                .doOnNext(pluginExecutor -> pluginExecutor.datasourceDestroy(datasourceContext.getConnection()))
+                .onErrorResume(error -> {
+                    log.info("Error destroying evicted datasource connection", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void markAccessed(DatasourceContextIdentifier datasourceContextIdentifier) {
+        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        if (datasourceContext != null) {
+            datasourceContext.setLastAccessedTime(Instant.now());
+        }
+    }
+
     /**
      * Generates the custom key that is used in:
      * datasourceContextMap
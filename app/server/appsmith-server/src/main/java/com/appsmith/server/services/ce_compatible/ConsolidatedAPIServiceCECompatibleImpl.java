@@ -2,6 +2,7 @@ package com.appsmith.server.services.ce_compatible;
 
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ProjectProperties;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -9,6 +10,7 @@ import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
@@ -36,7 +38,9 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
             PluginService pluginService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            PermissionGroupService permissionGroupService,
+            ProjectProperties projectProperties) {
         super(
                 sessionUserService,
                 userService,
@@ -53,6 +57,8 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
                 pluginService,
                 datasourceService,
                 mockDataService,
-                observationRegistry);
+                observationRegistry,
+                permissionGroupService,
+                projectProperties);
     }
 }
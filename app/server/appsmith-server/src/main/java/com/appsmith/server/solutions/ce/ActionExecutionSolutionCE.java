@@ -4,6 +4,8 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
@@ -22,6 +24,13 @@ public interface ActionExecutionSolutionCE {
     Mono<ActionExecutionResult> executeAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
+    Flux<DataBuffer> executeActionAsStream(
+            Flux<Part> partFlux,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders,
+            DataBufferFactory bufferFactory);
+
     Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
@@ -17,6 +17,7 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.Constraint;
@@ -25,13 +26,13 @@ import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
-import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DataBufferStreamUtils;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -56,6 +57,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
@@ -117,6 +120,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final SharedConfig sharedConfig;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -143,7 +147,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            SharedConfig sharedConfig) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -162,6 +167,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.sharedConfig = sharedConfig;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -183,6 +189,19 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
      */
     protected Mono<ActionExecutionResult> populateAndExecuteAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return populateExecuteActionForExecution(executeActionDTO, executeActionMetaDTO)
+                .flatMap(populatedExecuteActionDTO -> executeAction(populatedExecuteActionDTO, executeActionMetaDTO));
+    }
+
+    /**
+     * Fills in the executeActionDTO with the details of the action to be executed, and sets the environment it is to
+     * be executed in on the executeActionMetaDTO.
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return
+     */
+    protected Mono<ExecuteActionDTO> populateExecuteActionForExecution(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
         AclPermission executePermission = getPermission(executeActionMetaDTO, actionPermission.getExecutePermission());
         Mono<NewAction> newActionMono = newActionService
                 .findByBranchNameAndDefaultActionId(
@@ -201,11 +220,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     return getTrueEnvironmentId(newAction, populatedExecuteActionDTO, executeActionMetaDTO);
                 });
 
-        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).flatMap(pair -> {
+        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).map(pair -> {
             ExecuteActionDTO populatedExecuteActionDTO = pair.getT1();
             String environmentId = pair.getT2();
             executeActionMetaDTO.setEnvironmentId(environmentId);
-            return executeAction(populatedExecuteActionDTO, executeActionMetaDTO);
+            return populatedExecuteActionDTO;
         });
     }
 
@@ -283,6 +302,43 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Executes the action(query) like {@link #executeAction(Flux, String, String, HttpHeaders, Boolean)}, but only
+     * sends back the rows of the result, as a JSON object holding the array of rows, that is written out while the rows
+     * are still being read from the datasource. The size of the object is checked as it is written, instead of once the
+     * whole result is in memory.
+     *
+     * @param partFlux
+     * @param branchName
+     * @param environmentId
+     * @param httpHeaders
+     * @param bufferFactory
+     * @return Flux of the chunks of the JSON object of rows, or an error if the query fails before the first row. If it
+     * fails after that, the object ends with the error, see {@link DataBufferStreamUtils#jsonRowsPublisher}
+     */
+    @Override
+    public Flux<DataBuffer> executeActionAsStream(
+            Flux<Part> partFlux,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders,
+            DataBufferFactory bufferFactory) {
+        ExecuteActionMetaDTO executeActionMetaDTO = ExecuteActionMetaDTO.builder()
+                .headers(httpHeaders)
+                .operateWithoutPermission(FALSE)
+                .branchName(branchName)
+                .environmentId(environmentId)
+                .build();
+        Flux<?> rows = createExecuteActionDTO(partFlux)
+                .flatMap(executeActionDTO -> populateExecuteActionForExecution(executeActionDTO, executeActionMetaDTO))
+                .flatMapMany(executeActionDTO -> executeActionRows(executeActionDTO, executeActionMetaDTO));
+
+        return DataBufferStreamUtils.jsonRowsPublisher(
+                        rows, objectMapper, bufferFactory, sharedConfig.getMaxResponseSize())
+                .name(ACTION_EXECUTION_SERVER_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
     /**
      * Fetches the required Mono (action, datasource, and plugin) and makes actionExecution call to plugin
      *
@@ -704,37 +760,41 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
         Mono<ActionExecutionResult> executionMono = authenticationValidator
                 .validateAuthentication(datasourceStorage)
-                .zipWhen(validatedDatasource -> datasourceContextService
-                        .getDatasourceContext(validatedDatasource, plugin)
-                        .tag("plugin", plugin.getPackageName())
-                        .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
-                        .tap(Micrometer.observation(observationRegistry)))
-                .flatMap(tuple2 -> {
-                    DatasourceStorage datasourceStorage1 = tuple2.getT1();
-                    DatasourceContext<?> resourceContext = tuple2.getT2();
-                    // Now that we have the context (connection details), execute the action.
-
-                    Instant requestedAt = Instant.now();
-                    return ((PluginExecutor<Object>) pluginExecutor)
-                            .executeParameterizedWithMetrics(
-                                    resourceContext.getConnection(),
-                                    executeActionDTO,
-                                    datasourceStorage1.getDatasourceConfiguration(),
-                                    actionDTO.getActionConfiguration(),
-                                    observationRegistry)
-                            .map(actionExecutionResult -> {
-                                ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
-                                if (actionExecutionRequest == null) {
-                                    actionExecutionRequest = new ActionExecutionRequest();
-                                }
-
-                                actionExecutionRequest.setActionId(executeActionDTO.getActionId());
-                                actionExecutionRequest.setRequestedAt(requestedAt);
-
-                                actionExecutionResult.setRequest(actionExecutionRequest);
-                                return actionExecutionResult;
-                            });
-                });
+                .flatMap(datasourceStorage1 -> Mono.usingWhen(
+                        datasourceContextService
+                                .acquireDatasourceContext(datasourceStorage1, plugin)
+                                .tag("plugin", plugin.getPackageName())
+                                .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        resourceContext -> {
+                            // Plugins that keep per-datasource resources (e.g. HTTP connection pools) are keyed by
+                            // this id.
+                            executeActionDTO.setDatasourceId(datasourceStorage1.getDatasourceId());
+                            // Now that we have the context (connection details), execute the action.
+
+                            Instant requestedAt = Instant.now();
+                            return ((PluginExecutor<Object>) pluginExecutor)
+                                    .executeParameterizedWithMetrics(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasourceStorage1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration(),
+                                            observationRegistry)
+                                    .map(actionExecutionResult -> {
+                                        ActionExecutionRequest actionExecutionRequest =
+                                                actionExecutionResult.getRequest();
+                                        if (actionExecutionRequest == null) {
+                                            actionExecutionRequest = new ActionExecutionRequest();
+                                        }
+
+                                        actionExecutionRequest.setActionId(executeActionDTO.getActionId());
+                                        actionExecutionRequest.setRequestedAt(requestedAt);
+
+                                        actionExecutionResult.setRequest(actionExecutionRequest);
+                                        return actionExecutionResult;
+                                    });
+                        },
+                        datasourceContextService::releaseDatasourceContext));
 
         return executionMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -840,6 +900,102 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Streams the rows of the result of the action straight from the plugin, if the plugin supports it. Otherwise, the
+     * action is executed as usual, and the rows of the result are streamed once it is complete.
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return Flux of the rows of the result
+     */
+    protected Flux<?> executeActionRows(ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        Mono<ActionDTO> actionDTOMono = getValidActionForExecution(executeActionDTO, executeActionMetaDTO)
+                .cache();
+        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
+        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+
+        return Mono.zip(actionDTOMono, datasourceStorageMono, pluginExecutorMono, pluginMono)
+                .flatMapMany(tuple -> {
+                    final ActionDTO actionDTO = tuple.getT1();
+                    final DatasourceStorage datasourceStorage = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+
+                    if (!pluginExecutor.supportsRowStreaming()) {
+                        return getActionExecutionResult(
+                                        executeActionDTO,
+                                        Mono.just(actionDTO),
+                                        Mono.just(datasourceStorage),
+                                        Mono.just(plugin),
+                                        Mono.just(pluginExecutor),
+                                        executeActionMetaDTO.getHeaders())
+                                .flatMapMany(this::getRowsOfResult);
+                    }
+
+                    log.debug(
+                            "[{}]Execute Action as stream called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            actionDTO.getPageId(),
+                            actionDTO.getId(),
+                            actionDTO.getName());
+
+                    Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+
+                    Flux<Map<String, Object>> rowsFlux = authenticationValidator
+                            .validateAuthentication(datasourceStorage)
+                            .flatMapMany(datasourceStorage1 -> Flux.usingWhen(
+                                    datasourceContextService
+                                            .acquireDatasourceContext(datasourceStorage1, plugin)
+                                            .tag("plugin", plugin.getPackageName())
+                                            .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
+                                            .tap(Micrometer.observation(observationRegistry)),
+                                    resourceContext -> {
+                                        executeActionDTO.setDatasourceId(datasourceStorage1.getDatasourceId());
+                                        return ((PluginExecutor<Object>) pluginExecutor)
+                                                .executeParameterizedRows(
+                                                        resourceContext.getConnection(),
+                                                        executeActionDTO,
+                                                        datasourceStorage1.getDatasourceConfiguration(),
+                                                        actionDTO.getActionConfiguration());
+                                    },
+                                    datasourceContextService::releaseDatasourceContext));
+
+                    // Stale connections are found out while getting a connection, before any row has been emitted
+                    Flux<Map<String, Object>> rowsWithRetryFlux =
+                            rowsFlux.onErrorResume(StaleConnectionException.class, error -> {
+                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                return datasourceContextService
+                                        .deleteDatasourceContext(datasourceStorage)
+                                        .thenMany(rowsFlux);
+                            });
+
+                    // The timeout of the action only applies to the first row, as the rows after it are read as fast
+                    // as the client takes them
+                    return rowsWithRetryFlux
+                            .timeout(Mono.delay(Duration.ofMillis(timeoutDuration)), row -> Mono.never())
+                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration));
+                });
+    }
+
+    private Flux<Object> getRowsOfResult(ActionExecutionResult result) {
+        if (!TRUE.equals(result.getIsExecutionSuccess())) {
+            ActionExecutionResult.PluginErrorDetails errorDetails = result.getPluginErrorDetails();
+            return Flux.error(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    result.getBody(),
+                    errorDetails == null ? null : errorDetails.getDownstreamErrorMessage(),
+                    errorDetails == null ? null : errorDetails.getDownstreamErrorCode()));
+        }
+
+        if (result.getBody() instanceof JsonNode body && body.isArray()) {
+            return Flux.fromIterable(body);
+        }
+        return Mono.justOrEmpty(result.getBody()).flux();
+    }
+
     @Override
     public Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
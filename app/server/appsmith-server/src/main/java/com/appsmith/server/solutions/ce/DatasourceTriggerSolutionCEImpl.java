@@ -103,17 +103,18 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                     final Plugin plugin = tuple.getT2();
                     final PluginExecutor pluginExecutor = tuple.getT3();
 
-                    return datasourceContextService
-                            .getDatasourceContext(datasourceStorage, plugin)
+                    return Mono.usingWhen(
+                            datasourceContextService.acquireDatasourceContext(datasourceStorage, plugin),
                             // Now that we have the context (connection details), execute the action.
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
                             // However the context comes from evaluated datasource.
-                            .flatMap(resourceContext -> setTenantAndInstanceId(triggerRequestDTO)
+                            resourceContext -> setTenantAndInstanceId(triggerRequestDTO)
                                     .flatMap(updatedTriggerRequestDTO -> ((PluginExecutor<Object>) pluginExecutor)
                                             .trigger(
                                                     resourceContext.getConnection(),
                                                     datasourceStorage.getDatasourceConfiguration(),
-                                                    updatedTriggerRequestDTO)));
+                                                    updatedTriggerRequestDTO)),
+                            datasourceContextService::releaseDatasourceContext);
                 });
 
         // If the plugin hasn't implemented the trigger function, go for the default implementation
@@ -1,5 +1,6 @@
 package com.appsmith.server.solutions.ce;
 
+import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
 import io.micrometer.observation.annotation.Observed;
@@ -20,6 +21,8 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
 
     private final Scheduler scheduler;
 
+    private final DatasourceContextService datasourceContextService;
+
     @Scheduled(initialDelay = 10 * 1000 /* ten seconds */, fixedRate = 30 * 60 * 1000 /* thirty minutes */)
     @Observed(name = "fetchFeatures")
     public void fetchFeatures() {
@@ -34,4 +37,13 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
                 .subscribeOn(scheduler)
                 .subscribe();
     }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictDatasourceContexts() {
+        datasourceContextService
+                .evictDatasourceContexts()
+                .doOnError(error -> log.error("Error while evicting datasource contexts", error))
+                .subscribeOn(scheduler)
+                .subscribe();
+    }
 }
@@ -0,0 +1,59 @@
+package com.appsmith.server.configurations.connectionpool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolConfigCEImplTest {
+
+    private MockEnvironment environment;
+
+    private ConnectionPoolConfigCEImpl connectionPoolConfig;
+
+    @BeforeEach
+    public void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("appsmith.datasource.connection-pool.minimum-idle", "")
+                .withProperty("appsmith.datasource.connection-pool.maximum-size", "10")
+                .withProperty("appsmith.datasource.connection-pool.prewarm", "false");
+        connectionPoolConfig = new ConnectionPoolConfigCEImpl();
+        ReflectionTestUtils.setField(connectionPoolConfig, "environment", environment);
+    }
+
+    @Test
+    public void getConnectionPoolSettings_WhenOnlyGlobalSettings_ReturnsGlobalSettings() {
+        StepVerifier.create(connectionPoolConfig.getConnectionPoolSettings("datasource-1"))
+                .assertNext(settings -> {
+                    assertThat(settings.getDatasourceId()).isEqualTo("datasource-1");
+                    assertThat(settings.getMinimumIdle()).isNull();
+                    assertThat(settings.getMaximumPoolSize()).isEqualTo(10);
+                    assertThat(settings.isPrewarm()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getConnectionPoolSettings_WhenDatasourceSettings_OverridesGlobalSettings() {
+        environment
+                .withProperty("appsmith.datasource.connection-pool.datasource-1.maximum-size", "30")
+                .withProperty("appsmith.datasource.connection-pool.datasource-1.minimum-idle", "3")
+                .withProperty("appsmith.datasource.connection-pool.datasource-1.prewarm", "true");
+
+        StepVerifier.create(connectionPoolConfig.getConnectionPoolSettings("datasource-1"))
+                .assertNext(settings -> {
+                    assertThat(settings.getMinimumIdle()).isEqualTo(3);
+                    assertThat(settings.getMaximumPoolSize()).isEqualTo(30);
+                    assertThat(settings.isPrewarm()).isTrue();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(connectionPoolConfig.getConnectionPoolSettings("datasource-2"))
+                .assertNext(
+                        settings -> assertThat(settings.getMaximumPoolSize()).isEqualTo(10))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,61 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArtifactExchangeJsonAdapterTest {
+
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        Gson gson = gsonBuilder.create();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+    }
+
+    @Test
+    public void fromJson_WhenArtifactTypeAfterOtherFields_DeserialisesArtifact() {
+        String json = "{\"clientSchemaVersion\": 1, \"exportedApplication\": {\"name\": \"app\", \"pages\": [{}]},"
+                + " \"pageList\": [], \"artifactJsonType\": \"APPLICATION\", \"serverSchemaVersion\": 7}";
+
+        ArtifactExchangeJson artifactExchangeJson = artifactExchangeJsonAdapter.fromJson(() -> new StringReader(json));
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
+        assertThat(applicationJson.getExportedApplication().getName()).isEqualTo("app");
+        assertThat(applicationJson.getClientSchemaVersion()).isEqualTo(1);
+        assertThat(applicationJson.getServerSchemaVersion()).isEqualTo(7);
+        assertThat(applicationJson.getPageList()).isEmpty();
+    }
+
+    @Test
+    public void fromJson_WhenNoArtifactType_DeserialisesApplication() {
+        String json = "{\"exportedApplication\": {\"name\": \"app\"}}";
+
+        ArtifactExchangeJson artifactExchangeJson = artifactExchangeJsonAdapter.fromJson(() -> new StringReader(json));
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        assertThat(artifactExchangeJson.getArtifact().getName()).isEqualTo("app");
+    }
+
+    @Test
+    public void fromJson_WhenJsonIsMalformed_ThrowsJsonSyntaxException() {
+        String json = "{\"exportedApplication\": {\"name\": \"app\"";
+
+        assertThatThrownBy(() -> artifactExchangeJsonAdapter.fromJson(() -> new StringReader(json)))
+                .isInstanceOf(JsonSyntaxException.class);
+    }
+}
@@ -65,6 +65,7 @@ import com.appsmith.server.solutions.EnvironmentPermission;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -78,13 +79,16 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -192,6 +196,9 @@ public class ExportServiceTests {
     @Autowired
     JsonSchemaVersions jsonSchemaVersions;
 
+    @Autowired
+    Gson gson;
+
     @BeforeEach
     public void setup() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
@@ -369,6 +376,37 @@ public class ExportServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getArtifactFileStream_WhenStreamed_SameJsonAsMaterialisedExport() {
+        // The export used to be serialised with Gson into a string and parsed back into an object tree
+        Mono<Object> materialisedExportMono = exportService
+                .exportByArtifactIdAndBranchName(testAppId, "", ArtifactType.APPLICATION)
+                .map(artifactExchangeJson -> {
+                    artifactExchangeJson.setModifiedResources(null);
+                    return gson.fromJson(gson.toJson(artifactExchangeJson), Object.class);
+                });
+
+        Mono<Object> streamedExportMono = exportService
+                .getArtifactFileStream(testAppId, "", ArtifactType.APPLICATION)
+                .flatMap(exportFileDTO -> {
+                    assertThat(exportFileDTO.getHttpHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+                    return DataBufferUtils.join(exportFileDTO.getArtifactContent());
+                })
+                .map(dataBuffer -> {
+                    String json = dataBuffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(dataBuffer);
+                    return gson.fromJson(json, Object.class);
+                });
+
+        StepVerifier.create(Mono.zip(materialisedExportMono, streamedExportMono))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT2()).isInstanceOf(Map.class);
+                    assertThat(tuple.getT2()).isEqualTo(tuple.getT1());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void createExportAppJsonWithDatasourceButWithoutActionsTest() {
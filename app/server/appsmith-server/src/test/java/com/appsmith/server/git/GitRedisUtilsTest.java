@@ -0,0 +1,182 @@
+package com.appsmith.server.git;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GitRedisUtilsTest {
+
+    private RedisUtils redisUtils;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GitRedisUtils gitRedisUtils;
+
+    @BeforeEach
+    public void setUp() {
+        redisUtils = mock(RedisUtils.class);
+        meterRegistry = new SimpleMeterRegistry();
+        gitRedisUtils = new GitRedisUtils(redisUtils, ObservationRegistry.NOOP, meterRegistry);
+    }
+
+    @Test
+    public void releaseFileLock_WhenLockHeld_ReleasesOnlyTheValueAcquired() {
+        when(redisUtils.acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("commit:7"));
+        when(redisUtils.releaseWriteLock("app-1", "commit:7")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(gitRedisUtils.addFileLock("app-1", "commit", false))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(gitRedisUtils.releaseFileLock("app-1"))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(redisUtils).releaseWriteLock("app-1", "commit:7");
+        assertThat(meterRegistry
+                        .get("appsmith.git.lock.hold")
+                        .tag("mode", "write")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void releaseFileLock_WhenLockNotHeldOnThisNode_LeavesRedisAlone() {
+        StepVerifier.create(gitRedisUtils.releaseFileLock("app-1"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(redisUtils, never()).releaseWriteLock(anyString(), anyString());
+    }
+
+    @Test
+    public void releaseFileLock_WhenLockLostAndTakenByAnotherOperation_LeavesTheNewLockAlone() {
+        when(redisUtils.acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("commit:7"), Mono.just("pull:8"));
+        // Redis no longer holds the commit lock, so releasing it does nothing there
+        when(redisUtils.releaseWriteLock("app-1", "commit:7")).thenReturn(Mono.just(false));
+        when(redisUtils.releaseWriteLock("app-1", "pull:8")).thenReturn(Mono.just(true));
+        Context commitOwner = Context.of(GitRedisUtils.LOCK_OWNER_KEY, "commit-operation");
+        Context pullOwner = Context.of(GitRedisUtils.LOCK_OWNER_KEY, "pull-operation");
+
+        StepVerifier.create(gitRedisUtils.addFileLock("app-1", "commit", false).contextWrite(commitOwner))
+                .expectNext(true)
+                .verifyComplete();
+        // The commit lock is force released in Redis, and taken by a pull on the same node
+        StepVerifier.create(gitRedisUtils.addFileLock("app-1", "pull", false).contextWrite(pullOwner))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(gitRedisUtils.releaseFileLock("app-1").contextWrite(commitOwner))
+                .expectNext(false)
+                .verifyComplete();
+        verify(redisUtils, never()).releaseWriteLock("app-1", "pull:8");
+
+        StepVerifier.create(gitRedisUtils.releaseFileLock("app-1").contextWrite(pullOwner))
+                .expectNext(true)
+                .verifyComplete();
+        verify(redisUtils).releaseWriteLock("app-1", "pull:8");
+    }
+
+    @Test
+    public void withLockOwner_WhenOperationCancelled_ReleasesItsLock() {
+        when(redisUtils.acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("commit:7"));
+        when(redisUtils.releaseWriteLock("app-1", "commit:7")).thenReturn(Mono.just(true));
+
+        Mono<Boolean> operation = gitRedisUtils
+                .addFileLock("app-1", "commit", false)
+                .then(Mono.<Boolean>never())
+                .as(gitRedisUtils::withLockOwner);
+
+        StepVerifier.create(operation)
+                .expectSubscription()
+                .then(() -> verify(redisUtils).acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenCancel()
+                .verify();
+
+        verify(redisUtils).releaseWriteLock("app-1", "commit:7");
+    }
+
+    @Test
+    public void withLockOwner_WhenNestedInAnotherOperation_LeavesLockToOuterOperation() {
+        when(redisUtils.acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("commit:7"));
+        when(redisUtils.releaseWriteLock("app-1", "commit:7")).thenReturn(Mono.just(true));
+
+        Mono<Boolean> innerOperation =
+                gitRedisUtils.addFileLock("app-1", "commit", false).as(gitRedisUtils::withLockOwner);
+        Mono<Boolean> outerOperation = innerOperation
+                .flatMap(locked -> gitRedisUtils.releaseFileLock("app-1"))
+                .as(gitRedisUtils::withLockOwner);
+
+        StepVerifier.create(outerOperation).expectNext(true).verifyComplete();
+
+        verify(redisUtils).releaseWriteLock("app-1", "commit:7");
+    }
+
+    @Test
+    public void addFileLock_WhenLockBusyAndNoRetry_FailsWithHolder() {
+        when(redisUtils.acquireWriteLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, "pull", "commit")));
+
+        StepVerifier.create(gitRedisUtils.addFileLock("app-1", "pull", false))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error)
+                                .getAppErrorCode()
+                                .equals(AppsmithError.GIT_FILE_IN_USE.getAppErrorCode()))
+                .verify();
+
+        assertThat(meterRegistry
+                        .get("appsmith.git.lock.wait")
+                        .tag("outcome", "failed")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void withReadLock_WhenWorkFails_StillReleasesLock() {
+        when(redisUtils.acquireReadLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("listBranch:3"));
+        when(redisUtils.releaseReadLock("app-1", "listBranch:3")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(gitRedisUtils.withReadLock(
+                        "app-1", "listBranch", Mono.error(new IllegalStateException("Repository is corrupt"))))
+                .expectErrorMessage("Repository is corrupt")
+                .verify();
+
+        verify(redisUtils).releaseReadLock("app-1", "listBranch:3");
+    }
+
+    @Test
+    public void withReadLock_WhenLockAcquired_ReturnsResultOfWork() {
+        when(redisUtils.acquireReadLock(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just("listBranch:4"));
+        when(redisUtils.releaseReadLock("app-1", "listBranch:4")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(gitRedisUtils.withReadLock("app-1", "listBranch", Mono.just("branches")))
+                .expectNext("branches")
+                .verifyComplete();
+
+        verify(redisUtils).releaseReadLock("app-1", "listBranch:4");
+    }
+}
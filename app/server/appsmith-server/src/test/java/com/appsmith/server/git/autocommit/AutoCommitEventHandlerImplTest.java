@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +58,7 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -213,7 +215,9 @@ public class AutoCommitEventHandlerImplTest {
                         ArtifactType.APPLICATION);
 
         // mock the dsl migration utils to return updated dsl when requested with older dsl
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
+        Mockito.when(dslMigrationUtils.migratePageDsls(anyList()))
+                .thenAnswer(invocation -> Mono.just(
+                        Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), dslAfterMigration)));
 
         doReturn(Mono.just(baseRepoSuffix))
                 .when(commonGitFileUtils)
@@ -628,7 +632,9 @@ public class AutoCommitEventHandlerImplTest {
         dslAfterMigration.put("key", "after migration");
 
         // mock the dsl migration utils to return updated dsl when requested with older dsl
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
+        Mockito.when(dslMigrationUtils.migratePageDsls(anyList()))
+                .thenAnswer(invocation -> Mono.just(
+                        Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), dslAfterMigration)));
 
         doReturn(Mono.just("success"))
                 .when(gitExecutor)
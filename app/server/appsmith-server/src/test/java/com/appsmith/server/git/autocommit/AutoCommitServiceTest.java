@@ -54,6 +54,7 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +66,7 @@ import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -353,7 +355,9 @@ public class AutoCommitServiceTest {
         dslAfterMigration.put("key", "after migration");
 
         // mock the dsl migration utils to return updated dsl when requested with older dsl
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
+        Mockito.when(dslMigrationUtils.migratePageDsls(anyList()))
+                .thenAnswer(invocation -> Mono.just(
+                        Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), dslAfterMigration)));
 
         gitFileSystemTestHelper.setupGitRepository(
                 WORKSPACE_ID, DEFAULT_APP_ID, BRANCH_NAME, REPO_NAME, applicationJson);
@@ -0,0 +1,89 @@
+package com.appsmith.server.helpers;
+
+import net.minidev.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DSLMigrationUtilsTest {
+
+    private final List<String> requestedPaths = new ArrayList<>();
+
+    private RTSCaller rtsCaller;
+
+    private DSLMigrationUtils dslMigrationUtils;
+
+    private static Mono<WebClient.RequestBodySpec> respondWith(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+        return Mono.just(webClient.post().uri("http://rts"));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        rtsCaller = mock(RTSCaller.class);
+        when(rtsCaller.get(anyString())).thenReturn(Mono.empty());
+        dslMigrationUtils = new DSLMigrationUtils(rtsCaller);
+    }
+
+    @Test
+    public void migratePageDsls_WhenBatchIsTooLarge_MigratesPagesOneByOne() {
+        when(rtsCaller.post(anyString(), any())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            requestedPaths.add(path);
+            if (path.endsWith("/batch")) {
+                return respondWith(HttpStatus.PAYLOAD_TOO_LARGE, "{}");
+            }
+            JSONObject pageDsl = invocation.getArgument(1);
+            return respondWith(HttpStatus.OK, "{\"data\": {\"widgetName\": \"" + pageDsl.get("widgetName") + "\"}}");
+        });
+
+        List<JSONObject> pageDsls = List.of(
+                new JSONObject(Map.of("widgetName", "MainContainer1")),
+                new JSONObject(Map.of("widgetName", "MainContainer2")));
+
+        StepVerifier.create(dslMigrationUtils.migratePageDsls(pageDsls))
+                .assertNext(migratedDsls -> assertThat(migratedDsls)
+                        .extracting(dsl -> dsl.get("widgetName"))
+                        .containsExactly("MainContainer1", "MainContainer2"))
+                .verifyComplete();
+
+        assertThat(requestedPaths)
+                .containsExactly("/rts-api/v1/dsl/migrate/batch", "/rts-api/v1/dsl/migrate", "/rts-api/v1/dsl/migrate");
+    }
+
+    @Test
+    public void migratePageDsls_WhenSinglePageIsTooLarge_ReturnsError() {
+        when(rtsCaller.post(anyString(), any())).thenAnswer(invocation -> {
+            requestedPaths.add(invocation.getArgument(0));
+            return respondWith(HttpStatus.PAYLOAD_TOO_LARGE, "{}");
+        });
+
+        StepVerifier.create(dslMigrationUtils.migratePageDsls(
+                        List.of(new JSONObject(Map.of("widgetName", "MainContainer")))))
+                .expectError()
+                .verify();
+
+        assertThat(requestedPaths).containsExactly("/rts-api/v1/dsl/migrate/batch");
+    }
+}
@@ -0,0 +1,210 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBufferStreamUtilsTest {
+
+    private static Flux<DataBuffer> publish(DataBufferStreamUtils.OutputStreamWriter writer, int chunkSize) {
+        return publish(writer, chunkSize, Duration.ofMinutes(1));
+    }
+
+    private static Flux<DataBuffer> publish(
+            DataBufferStreamUtils.OutputStreamWriter writer, int chunkSize, Duration maxDemandWait) {
+        return DataBufferStreamUtils.outputStreamPublisher(
+                writer, DefaultDataBufferFactory.sharedInstance, Schedulers.boundedElastic(), chunkSize, maxDemandWait);
+    }
+
+    private static String toString(DataBuffer dataBuffer) {
+        String content = dataBuffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(dataBuffer);
+        return content;
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenMoreBytesThanChunkSize_EmitsFullChunks() {
+        Flux<String> chunks = publish(
+                        outputStream -> outputStream.write("abcdefghij".getBytes(StandardCharsets.UTF_8)), 4)
+                .map(DataBufferStreamUtilsTest::toString);
+
+        StepVerifier.create(chunks).expectNext("abcd", "efgh", "ij").verifyComplete();
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenNothingWritten_CompletesEmpty() {
+        StepVerifier.create(publish(outputStream -> {}, 4)).verifyComplete();
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenWriterFails_PropagatesError() {
+        Flux<String> chunks = publish(
+                        outputStream -> {
+                            outputStream.write("abcd".getBytes(StandardCharsets.UTF_8));
+                            throw new IOException("Serialisation failed");
+                        },
+                        4)
+                .map(DataBufferStreamUtilsTest::toString);
+
+        StepVerifier.create(chunks)
+                .expectNext("abcd")
+                .expectErrorMessage("Serialisation failed")
+                .verify();
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenNoDemand_WriterWaits() throws InterruptedException {
+        AtomicInteger chunksWritten = new AtomicInteger();
+        CountDownLatch writerDone = new CountDownLatch(1);
+        Flux<String> chunks = publish(
+                        outputStream -> {
+                            try {
+                                for (int i = 0; i < 100; i++) {
+                                    outputStream.write("abcd".getBytes(StandardCharsets.UTF_8));
+                                    chunksWritten.incrementAndGet();
+                                }
+                            } finally {
+                                writerDone.countDown();
+                            }
+                        },
+                        4)
+                .map(DataBufferStreamUtilsTest::toString);
+
+        StepVerifier.create(chunks, 2)
+                .expectNext("abcd", "abcd")
+                .expectNoEvent(Duration.ofMillis(100))
+                .then(() -> assertThat(chunksWritten.get()).isLessThanOrEqualTo(3))
+                .thenCancel()
+                .verify();
+
+        assertThat(writerDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(chunksWritten.get()).isLessThan(100);
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenNoDemandForTooLong_FailsWriter() {
+        Flux<String> chunks = publish(
+                        outputStream -> {
+                            for (int i = 0; i < 100; i++) {
+                                outputStream.write("abcd".getBytes(StandardCharsets.UTF_8));
+                            }
+                        },
+                        4,
+                        Duration.ofMillis(100))
+                .map(DataBufferStreamUtilsTest::toString);
+
+        StepVerifier.create(chunks, 1)
+                .expectNext("abcd")
+                .expectErrorMessage("Subscriber requested nothing for 100 ms")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static Flux<String> publishJsonRows(Flux<?> rows, long maxSize) {
+        return DataBufferStreamUtils.jsonRowsPublisher(
+                        rows, new ObjectMapper(), DefaultDataBufferFactory.sharedInstance, maxSize)
+                .map(DataBufferStreamUtilsTest::toString);
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenRowsEmitted_WritesOneChunkPerRow() {
+        Flux<String> chunks = publishJsonRows(Flux.just(Map.of("id", 1), Map.of("id", 2)), 1024);
+
+        StepVerifier.create(chunks)
+                .expectNext("{\"rows\":[{\"id\":1}", ",{\"id\":2}", "]}")
+                .verifyComplete();
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenNoRows_WritesEmptyArray() {
+        StepVerifier.create(publishJsonRows(Flux.empty(), 1024))
+                .expectNext("{\"rows\":[]}")
+                .verifyComplete();
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenLimitExceeded_EndsWithError() throws IOException {
+        AtomicInteger rowsRequested = new AtomicInteger();
+        Flux<Map<String, String>> rows = Flux.range(0, 1000)
+                .doOnRequest(n -> rowsRequested.addAndGet((int) Math.min(n, 1000)))
+                .map(i -> Map.of("value", "0123456789"));
+
+        List<String> chunks = new ArrayList<>();
+        StepVerifier.create(publishJsonRows(rows, 60), 1)
+                .recordWith(() -> chunks)
+                .expectNext("{\"rows\":[{\"value\":\"0123456789\"}")
+                .thenRequest(1)
+                .expectNext(",{\"value\":\"0123456789\"}")
+                .thenRequest(1)
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(rowsRequested.get()).isLessThan(1000);
+
+        JsonNode response = new ObjectMapper().readTree(String.join("", chunks));
+        assertThat(response.get(DataBufferStreamUtils.ROWS_KEY).size()).isEqualTo(2);
+        assertThat(response.get(DataBufferStreamUtils.ERROR_KEY).get("code").asText())
+                .isEqualTo(AppsmithPluginError.PLUGIN_RESPONSE_SIZE_TOO_LARGE.getAppErrorCode());
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenRowsFailAfterFirst_EndsWithError() throws IOException {
+        Flux<Map<String, Integer>> rows =
+                Flux.concat(Flux.just(Map.of("id", 1)), Flux.error(new IllegalStateException("Connection reset")));
+
+        String json = String.join("", publishJsonRows(rows, 1024).collectList().block());
+
+        JsonNode response = new ObjectMapper().readTree(json);
+        assertThat(response.get(DataBufferStreamUtils.ROWS_KEY).size()).isEqualTo(1);
+        assertThat(response.get(DataBufferStreamUtils.ROWS_KEY).get(0).get("id").asInt())
+                .isEqualTo(1);
+        JsonNode error = response.get(DataBufferStreamUtils.ERROR_KEY);
+        assertThat(error.get("code").asText()).isEqualTo(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode());
+        assertThat(error.get("message").asText()).isEqualTo("Connection reset");
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenRowHasErrorColumn_KeepsItAsRow() throws IOException {
+        String json = String.join(
+                "",
+                publishJsonRows(Flux.just(Map.of("error", 1)), 1024)
+                        .collectList()
+                        .block());
+
+        JsonNode response = new ObjectMapper().readTree(json);
+        assertThat(response.has(DataBufferStreamUtils.ERROR_KEY)).isFalse();
+        assertThat(response.get(DataBufferStreamUtils.ROWS_KEY)
+                        .get(0)
+                        .get("error")
+                        .asInt())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void jsonRowsPublisher_WhenFirstRowTooLarge_FailsBeforeWriting() {
+        StepVerifier.create(publishJsonRows(Flux.just(Map.of("value", "0123456789")), 10))
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && AppsmithPluginError.PLUGIN_RESPONSE_SIZE_TOO_LARGE
+                                .getAppErrorCode()
+                                .equals(((AppsmithPluginException) e).getAppErrorCode()))
+                .verify();
+    }
+}
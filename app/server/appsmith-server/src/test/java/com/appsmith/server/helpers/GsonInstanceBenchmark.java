@@ -0,0 +1,102 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.converters.GsonDoubleToLongConverter;
+import com.appsmith.external.converters.GsonUnorderedToOrderedConverter;
+import com.appsmith.external.converters.ISOStringToInstantConverter;
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a new Gson for every use, as was done before, against the shared instances of
+ * {@link SerializationUtils}, for parsing an application JSON and writing it out the way it is written to git. This is
+ * not run as part of the test suite, run it from the IDE. Add the gc profiler to the options to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonInstanceBenchmark {
+
+    private static final String APPLICATION_JSON_PATH = "test_assets/ImportExportServiceTest/valid-application.json";
+
+    private String applicationJsonString;
+
+    private ApplicationJson applicationJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        try (InputStream inputStream =
+                GsonInstanceBenchmark.class.getClassLoader().getResourceAsStream(APPLICATION_JSON_PATH)) {
+            applicationJsonString = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        applicationJson = SerializationUtils.getDefaultGson().fromJson(applicationJsonString, ApplicationJson.class);
+    }
+
+    private static Gson createGitFileGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Double.class, new GsonDoubleToLongConverter())
+                .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
+                .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
+                .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
+                .registerTypeAdapter(DatasourceStructure.Key.class, new DatasourceStructure.KeyInstanceCreator())
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .create();
+    }
+
+    @Benchmark
+    public ApplicationJson parseWithNewGson() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        return gsonBuilder.create().fromJson(applicationJsonString, ApplicationJson.class);
+    }
+
+    @Benchmark
+    public ApplicationJson parseWithSharedGson() {
+        return SerializationUtils.getDefaultGson().fromJson(applicationJsonString, ApplicationJson.class);
+    }
+
+    @Benchmark
+    public String writeGitFileWithNewGson() {
+        return createGitFileGson().toJson(applicationJson);
+    }
+
+    @Benchmark
+    public String writeGitFileWithSharedGson() {
+        return SerializationUtils.getGitFileGson().toJson(applicationJson);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(GsonInstanceBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
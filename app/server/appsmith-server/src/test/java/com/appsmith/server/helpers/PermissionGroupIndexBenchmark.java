@@ -0,0 +1,113 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the evaluation of user permissions with {@link PermissionGroupIndex} against the nested loop that was used
+ * before, for listing 3k documents of a workspace. This is not run as part of the test suite, run it from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionGroupIndexBenchmark {
+
+    private static final int DOCUMENT_COUNT = 3000;
+
+    private static final int PERMISSIONS_PER_DOCUMENT = 12;
+
+    // Number of permission groups the user is a member of. Large workspaces, and users that are members of many
+    // workspaces, end up with a lot of these.
+    @Param({"5", "200"})
+    private int userPermissionGroupCount;
+
+    private Set<String> userPermissionGroups;
+
+    private List<Set<Policy>> documentPolicies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+
+        userPermissionGroups = new HashSet<>();
+        for (int i = 0; i < userPermissionGroupCount; i++) {
+            userPermissionGroups.add("user-group-" + i);
+        }
+
+        documentPolicies = new ArrayList<>(DOCUMENT_COUNT);
+        for (int document = 0; document < DOCUMENT_COUNT; document++) {
+            Set<Policy> policies = new HashSet<>();
+            for (int permission = 0; permission < PERMISSIONS_PER_DOCUMENT; permission++) {
+                Set<String> permissionGroups = new HashSet<>();
+                // Workspace default roles, plus a few custom ones, some of which are the user's
+                for (int i = 0; i < 3 + random.nextInt(4); i++) {
+                    permissionGroups.add(
+                            random.nextInt(4) == 0
+                                    ? "user-group-" + random.nextInt(userPermissionGroupCount)
+                                    : "other-group-" + random.nextInt(1000));
+                }
+                policies.add(Policy.builder()
+                        .permission("permission-" + permission)
+                        .permissionGroups(permissionGroups)
+                        .build());
+            }
+            documentPolicies.add(policies);
+        }
+    }
+
+    @Benchmark
+    public void nestedLoop(Blackhole blackhole) {
+        for (Set<Policy> policies : documentPolicies) {
+            Set<String> permissions = new HashSet<>();
+            for (Policy policy : policies) {
+                Set<String> policyPermissionGroups = policy.getPermissionGroups();
+                for (String permissionGroup : userPermissionGroups) {
+                    if (policyPermissionGroups.contains(permissionGroup)) {
+                        permissions.add(policy.getPermission());
+                        break;
+                    }
+                }
+            }
+            blackhole.consume(permissions);
+        }
+    }
+
+    @Benchmark
+    public void permissionGroupIndex(Blackhole blackhole) {
+        for (Set<Policy> policies : documentPolicies) {
+            blackhole.consume(PermissionGroupIndex.of(userPermissionGroups).getPermissions(policies));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(PermissionGroupIndexBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermissionGroupIndexTest {
+
+    private static Policy policy(String permission, String... permissionGroups) {
+        return Policy.builder()
+                .permission(permission)
+                .permissionGroups(new HashSet<>(Set.of(permissionGroups)))
+                .build();
+    }
+
+    private static final Set<Policy> POLICIES = Set.of(
+            policy("read:applications", "viewer", "developer", "admin"),
+            policy("manage:applications", "developer", "admin"),
+            policy("delete:applications", "admin"),
+            policy("publish:applications"));
+
+    @Test
+    public void getPermissions_whenUserHasFewerGroupsThanPolicy_grantsIntersectingPolicies() {
+        Set<String> permissions =
+                PermissionGroupIndex.of(new HashSet<>(Set.of("developer"))).getPermissions(POLICIES);
+
+        assertThat(permissions).containsExactlyInAnyOrder("read:applications", "manage:applications");
+    }
+
+    @Test
+    public void getPermissions_whenUserHasMoreGroupsThanPolicy_grantsIntersectingPolicies() {
+        Set<String> userPermissionGroups = new TreeSet<>(Set.of("admin", "g1", "g2", "g3", "g4", "g5"));
+
+        Set<String> permissions = PermissionGroupIndex.of(userPermissionGroups).getPermissions(POLICIES);
+
+        assertThat(permissions)
+                .containsExactlyInAnyOrder("read:applications", "manage:applications", "delete:applications");
+    }
+
+    @Test
+    public void getPermissions_whenNoGroupsOrPolicies_returnsNewMutableEmptySet() {
+        Set<String> noGroups = PermissionGroupIndex.of(Set.of()).getPermissions(POLICIES);
+        Set<String> noPolicies =
+                PermissionGroupIndex.of(new LinkedHashSet<>(Set.of("admin"))).getPermissions(null);
+
+        assertThat(noGroups).isEmpty();
+        assertThat(noPolicies).isEmpty();
+        noGroups.add("read:applications");
+        assertThat(PermissionGroupIndex.of(null).getPermissions(POLICIES)).isEmpty();
+    }
+
+    @Test
+    public void getPermissions_matchesNestedLoopEvaluation() {
+        // The previous evaluation, which is also what the userAcl criteria matches on, per permission
+        Set<String> userPermissionGroups = new HashSet<>(Set.of("viewer", "other"));
+        Set<String> expected = new HashSet<>();
+        for (Policy policy : POLICIES) {
+            for (String permissionGroup : userPermissionGroups) {
+                if (policy.getPermissionGroups().contains(permissionGroup)) {
+                    expected.add(policy.getPermission());
+                    break;
+                }
+            }
+        }
+
+        assertThat(PermissionGroupIndex.of(userPermissionGroups).getPermissions(POLICIES))
+                .isEqualTo(expected)
+                .containsExactly("read:applications");
+    }
+}
@@ -0,0 +1,169 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.dtos.LayoutExecutableUpdateDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.DefaultResources;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+public class OnLoadExecutablesUtilCEImplTest {
+
+    private ExecutableOnLoadService<NewPage> pageExecutableOnLoadService;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    @BeforeEach
+    public void setUp() {
+        AstService astService = mock(AstService.class);
+        // Every binding refers to exactly what it says
+        when(astService.getPossibleReferencesFromDynamicBinding(anyList(), anyInt()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<String>) invocation.getArgument(0))
+                        .map(binding -> Tuples.of(binding, Set.of(binding))));
+
+        pageExecutableOnLoadService = mock(ExecutableOnLoadService.class);
+        when(pageExecutableOnLoadService.getAllExecutablesByCreatorIdFlux("page-1"))
+                .thenAnswer(invocation -> Flux.just(
+                        createAction("id-1", "Api1", false, false),
+                        createAction("id-2", "Api2", true, false),
+                        createAction("id-3", "Api3", true, true)));
+        when(pageExecutableOnLoadService.fillSelfReferencingPaths(any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(pageExecutableOnLoadService.updateUnpublishedExecutablesExecuteOnLoad(anyList(), anyBoolean()))
+                .thenAnswer(invocation -> Mono.just(((List<String>) invocation.getArgument(0)).size()));
+
+        onLoadExecutablesUtil =
+                new OnLoadExecutablesUtilCEImpl(astService, new ObjectMapper(), pageExecutableOnLoadService);
+    }
+
+    private static ActionDTO createAction(String id, String name, boolean executeOnLoad, boolean userSetOnLoad) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        action.setName(name);
+        action.setPluginType(PluginType.API);
+        action.setActionConfiguration(new ActionConfiguration());
+        action.setJsonPathKeys(Set.of());
+        DefaultResources defaultResources = new DefaultResources();
+        defaultResources.setActionId(id);
+        action.setDefaultResources(defaultResources);
+        action.setExecuteOnLoad(executeOnLoad);
+        action.setUserSetOnLoad(userSetOnLoad);
+        return action;
+    }
+
+    @Test
+    public void updateLayoutSteps_WhenSharingSnapshot_FetchExecutablesOnceAndWriteOnlyOnFlush() {
+        ExecutablesSnapshot executablesSnapshot =
+                onLoadExecutablesUtil.getExecutablesSnapshot("page-1", CreatorContextType.PAGE);
+        List<Executable> flatPageLoadExecutables = new ArrayList<>();
+        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        widgetDynamicBindingsMap.put("Table1.tableData", Set.of("Api1.data"));
+
+        onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        executablesSnapshot,
+                        2,
+                        Set.of("Table1"),
+                        new HashSet<>(),
+                        widgetDynamicBindingsMap,
+                        flatPageLoadExecutables,
+                        new HashSet<>())
+                .block();
+
+        List<LayoutExecutableUpdateDTO> executableUpdates = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        onLoadExecutablesUtil
+                .updateExecutablesExecuteOnLoad(
+                        flatPageLoadExecutables, executablesSnapshot, executableUpdates, messages)
+                .block();
+
+        // Api1 is used by a widget, Api3 was set to run on load by the user, and Api2 is not used anywhere
+        assertThat(flatPageLoadExecutables)
+                .extracting(Executable::getUserExecutableName)
+                .containsExactlyInAnyOrder("Api1", "Api3");
+        assertThat(executableUpdates)
+                .extracting(LayoutExecutableUpdateDTO::getName)
+                .containsExactlyInAnyOrder("Api1", "Api2");
+        verify(pageExecutableOnLoadService, never()).updateUnpublishedExecutablesExecuteOnLoad(anyList(), any());
+
+        onLoadExecutablesUtil.flushExecutablesSnapshot(executablesSnapshot).block();
+        // Flushing again has nothing left to write
+        onLoadExecutablesUtil.flushExecutablesSnapshot(executablesSnapshot).block();
+
+        verify(pageExecutableOnLoadService, times(1)).getAllExecutablesByCreatorIdFlux("page-1");
+        verify(pageExecutableOnLoadService).updateUnpublishedExecutablesExecuteOnLoad(List.of("id-1"), true);
+        verify(pageExecutableOnLoadService).updateUnpublishedExecutablesExecuteOnLoad(List.of("id-2"), false);
+        verify(pageExecutableOnLoadService, times(2)).updateUnpublishedExecutablesExecuteOnLoad(anyList(), any());
+    }
+
+    @Test
+    public void updateLayoutSteps_WhenLayoutsOfAPageShareSnapshot_LaterLayoutsSeeEarlierChanges() {
+        ExecutablesSnapshot executablesSnapshot =
+                onLoadExecutablesUtil.getExecutablesSnapshot("page-1", CreatorContextType.PAGE);
+        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        widgetDynamicBindingsMap.put("Table1.tableData", Set.of("Api1.data"));
+
+        // Two layouts of the same page, updated one after the other
+        List<List<LayoutExecutableUpdateDTO>> executableUpdatesByLayout = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<Executable> flatPageLoadExecutables = new ArrayList<>();
+            List<LayoutExecutableUpdateDTO> executableUpdates = new ArrayList<>();
+            onLoadExecutablesUtil
+                    .findAllOnLoadExecutables(
+                            executablesSnapshot,
+                            2,
+                            Set.of("Table1"),
+                            new HashSet<>(),
+                            widgetDynamicBindingsMap,
+                            flatPageLoadExecutables,
+                            new HashSet<>())
+                    .then(onLoadExecutablesUtil.updateExecutablesExecuteOnLoad(
+                            flatPageLoadExecutables, executablesSnapshot, executableUpdates, new ArrayList<>()))
+                    .then(onLoadExecutablesUtil.flushExecutablesSnapshot(executablesSnapshot))
+                    .block();
+            executableUpdatesByLayout.add(executableUpdates);
+
+            // The flush chained after the update writes what the update changed
+            verify(pageExecutableOnLoadService).updateUnpublishedExecutablesExecuteOnLoad(List.of("id-1"), true);
+            verify(pageExecutableOnLoadService).updateUnpublishedExecutablesExecuteOnLoad(List.of("id-2"), false);
+        }
+
+        // The second layout finds the executables as the first one left them, so it has nothing to change
+        assertThat(executableUpdatesByLayout.get(0))
+                .extracting(LayoutExecutableUpdateDTO::getName)
+                .containsExactlyInAnyOrder("Api1", "Api2");
+        assertThat(executableUpdatesByLayout.get(1)).isEmpty();
+
+        verify(pageExecutableOnLoadService, times(1)).getAllExecutablesByCreatorIdFlux("page-1");
+        verify(pageExecutableOnLoadService, times(2)).updateUnpublishedExecutablesExecuteOnLoad(anyList(), any());
+    }
+}
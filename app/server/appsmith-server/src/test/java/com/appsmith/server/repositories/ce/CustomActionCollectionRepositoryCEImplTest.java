@@ -4,6 +4,7 @@ import com.appsmith.external.models.DefaultResources;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.repositories.ActionCollectionRepository;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -104,6 +105,57 @@ public class CustomActionCollectionRepositoryCEImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void bulkInsert_WhenMoreThanOneBatch_AllInserted() {
+        String applicationId = UUID.randomUUID().toString();
+        int count = BaseAppsmithRepositoryCEImpl.DEFAULT_BULK_WRITE_BATCH_SIZE * 2 + 1;
+
+        Flux<ActionCollection> actionCollectionFlux = Flux.range(0, count).map(i -> {
+            ActionCollection actionCollection = new ActionCollection();
+            actionCollection.setId(UUID.randomUUID().toString());
+            actionCollection.setApplicationId(applicationId);
+            return actionCollection;
+        });
+
+        Mono<Long> countMono = actionCollectionRepository
+                .bulkInsert(actionCollectionFlux)
+                .then(actionCollectionRepository
+                        .findByApplicationId(applicationId)
+                        .count());
+
+        StepVerifier.create(countMono).expectNext((long) count).verifyComplete();
+    }
+
+    @Test
+    public void bulkUpdate_WhenMoreThanOneBatch_AllUpdated() {
+        String applicationId = UUID.randomUUID().toString();
+        int count = BaseAppsmithRepositoryCEImpl.DEFAULT_BULK_WRITE_BATCH_SIZE * 2 + 1;
+
+        List<ActionCollection> actionCollections = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ActionCollection actionCollection = new ActionCollection();
+            actionCollection.setId(new ObjectId().toHexString());
+            actionCollection.setApplicationId(applicationId);
+            actionCollections.add(actionCollection);
+        }
+
+        Mono<List<ActionCollection>> actionCollectionsMono = actionCollectionRepository
+                .bulkInsert(actionCollections)
+                .then(actionCollectionRepository.bulkUpdate(Flux.fromIterable(actionCollections)
+                        .doOnNext(actionCollection ->
+                                actionCollection.setWorkspaceId("workspace-" + actionCollection.getId()))))
+                .thenMany(actionCollectionRepository.findByApplicationId(applicationId))
+                .collectList();
+
+        StepVerifier.create(actionCollectionsMono)
+                .assertNext(updatedActionCollections -> {
+                    assertThat(updatedActionCollections).hasSize(count);
+                    updatedActionCollections.forEach(actionCollection -> assertThat(actionCollection.getWorkspaceId())
+                            .isEqualTo("workspace-" + actionCollection.getId()));
+                })
+                .verifyComplete();
+    }
+
     private void testFindAllActionCollectionsByNamePageIdsViewModeAndBranch(boolean isViewMode) {
         String defaultPageId = "default-page-id", branchName = "main", childPageId = "child-page-id";
 
@@ -49,6 +49,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.appsmith.external.constants.PluginConstants.PackageName.APPSMITH_AI_PLUGIN;
 import static com.appsmith.external.constants.PluginConstants.PackageName.GRAPHQL_PLUGIN;
@@ -61,6 +63,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -122,6 +126,9 @@ public class ConsolidatedAPIServiceImplTest {
     @SpyBean
     NewPageRepository mockNewPageRepository;
 
+    @SpyBean
+    PermissionGroupService spyPermissionGroupService;
+
     @Test
     public void testErrorWhenModeIsNullAndPageIdAvailable() {
         Mono<ConsolidatedAPIResponseDTO> consolidatedInfoForPageLoad =
@@ -373,6 +380,85 @@ public class ConsolidatedAPIServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testPageLoadResponseForViewMode_WhenEtagIsCurrent_ReturnsEmptyWithoutFetchingApplicationData() {
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(new User()));
+        UserProfileDTO sampleUserProfileDTO = new UserProfileDTO();
+        sampleUserProfileDTO.setName("sampleUserProfileDTO");
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(sampleUserProfileDTO));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser())
+                .thenReturn(Mono.just(Map.of("sampleFeatureFlag", true)));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application sampleApplication = new Application();
+        sampleApplication.setId("etagAppId");
+        sampleApplication.setLastDeployedAt(Instant.now());
+        doReturn(Mono.just(sampleApplication))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+        doReturn(Mono.just(List.of(new NewPage())))
+                .when(spyApplicationPageService)
+                .getPagesBasedOnApplicationMode(any(), any());
+        doReturn(Mono.just(new ApplicationPagesDTO()))
+                .when(spyNewPageService)
+                .createApplicationPagesDTO(any(), any(), anyBoolean(), anyBoolean());
+        doReturn(Mono.just(new Theme())).when(spyThemeService).getApplicationTheme(anyString(), any(), anyString());
+        doReturn(Flux.just(new Theme())).when(spyThemeService).getApplicationThemes(anyString(), anyString());
+        doReturn(Mono.just(List.of()))
+                .when(spyCustomJSLibService)
+                .getAllJSLibsInContext(anyString(), any(), anyString(), anyBoolean());
+        doReturn(Mono.just(new PageDTO()))
+                .when(spyApplicationPageService)
+                .getPageAndMigrateDslByBranchAndDefaultPageId(anyString(), anyString(), anyBoolean(), anyBoolean());
+        ActionViewDTO sampleActionViewDTO = new ActionViewDTO();
+        sampleActionViewDTO.setName("sampleActionViewDTO");
+        doReturn(Flux.just(sampleActionViewDTO))
+                .when(spyNewActionService)
+                .getActionsForViewMode(anyString(), anyString());
+        doReturn(Flux.empty())
+                .when(spyActionCollectionService)
+                .getActionCollectionsForViewMode(anyString(), anyString());
+
+        AtomicReference<String> etagReference = new AtomicReference<>();
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadInViewMode(
+                        "etagPageId", "etagAppId", "branch", etag -> {
+                            etagReference.set(etag);
+                            return false;
+                        }))
+                .assertNext(consolidatedAPIResponseDTO -> assertEquals(
+                        "sampleActionViewDTO",
+                        consolidatedAPIResponseDTO
+                                .getPublishedActions()
+                                .getData()
+                                .get(0)
+                                .getName()))
+                .verifyComplete();
+        assertNotNull(etagReference.get());
+
+        // Same ETag, so nothing is fetched for the application
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadInViewMode(
+                        "etagPageId", "etagAppId", "branch", etag -> etag.equals(etagReference.get())))
+                .verifyComplete();
+
+        // A stale ETag gets the full response again, with the application data from the cache
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadInViewMode(
+                        "etagPageId", "etagAppId", "branch", etag -> false))
+                .assertNext(consolidatedAPIResponseDTO -> assertEquals(
+                        "sampleActionViewDTO",
+                        consolidatedAPIResponseDTO
+                                .getPublishedActions()
+                                .getData()
+                                .get(0)
+                                .getName()))
+                .verifyComplete();
+
+        verify(spyNewActionService, times(1)).getActionsForViewMode(anyString(), anyString());
+    }
+
     @Test
     public void testPageLoadResponseForEditMode() {
         User sampleUser = new User();
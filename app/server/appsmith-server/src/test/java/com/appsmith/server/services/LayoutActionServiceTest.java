@@ -15,7 +15,6 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.GitArtifactMetadata;
 import com.appsmith.server.domains.Layout;
-import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
@@ -59,7 +58,6 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
@@ -1105,29 +1103,14 @@ public class LayoutActionServiceTest {
         ActionDTO createdAction1 =
                 layoutActionService.createSingleAction(action1, Boolean.FALSE).block(); // create action1
         assertNotNull(createdAction1);
-        createdAction1.setExecuteOnLoad(true); // this can only be set to true post action creation.
-        NewAction newAction1 = new NewAction();
-        newAction1.setUnpublishedAction(createdAction1);
-        newAction1.setDefaultResources(createdAction1.getDefaultResources());
-        newAction1.setPluginId(installed_plugin.getId());
-        newAction1.setPluginType(installed_plugin.getType());
+        // this can only be set to true post action creation.
+        layoutActionService.setExecuteOnLoad(createdAction1.getId(), true).block();
 
         ActionDTO createdAction2 =
                 layoutActionService.createSingleAction(action2, Boolean.FALSE).block(); // create action2
-        assertNotNull(createdAction1);
-        createdAction2.setExecuteOnLoad(true); // this can only be set to true post action creation.
-        NewAction newAction2 = new NewAction();
-        newAction2.setUnpublishedAction(createdAction2);
-        newAction2.setDefaultResources(createdAction2.getDefaultResources());
-        newAction2.setPluginId(installed_plugin.getId());
-        newAction2.setPluginType(installed_plugin.getType());
-
-        NewAction[] newActionArray = new NewAction[2];
-        newActionArray[0] = newAction1;
-        newActionArray[1] = newAction2;
-        Flux<NewAction> newActionFlux = Flux.fromArray(newActionArray);
-        Mockito.when(newActionService.findUnpublishedOnLoadActionsExplicitSetByUserInPage(Mockito.anyString()))
-                .thenReturn(newActionFlux);
+        assertNotNull(createdAction2);
+        // this can only be set to true post action creation.
+        layoutActionService.setExecuteOnLoad(createdAction2.getId(), true).block();
 
         Mono<LayoutDTO> updateLayoutMono =
                 updateLayoutService.updateLayout(testPage.getId(), testPage.getApplicationId(), layout.getId(), layout);
@@ -1187,19 +1170,8 @@ public class LayoutActionServiceTest {
         ActionDTO createdAction1 =
                 layoutActionService.createSingleAction(action1, Boolean.FALSE).block();
         assertNotNull(createdAction1);
-        createdAction1.setExecuteOnLoad(true); // this can only be set to true post action creation.
-        createdAction1.setUserSetOnLoad(true);
-        NewAction newAction1 = new NewAction();
-        newAction1.setUnpublishedAction(createdAction1);
-        newAction1.setDefaultResources(createdAction1.getDefaultResources());
-        newAction1.setPluginId(installed_plugin.getId());
-        newAction1.setPluginType(installed_plugin.getType());
-
-        NewAction[] newActionArray = new NewAction[1];
-        newActionArray[0] = newAction1;
-        Flux<NewAction> newActionFlux = Flux.fromArray(newActionArray);
-        Mockito.when(newActionService.findUnpublishedOnLoadActionsExplicitSetByUserInPage(Mockito.anyString()))
-                .thenReturn(newActionFlux);
+        // this can only be set to true post action creation.
+        layoutActionService.setExecuteOnLoad(createdAction1.getId(), true).block();
 
         Mono<LayoutDTO> updateLayoutMono =
                 updateLayoutService.updateLayout(testPage.getId(), testPage.getApplicationId(), layout.getId(), layout);
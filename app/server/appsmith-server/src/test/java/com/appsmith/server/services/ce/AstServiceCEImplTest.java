@@ -0,0 +1,97 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.RTSCaller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AstServiceCEImplTest {
+
+    private final List<List<String>> requestedScripts = new ArrayList<>();
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    public void setUp() {
+        InstanceConfig instanceConfig = mock(InstanceConfig.class);
+        when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        RTSCaller rtsCaller = mock(RTSCaller.class);
+        when(rtsCaller.post(anyString(), any())).thenAnswer(invocation -> {
+            List<String> scripts =
+                    ((AstServiceCEImpl.GetIdentifiersRequestBulk) invocation.getArgument(1)).getScripts();
+            requestedScripts.add(scripts);
+            // Every script is answered with a reference to itself
+            String body = scripts.stream()
+                    .map(script -> "{\"references\": [\"" + script + "\"]}")
+                    .collect(Collectors.joining(",", "{\"data\": [", "]}"));
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build()))
+                    .build();
+            return Mono.just(webClient.post().uri("http://rts"));
+        });
+
+        astService = new AstServiceCEImpl(null, instanceConfig, rtsCaller);
+    }
+
+    private Map<String, Set<String>> getReferences(List<String> bindings, int evalVersion) {
+        return astService
+                .getPossibleReferencesFromDynamicBinding(bindings, evalVersion)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .block();
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_WhenBindingsSeenBefore_OnlyRequestsNewBindings() {
+        assertThat(getReferences(List.of("Api1.data", "Table1.selectedRow"), 2))
+                .containsOnlyKeys("Api1.data", "Table1.selectedRow");
+
+        Map<String, Set<String>> references = getReferences(List.of("Api1.data", "Api2.data", "Api2.data"), 2);
+
+        assertThat(references).containsOnlyKeys("Api1.data", "Api2.data");
+        assertThat(references.get("Api1.data")).containsExactly("Api1.data");
+        assertThat(references.get("Api2.data")).containsExactly("Api2.data");
+        assertThat(requestedScripts).containsExactly(List.of("Api1.data", "Table1.selectedRow"), List.of("Api2.data"));
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_WhenAllBindingsSeenBefore_DoesNotCallRts() {
+        getReferences(List.of("Api1.data"), 2);
+
+        StepVerifier.create(astService.getPossibleReferencesFromDynamicBinding(List.of("Api1.data"), 2))
+                .assertNext(tuple -> assertThat(tuple.getT2()).containsExactly("Api1.data"))
+                .verifyComplete();
+        assertThat(requestedScripts).hasSize(1);
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_WhenEvalVersionDiffers_RequestsAgain() {
+        getReferences(List.of("Api1.data"), 1);
+        getReferences(List.of("Api1.data"), 2);
+
+        assertThat(requestedScripts).containsExactly(List.of("Api1.data"), List.of("Api1.data"));
+    }
+}
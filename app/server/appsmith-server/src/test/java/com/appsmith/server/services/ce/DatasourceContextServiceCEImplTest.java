@@ -0,0 +1,155 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.plugins.base.PluginService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DatasourceContextServiceCEImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PluginExecutor<Object> pluginExecutor;
+
+    private DatasourceContextServiceCEImpl datasourceContextService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pluginExecutor = mock(PluginExecutor.class);
+
+        PluginService pluginService = mock(PluginService.class);
+        Plugin plugin = new Plugin();
+        plugin.setId("plugin-1");
+        when(pluginService.findById("plugin-1")).thenReturn(Mono.just(plugin));
+
+        PluginExecutorHelper pluginExecutorHelper = mock(PluginExecutorHelper.class);
+        when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        datasourceContextService = new DatasourceContextServiceCEImpl(
+                null, null, pluginService, pluginExecutorHelper, null, null, null, meterRegistry);
+        ReflectionTestUtils.setField(datasourceContextService, "maxIdleTimeSeconds", 600L);
+        ReflectionTestUtils.setField(datasourceContextService, "maxSize", 2);
+    }
+
+    private DatasourceContext<?> putDatasourceContext(String datasourceId, Duration idleTime) {
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceId, "environment-1");
+        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setConnection("connection-" + datasourceId);
+        datasourceContext.setPluginId("plugin-1");
+        datasourceContext.setLastAccessedTime(Instant.now().minus(idleTime));
+
+        datasourceContextService.datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+        datasourceContextService.datasourceContextMonoMap.put(
+                datasourceContextIdentifier, Mono.just(datasourceContext));
+        datasourceContextService.datasourceContextSynchronizationMonitorMap.put(
+                datasourceContextIdentifier, new Object());
+        return datasourceContext;
+    }
+
+    private double evictions(String reason) {
+        return meterRegistry
+                .get("appsmith.datasource.context.evictions")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Test
+    public void evictDatasourceContexts_WhenContextIsIdle_DestroysConnection() {
+        putDatasourceContext("idle", Duration.ofMinutes(20));
+        putDatasourceContext("recent", Duration.ofMinutes(1));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts()).verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap)
+                .containsOnlyKeys(new DatasourceContextIdentifier("recent", "environment-1"));
+        assertThat(datasourceContextService.datasourceContextMonoMap).hasSize(1);
+        assertThat(datasourceContextService.datasourceContextSynchronizationMonitorMap)
+                .hasSize(1);
+        verify(pluginExecutor, times(1)).datasourceDestroy("connection-idle");
+        verify(pluginExecutor, never()).datasourceDestroy("connection-recent");
+        assertThat(evictions("idle")).isEqualTo(1);
+        assertThat(evictions("size")).isZero();
+        assertThat(meterRegistry.get("appsmith.datasource.context.live").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void evictDatasourceContexts_WhenMoreContextsThanMaxSize_EvictsLeastRecentlyUsed() {
+        putDatasourceContext("oldest", Duration.ofMinutes(3));
+        putDatasourceContext("newest", Duration.ofMinutes(1));
+        putDatasourceContext("middle", Duration.ofMinutes(2));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts()).verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap)
+                .containsOnlyKeys(
+                        new DatasourceContextIdentifier("newest", "environment-1"),
+                        new DatasourceContextIdentifier("middle", "environment-1"));
+        verify(pluginExecutor, times(1)).datasourceDestroy("connection-oldest");
+        assertThat(evictions("size")).isEqualTo(1);
+        assertThat(evictions("idle")).isZero();
+    }
+
+    @Test
+    public void evictDatasourceContexts_WhenContextIsBeingCreated_KeepsIt() {
+        DatasourceContext<?> datasourceContext = putDatasourceContext("creating", Duration.ofMinutes(3));
+        datasourceContext.setConnection(null);
+        putDatasourceContext("newest", Duration.ofMinutes(1));
+        putDatasourceContext("middle", Duration.ofMinutes(2));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts()).verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap)
+                .containsOnlyKeys(
+                        new DatasourceContextIdentifier("creating", "environment-1"),
+                        new DatasourceContextIdentifier("newest", "environment-1"));
+        verify(pluginExecutor, times(1)).datasourceDestroy("connection-middle");
+    }
+
+    @Test
+    public void evictDatasourceContexts_WhenContextIsAcquired_KeepsItUntilReleased() {
+        DatasourceContext<?> datasourceContext = putDatasourceContext("querying", Duration.ofMinutes(3));
+        putDatasourceContext("newest", Duration.ofMinutes(1));
+        putDatasourceContext("middle", Duration.ofMinutes(2));
+        assertThat(datasourceContext.acquire()).isTrue();
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts()).verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap)
+                .containsOnlyKeys(
+                        new DatasourceContextIdentifier("querying", "environment-1"),
+                        new DatasourceContextIdentifier("newest", "environment-1"));
+        verify(pluginExecutor, never()).datasourceDestroy("connection-querying");
+
+        StepVerifier.create(datasourceContextService.releaseDatasourceContext(datasourceContext))
+                .verifyComplete();
+        putDatasourceContext("latest", Duration.ZERO);
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts()).verifyComplete();
+
+        verify(pluginExecutor, times(1)).datasourceDestroy("connection-querying");
+        assertThat(datasourceContext.acquire()).isFalse();
+    }
+}
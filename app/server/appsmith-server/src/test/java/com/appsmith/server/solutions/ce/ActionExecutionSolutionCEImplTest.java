@@ -7,6 +7,7 @@ import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
@@ -39,6 +40,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.core.codec.ByteBufferDecoder;
 import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.DecoderHttpMessageReader;
@@ -133,6 +136,9 @@ class ActionExecutionSolutionCEImplTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @Autowired
+    SharedConfig sharedConfig;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -159,7 +165,8 @@ class ActionExecutionSolutionCEImplTest {
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                sharedConfig);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -208,6 +215,17 @@ class ActionExecutionSolutionCEImplTest {
                 .verify();
     }
 
+    @Test
+    public void testExecuteActionAsStream_withoutExecuteActionDTOPart_failsBeforeWritingAnything() {
+        final Flux<DataBuffer> rowsFlux = actionExecutionSolution.executeActionAsStream(
+                Flux.empty(), null, FieldName.UNUSED_ENVIRONMENT_ID, null, DefaultDataBufferFactory.sharedInstance);
+
+        StepVerifier.create(rowsFlux)
+                .expectErrorMatches(e -> e instanceof AppsmithException
+                        && e.getMessage().equals(AppsmithError.INVALID_PARAMETER.getMessage(FieldName.ACTION_ID)))
+                .verify();
+    }
+
     @Test
     public void testExecuteAction_withMalformedExecuteActionDTO_failsValidation() {
         MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
@@ -63,27 +63,26 @@ public class CacheAspect {
     }
 
     /**
-     * This method is used to call original Flux<T> returning method and return the the result after caching it with CacheManager
+     * This method is used to call original Flux<T> returning method and return the list of results after caching it with CacheManager
      *
      * @param joinPoint The join point
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
-     * @return The result of the method call after caching
+     * @return The list of results of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<List<?>> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
-                    .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
-                    .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
+                    .<List<?>>flatMap(value -> cacheManager
+                            .put(cacheName, key, value) // Call CacheManager.put() to cache the list
+                            .thenReturn(value)); // Maps to the original list
         } catch (Throwable e) {
             log.error(
                     "Error occurred in saving to cache when invoking function {}",
                     joinPoint.getSignature().getName(),
                     e);
-            return Flux.error(e);
+            return Mono.error(e);
         }
     }
 
@@ -172,13 +171,15 @@ public class CacheAspect {
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
+            // The cached list and the result of the original method are both resolved as a single Mono<List<T>>, and
+            // only converted back to Flux<T> once at the end.
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
-                    .map(value -> (List<?>) value)
-                    .flatMapMany(Flux::fromIterable);
+                    .<List<?>>map(value -> (List<?>) value)
+                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(
+                            joinPoint, cacheName,
+                            key))) // defer the creation of Flux until subscription as it will call original function
+                    .flatMapIterable(value -> value);
         }
 
         // If method does not returns Mono<T> or Flux<T> raise exception
@@ -0,0 +1,83 @@
+package com.appsmith.caching.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalCache is the in-process (L1) layer that RedisCacheManagerImpl keeps in front of Redis (L2) for the cache names
+ * it is enabled for. It is bounded both in size and in time-to-live, the latter being a safety net in case an
+ * invalidation published by another node is lost.
+ * <p>
+ * The same cached object is handed out to every caller, hence this should only be enabled for caches whose values are
+ * not modified by the callers.
+ */
+public class LocalCache {
+
+    private final Set<String> cacheNames;
+
+    private final Cache<String, Object> cache;
+
+    // Incremented on every invalidation. This is used to avoid populating the local cache with a value that was read
+    // from Redis before an invalidation and written locally after it.
+    private final AtomicLong generation = new AtomicLong();
+
+    public LocalCache(Set<String> cacheNames, long maximumSize, Duration timeToLive) {
+        this.cacheNames = Set.copyOf(cacheNames);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public boolean isEnabledFor(String cacheName) {
+        return cacheNames.contains(cacheName);
+    }
+
+    public Object get(String path) {
+        return cache.getIfPresent(path);
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #put(String, Object, long)} once the value is read from
+     * Redis.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Puts the value in the local cache, unless an invalidation happened since the given generation was obtained.
+     */
+    public void put(String path, Object value, long readGeneration) {
+        cache.put(path, value);
+        if (generation.get() != readGeneration) {
+            // An invalidation raced with this put, the value may be stale.
+            cache.invalidate(path);
+        }
+    }
+
+    public void invalidate(String path) {
+        generation.incrementAndGet();
+        cache.invalidate(path);
+    }
+
+    public void invalidateAll(String cacheName) {
+        generation.incrementAndGet();
+        String prefix = cacheName + ":";
+        cache.asMap().keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    public void invalidateEverything() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -1,29 +1,56 @@
 package com.appsmith.caching.components;
 
 import com.appsmith.caching.model.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * <p>
+ * For the cache names configured with {@code appsmith.caching.local.cache-names}, a bounded in-process cache (L1) is
+ * kept in front of Redis (L2), so that repeated reads of the same key don't need a network round trip. Evictions are
+ * published on a Redis pub/sub channel, so that every node drops the key from its local cache as well.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    // Number of keys Redis is asked to look at for every SCAN call while evicting a complete cache.
+    private static final long EVICT_ALL_SCAN_COUNT = 1000;
+
+    // Maximum number of keys removed with a single UNLINK call while evicting a complete cache.
+    private static final int EVICT_ALL_UNLINK_BATCH_SIZE = 500;
+
+    // Channel on which evictions are published, so that other nodes can invalidate their local caches.
+    public static final String EVICTIONS_CHANNEL = "reactive-caching:evictions";
+    private static final String EVICT_MESSAGE_PREFIX = "evict:";
+    private static final String EVICT_ALL_MESSAGE_PREFIX = "evictAll:";
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Null when no cache is configured to be kept locally.
+    private final LocalCache localCache;
+
+    private Disposable evictionsSubscription;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
@@ -42,8 +69,10 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: localHits = {}, localMisses = {}, hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
                     key,
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
                     stats.getHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
@@ -58,29 +87,108 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.clear();
     }
 
+    /**
+     * Returns the stats of the given cache, null if the cache has not been used yet.
+     */
+    public CacheStats getStats(String cacheName) {
+        return statsMap.get(cacheName);
+    }
+
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            @Value("${appsmith.caching.local.cache-names:}") String localCacheNames,
+            @Value("${appsmith.caching.local.max-size:10000}") long localCacheMaxSize,
+            @Value("${appsmith.caching.local.ttl-seconds:300}") long localCacheTtlSeconds) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
+
+        Set<String> cacheNames = StringUtils.commaDelimitedListToSet(localCacheNames.replace(" ", ""));
+        cacheNames.remove("");
+        if (cacheNames.isEmpty()) {
+            this.localCache = null;
+        } else {
+            log.debug("Keeping local caches in front of Redis for {}", cacheNames);
+            this.localCache = new LocalCache(cacheNames, localCacheMaxSize, Duration.ofSeconds(localCacheTtlSeconds));
+        }
+    }
+
+    @PostConstruct
+    public void subscribeToEvictions() {
+        if (localCache == null) {
+            return;
+        }
+
+        evictionsSubscription = Flux.defer(() -> reactiveRedisTemplate.listenToChannel(EVICTIONS_CHANNEL))
+                // Evictions published while we were not subscribed are lost, hence start afresh on every
+                // (re)subscription.
+                .doOnSubscribe(subscription -> localCache.invalidateEverything())
+                .doOnNext(message -> applyEvictionMessage(String.valueOf(message.getMessage())))
+                .doOnError(error -> log.warn("Error listening to cache evictions, will resubscribe", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromEvictions() {
+        if (evictionsSubscription != null) {
+            evictionsSubscription.dispose();
+        }
+    }
+
+    private boolean isLocal(String cacheName) {
+        return localCache != null && localCache.isEnabledFor(cacheName);
+    }
+
+    private void applyEvictionMessage(String message) {
+        if (message.startsWith(EVICT_MESSAGE_PREFIX)) {
+            localCache.invalidate(message.substring(EVICT_MESSAGE_PREFIX.length()));
+        } else if (message.startsWith(EVICT_ALL_MESSAGE_PREFIX)) {
+            localCache.invalidateAll(message.substring(EVICT_ALL_MESSAGE_PREFIX.length()));
+        }
+    }
+
+    private Mono<Void> publishEviction(String message) {
+        return reactiveRedisTemplate
+                .convertAndSend(EVICTIONS_CHANNEL, message)
+                .doOnError(error -> log.warn("Unable to publish cache eviction {}", message, error))
+                // The local caches of other nodes will catch up when their entries expire.
+                .onErrorResume(error -> Mono.empty())
+                .then();
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
+        CacheStats stats = statsMap.get(cacheName);
+
+        if (!isLocal(cacheName)) {
+            return getFromRedis(path, stats);
+        }
+
+        Object localValue = localCache.get(path);
+        if (localValue != null) {
+            stats.getLocalHits().incrementAndGet();
+            return Mono.just(localValue);
+        }
+
+        stats.getLocalMisses().incrementAndGet();
+        long generation = localCache.getGeneration();
+        return getFromRedis(path, stats).doOnNext(value -> localCache.put(path, value, generation));
+    }
+
+    private Mono<Object> getFromRedis(String path, CacheStats stats) {
         return reactiveRedisTemplate
                 .opsForValue()
                 .get(path)
                 .map(value -> {
                     // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
+                    stats.getHits().incrementAndGet();
                     return value;
                 })
                 .switchIfEmpty(Mono.defer(() -> {
                     // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
+                    stats.getMisses().incrementAndGet();
                     log.debug("Cache miss for key {}", path);
                     return Mono.empty();
                 }));
@@ -91,7 +199,16 @@ public class RedisCacheManagerImpl implements CacheManager {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        if (!isLocal(cacheName)) {
+            return reactiveRedisTemplate.opsForValue().set(path, value);
+        }
+
+        long generation = localCache.getGeneration();
+        return reactiveRedisTemplate.opsForValue().set(path, value).doOnNext(isSet -> {
+            if (Boolean.TRUE.equals(isSet)) {
+                localCache.put(path, value, generation);
+            }
+        });
     }
 
     @Override
@@ -100,17 +217,42 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        if (!isLocal(cacheName)) {
+            return reactiveRedisTemplate.delete(path).then();
+        }
+
+        // The local entry is dropped only after the Redis one, so that a concurrent read can't bring back the old value
+        // from Redis into the local cache.
+        return reactiveRedisTemplate
+                .delete(path)
+                .doOnSuccess(count -> localCache.invalidate(path))
+                .then(publishEviction(EVICT_MESSAGE_PREFIX + path));
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        // Walk the keyspace with a cursor instead of KEYS, so that Redis is never blocked for the entire walk, and
+        // remove the keys in bounded batches with UNLINK, which reclaims the memory in the background.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICT_ALL_SCAN_COUNT)
+                .build();
+        Mono<Void> evictAllMono = reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_ALL_UNLINK_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum)
+                .doOnNext(count -> log.debug("Cache evicted {} entries for cache {}", count, cacheName))
+                .then();
+
+        if (!isLocal(cacheName)) {
+            return evictAllMono;
+        }
+
+        return evictAllMono
+                .doOnSuccess(ignored -> localCache.invalidateAll(cacheName))
+                .then(publishEviction(EVICT_ALL_MESSAGE_PREFIX + cacheName));
     }
 }
@@ -13,15 +13,25 @@ import java.util.concurrent.atomic.AtomicInteger;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the cache was hit in Redis (L2).
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
     /**
-     * The number of times the cache was missed.
+     * The number of times the cache was missed in Redis (L2).
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
+    /**
+     * The number of times the cache was hit in the local in-memory cache (L1), without going to Redis.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was missed in the local in-memory cache (L1), and hence looked up in Redis.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
     /**
      * The number of times the cache was evicted (single key).
      */
@@ -50,6 +50,29 @@ public class CacheTestService {
         return Mono.empty();
     }
 
+    /**
+     * This method is used to test the caching functionality with a local cache in front of Redis, see
+     * appsmith.caching.local.cache-names in the test properties.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "localobjectcache")
+    public Mono<TestModel> getLocallyCachedObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test the eviction functionality with a local cache in front of Redis.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "localobjectcache")
+    public Mono<Void> evictLocallyCachedObjectFor(String id) {
+        return Mono.empty();
+    }
+
     /**
      * This method is used to test the caching functionality for Flux<T>.
      * @param id The id
@@ -1,6 +1,8 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CacheStats;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,14 +12,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
+@TestPropertySource(properties = "appsmith.caching.local.cache-names=localobjectcache")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @Slf4j
 public class TestCachingMethods {
@@ -81,6 +87,51 @@ public class TestCachingMethods {
         assertNotEquals(model2, model2_2);
     }
 
+    /**
+     * This Test is used to test evict all when the cache has more keys than a single SCAN/UNLINK batch
+     */
+    @Test
+    public void testEvictAllWithManyKeys() {
+        Flux.range(0, 2500)
+                .concatMap(i -> cacheManager.put("bulkcache", "key" + i, "value" + i))
+                .blockLast();
+        cacheManager.put("bulkcacheother", "key0", "value0").block();
+
+        cacheManager.evictAll("bulkcache").block();
+
+        List<Object> found = Flux.range(0, 2500)
+                .concatMap(i -> cacheManager.get("bulkcache", "key" + i))
+                .collectList()
+                .block();
+        assertTrue(found.isEmpty());
+        // Keys of another cache sharing the prefix of the cache name should not be evicted
+        assertEquals("value0", cacheManager.get("bulkcacheother", "key0").block());
+
+        cacheManager.evictAll("bulkcacheother").block();
+    }
+
+    /**
+     * This Test is used to test the local cache in front of Redis, along with the separate stats for both layers
+     */
+    @Test
+    public void testLocalCacheAndEvict() {
+        TestModel model = cacheTestService.getLocallyCachedObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getLocallyCachedObjectFor("test1").block();
+        // Served from the local cache, hence the very same instance
+        assertTrue(model == model2);
+
+        CacheStats stats = ((RedisCacheManagerImpl) cacheManager).getStats("localobjectcache");
+        assertEquals(1, stats.getLocalHits().get());
+        assertEquals(1, stats.getLocalMisses().get());
+        assertEquals(1, stats.getMisses().get());
+
+        cacheTestService.evictLocallyCachedObjectFor("test1").block();
+
+        // If not evicted from both layers with above call, this will return the same object
+        model2 = cacheTestService.getLocallyCachedObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
     /**
      * This Test is used to test SPEL expression in key field.
      */